@@ -0,0 +1,40 @@
+package br.com.concrete.canarinho.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import br.com.concrete.canarinho.boleto.BoletoDecodificado;
+
+/**
+ * Decodificação de boletos com leitura de todos os campos, como numa importação de arquivo de
+ * retorno. Não deve alocar nada.
+ */
+@State(Scope.Thread)
+public class BoletoDecodificadoBenchmark {
+
+    @Param({
+            "23799646800000135800123060000000052500045670",
+            "23790.12301 60000.000053 25000.456704 9 64680000013580",
+            "848600000015 523301622010 506101307129 620012111220"
+    })
+    public String valor;
+
+    private final BoletoDecodificado boleto = new BoletoDecodificado();
+
+    @Benchmark
+    public long decodifica() {
+        boleto.decodifica(valor);
+
+        if (!boleto.isValido()) {
+            return -1;
+        }
+
+        if (boleto.ehTributo()) {
+            return boleto.getValorEmCentavos() + boleto.getIdentificacaoDaEmpresa() + boleto.getSegmento();
+        }
+
+        return boleto.getValorEmCentavos() + boleto.getVencimento(16609L) + boleto.getBanco();
+    }
+}
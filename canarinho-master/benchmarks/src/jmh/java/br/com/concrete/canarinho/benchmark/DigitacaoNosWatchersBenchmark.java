@@ -0,0 +1,170 @@
+package br.com.concrete.canarinho.benchmark;
+
+import android.text.InputFilter;
+import android.text.TextWatcher;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import br.com.concrete.canarinho.validator.Validador;
+import br.com.concrete.canarinho.watcher.BoletoBancarioTextWatcher;
+import br.com.concrete.canarinho.watcher.CEPTextWatcher;
+import br.com.concrete.canarinho.watcher.CPFCNPJTextWatcher;
+import br.com.concrete.canarinho.watcher.MascaraNumericaTextWatcher;
+import br.com.concrete.canarinho.watcher.TelefoneTextWatcher;
+import br.com.concrete.canarinho.watcher.ValorMonetarioWatcher;
+import br.com.concrete.canarinho.watcher.evento.EventoDeValidacao;
+
+/**
+ * Repete sessões de digitação nos watchers, em um {@link EditableSimulado} na JVM. Cada chamada é
+ * uma tecla, então os resultados (tempo e bytes/op) são por tecla, incluindo as alterações
+ * aninhadas feitas pelo watcher, os filtros e os callbacks de validação.
+ * <p>
+ * Sessões: DIGITACAO digita o valor tecla a tecla; APAGA cola o valor e apaga tecla a tecla; MEIO
+ * cola o valor e edita dígitos no meio dele; COLAR cola o valor desformatado e o formatado. Todas
+ * terminam limpando o campo. CPF_CNPJ_FILTRO usa o modo filtro ({@code comoFiltro()}).
+ * </p>
+ */
+@State(Scope.Thread)
+public class DigitacaoNosWatchersBenchmark {
+
+    @Param({"CPF", "CPF_CNPJ", "CPF_CNPJ_FILTRO", "CEP", "TELEFONE", "BOLETO", "VALOR"})
+    public String watcher;
+
+    @Param({"DIGITACAO", "APAGA", "MEIO", "COLAR"})
+    public String sessao;
+
+    // Recebe os valores notificados, como um TextInputLayout faria
+    private String ultimoValor;
+
+    private final EventoDeValidacao evento = new EventoDeValidacao() {
+        @Override
+        public void invalido(String valorAtual, String mensagem) {
+            ultimoValor = valorAtual;
+        }
+
+        @Override
+        public void parcialmenteValido(String valorAtual) {
+            ultimoValor = valorAtual;
+        }
+
+        @Override
+        public void totalmenteValido(String valorAtual) {
+            ultimoValor = valorAtual;
+        }
+    };
+
+    private SimuladorDeDigitacao simulador;
+
+    @Setup
+    public void setup() {
+        final String formatado = formatado(watcher);
+        final String digitos = digitos(watcher);
+
+        // O watcher precisa formatar a digitação corretamente, senão o resultado não tem valor
+        final SimuladorDeDigitacao verificacao = new SimuladorDeDigitacao(novoCampo(),
+                new SimuladorDeDigitacao.Sessao().digita(digitos));
+        EditableSimulado campo = null;
+        for (int i = 0; i < verificacao.getQuantidadeDeTeclas(); i++) {
+            campo = verificacao.proximaTecla();
+        }
+        if (campo == null || !formatado.equals(campo.toString())) {
+            throw new IllegalStateException("Digitação em " + watcher + " resultou em " + campo);
+        }
+
+        simulador = new SimuladorDeDigitacao(novoCampo(), sessao(sessao, formatado, digitos));
+    }
+
+    @Benchmark
+    public EditableSimulado tecla() {
+        return simulador.proximaTecla();
+    }
+
+    private EditableSimulado novoCampo() {
+
+        final EditableSimulado campo = new EditableSimulado();
+        final TextWatcher textWatcher;
+
+        switch (watcher) {
+            case "CPF":
+                textWatcher = new MascaraNumericaTextWatcher.Builder()
+                        .paraMascara("###.###.###-##")
+                        .comValidador(Validador.CPF)
+                        .comCallbackDeValidacao(evento)
+                        .build();
+                break;
+            case "CPF_CNPJ":
+                textWatcher = new CPFCNPJTextWatcher(evento);
+                break;
+            case "CPF_CNPJ_FILTRO":
+                final CPFCNPJTextWatcher comFiltro = new CPFCNPJTextWatcher(evento);
+                campo.setFilters(new InputFilter[]{comFiltro.comoFiltro()});
+                textWatcher = comFiltro;
+                break;
+            case "CEP":
+                textWatcher = new CEPTextWatcher(evento);
+                break;
+            case "TELEFONE":
+                textWatcher = new TelefoneTextWatcher(evento);
+                break;
+            case "BOLETO":
+                textWatcher = new BoletoBancarioTextWatcher(evento);
+                break;
+            case "VALOR":
+                textWatcher = new ValorMonetarioWatcher();
+                break;
+            default:
+                throw new IllegalArgumentException("Watcher desconhecido: " + watcher);
+        }
+
+        campo.adicionaWatcher(textWatcher);
+        return campo;
+    }
+
+    private static SimuladorDeDigitacao.Sessao sessao(String nome, String formatado, String digitos) {
+
+        final SimuladorDeDigitacao.Sessao sessao = new SimuladorDeDigitacao.Sessao();
+        final int meio = formatado.length() / 2;
+
+        switch (nome) {
+            case "DIGITACAO":
+                return sessao.digita(digitos).limpa();
+            case "APAGA":
+                // Apagar a formatação também apaga o dígito anterior: uma tecla por dígito
+                return sessao.cola(formatado).apaga(digitos.length()).limpa();
+            case "MEIO":
+                return sessao.cola(formatado)
+                        .posiciona(meio).apaga(1).digita("7")
+                        .posiciona(2).apaga(1).digita("3")
+                        .posiciona(meio + 1).apaga(2).digita("45")
+                        .limpa();
+            case "COLAR":
+                return sessao.cola(digitos).limpa().cola(formatado).limpa();
+            default:
+                throw new IllegalArgumentException("Sessão desconhecida: " + nome);
+        }
+    }
+
+    private static String formatado(String watcher) {
+        switch (watcher) {
+            case "CPF_CNPJ":
+            case "CPF_CNPJ_FILTRO":
+                return Entradas.formatado("CNPJ");
+            default:
+                return Entradas.formatado(watcher);
+        }
+    }
+
+    private static String digitos(String watcher) {
+        final StringBuilder digitos = new StringBuilder();
+        for (char c : formatado(watcher).toCharArray()) {
+            if (c >= '0' && c <= '9') {
+                digitos.append(c);
+            }
+        }
+        return digitos.toString();
+    }
+}
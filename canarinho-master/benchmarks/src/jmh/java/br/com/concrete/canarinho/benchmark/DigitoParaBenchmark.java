@@ -0,0 +1,51 @@
+package br.com.concrete.canarinho.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import br.com.concrete.canarinho.DigitoPara;
+import br.com.concrete.canarinho.validator.ValidadorBoleto;
+
+/**
+ * Mede o cálculo de dígitos verificadores com os módulos usados nos boletos.
+ */
+@State(Scope.Benchmark)
+public class DigitoParaBenchmark {
+
+    /**
+     * Tamanhos típicos: bloco de linha digitável (9 e 11) e código de barras sem o DV (43).
+     */
+    @Param({"001905009", "84670000001", "0019373700000001000500940144816060680935031"})
+    public String trecho;
+
+    private char[] trechoEmArray;
+
+    @Setup
+    public void setup() {
+        trechoEmArray = trecho.toCharArray();
+    }
+
+    @Benchmark
+    public String mod10Calcula() {
+        return ValidadorBoleto.MOD_10.calcula(trecho);
+    }
+
+    @Benchmark
+    public String mod11Calcula() {
+        return ValidadorBoleto.MOD_11.calcula(trecho);
+    }
+
+    @Benchmark
+    public char mod10CalculaDigitoCharSequence() {
+        return ValidadorBoleto.MOD_10.calculaDigito(trecho, 0, trecho.length());
+    }
+
+    @Benchmark
+    public char mod11CalculaDigitoArray() {
+        final DigitoPara mod = ValidadorBoleto.MOD_11;
+        return mod.calculaDigito(trechoEmArray, 0, trechoEmArray.length);
+    }
+}
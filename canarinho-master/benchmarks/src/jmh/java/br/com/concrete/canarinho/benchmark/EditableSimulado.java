@@ -0,0 +1,379 @@
+package br.com.concrete.canarinho.benchmark;
+
+import android.text.Editable;
+import android.text.InputFilter;
+import android.text.TextWatcher;
+
+import java.lang.reflect.Array;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Editable leve para rodar os watchers na JVM, sem Robolectric. Reproduz o que os watchers usam
+ * de um EditText: os {@link InputFilter}s são aplicados a cada alteração, os {@link TextWatcher}s
+ * são chamados (inclusive de forma aninhada, quando um watcher altera o texto) e os spans, como os
+ * de {@link android.text.Selection}, acompanham as alterações com a semântica de POINT e MARK do
+ * SpannableStringBuilder.
+ * <p>
+ * O texto fica em um array que só cresce e os watchers em uma lista fixa, percorrida sem cópia:
+ * após o aquecimento, o simulado não aloca nada em uma alteração, então a alocação medida é a dos
+ * watchers. Não é thread-safe.
+ * </p>
+ */
+final class EditableSimulado implements Editable {
+
+    private static final InputFilter[] SEM_FILTROS = new InputFilter[0];
+
+    // Bits de Spanned.SPAN_POINT_MARK_MASK: o início (0x30) e o fim (0x03) são MARK (1) ou POINT (2)
+    private static final int INICIO = 0x30;
+    private static final int INICIO_POINT = 0x20;
+    private static final int FIM = 0x03;
+    private static final int FIM_POINT = 0x02;
+
+    private char[] texto = new char[64];
+    private int tamanho;
+
+    private InputFilter[] filtros = SEM_FILTROS;
+
+    private TextWatcher[] watchers = new TextWatcher[4];
+    private int quantidadeDeWatchers;
+
+    private Object[] spans = new Object[4];
+    private int[] inicios = new int[4];
+    private int[] fins = new int[4];
+    private int[] flags = new int[4];
+    private int quantidadeDeSpans;
+
+    // Arrays vazios devolvidos por getSpans, por tipo
+    private final Map<Class<?>, Object[]> vazios = new HashMap<>();
+
+    /**
+     * Equivalente a {@code EditText.addTextChangedListener}.
+     *
+     * @param watcher Watcher a ser chamado nas alterações
+     */
+    void adicionaWatcher(TextWatcher watcher) {
+        if (quantidadeDeWatchers == watchers.length) {
+            final TextWatcher[] maior = new TextWatcher[watchers.length * 2];
+            System.arraycopy(watchers, 0, maior, 0, quantidadeDeWatchers);
+            watchers = maior;
+        }
+        watchers[quantidadeDeWatchers++] = watcher;
+    }
+
+    @Override
+    public EditableSimulado replace(int st, int en, CharSequence source, int start, int end) {
+
+        if (st < 0 || en < st || en > tamanho) {
+            throw new IndexOutOfBoundsException("replace (" + st + " ... " + en + ") de " + tamanho);
+        }
+
+        CharSequence origem = source;
+        int inicio = start;
+        int fim = end;
+
+        for (InputFilter filtro : filtros) {
+            final CharSequence filtrado = filtro.filter(origem, inicio, fim, this, st, en);
+            if (filtrado != null) {
+                origem = filtrado;
+                inicio = 0;
+                fim = filtrado.length();
+            }
+        }
+
+        final int removidos = en - st;
+        final int inseridos = fim - inicio;
+
+        if (removidos == 0 && inseridos == 0) {
+            return this;
+        }
+
+        for (int i = 0; i < quantidadeDeWatchers; i++) {
+            watchers[i].beforeTextChanged(this, st, removidos, inseridos);
+        }
+
+        troca(st, en, origem, inicio, fim);
+
+        for (int i = 0; i < quantidadeDeWatchers; i++) {
+            watchers[i].onTextChanged(this, st, removidos, inseridos);
+        }
+
+        for (int i = 0; i < quantidadeDeWatchers; i++) {
+            watchers[i].afterTextChanged(this);
+        }
+
+        return this;
+    }
+
+    @Override
+    public EditableSimulado replace(int st, int en, CharSequence text) {
+        return replace(st, en, text, 0, text.length());
+    }
+
+    @Override
+    public EditableSimulado insert(int where, CharSequence text, int start, int end) {
+        return replace(where, where, text, start, end);
+    }
+
+    @Override
+    public EditableSimulado insert(int where, CharSequence text) {
+        return replace(where, where, text, 0, text.length());
+    }
+
+    @Override
+    public EditableSimulado delete(int st, int en) {
+        return replace(st, en, "", 0, 0);
+    }
+
+    @Override
+    public EditableSimulado append(CharSequence text) {
+        return replace(tamanho, tamanho, text, 0, text.length());
+    }
+
+    @Override
+    public EditableSimulado append(CharSequence text, int start, int end) {
+        return replace(tamanho, tamanho, text, start, end);
+    }
+
+    @Override
+    public EditableSimulado append(char text) {
+        return append(String.valueOf(text));
+    }
+
+    @Override
+    public void clear() {
+        replace(0, tamanho, "", 0, 0);
+    }
+
+    @Override
+    public void clearSpans() {
+        for (int i = 0; i < quantidadeDeSpans; i++) {
+            spans[i] = null;
+        }
+        quantidadeDeSpans = 0;
+    }
+
+    @Override
+    public void setFilters(InputFilter[] filters) {
+        if (filters == null) {
+            throw new IllegalArgumentException("Filtros não podem ser nulos");
+        }
+        filtros = filters;
+    }
+
+    @Override
+    public InputFilter[] getFilters() {
+        return filtros;
+    }
+
+    @Override
+    public void setSpan(Object what, int start, int end, int flags) {
+
+        if (start < 0 || end < start || end > tamanho) {
+            throw new IndexOutOfBoundsException("setSpan (" + start + " ... " + end + ") de " + tamanho);
+        }
+
+        int indice = indiceDoSpan(what);
+        if (indice < 0) {
+            garanteEspacoParaSpan();
+            indice = quantidadeDeSpans++;
+            spans[indice] = what;
+        }
+
+        inicios[indice] = start;
+        fins[indice] = end;
+        this.flags[indice] = flags;
+    }
+
+    @Override
+    public void removeSpan(Object what) {
+
+        final int indice = indiceDoSpan(what);
+        if (indice < 0) {
+            return;
+        }
+
+        final int seguintes = quantidadeDeSpans - indice - 1;
+        System.arraycopy(spans, indice + 1, spans, indice, seguintes);
+        System.arraycopy(inicios, indice + 1, inicios, indice, seguintes);
+        System.arraycopy(fins, indice + 1, fins, indice, seguintes);
+        System.arraycopy(flags, indice + 1, flags, indice, seguintes);
+        spans[--quantidadeDeSpans] = null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T[] getSpans(int start, int end, Class<T> type) {
+
+        int encontrados = 0;
+        for (int i = 0; i < quantidadeDeSpans; i++) {
+            if (type.isInstance(spans[i]) && inicios[i] <= end && fins[i] >= start) {
+                encontrados++;
+            }
+        }
+
+        if (encontrados == 0) {
+            Object[] vazio = vazios.get(type);
+            if (vazio == null) {
+                vazio = (Object[]) Array.newInstance(type, 0);
+                vazios.put(type, vazio);
+            }
+            return (T[]) vazio;
+        }
+
+        final T[] encontrado = (T[]) Array.newInstance(type, encontrados);
+        int posicao = 0;
+        for (int i = 0; i < quantidadeDeSpans; i++) {
+            if (type.isInstance(spans[i]) && inicios[i] <= end && fins[i] >= start) {
+                encontrado[posicao++] = (T) spans[i];
+            }
+        }
+
+        return encontrado;
+    }
+
+    @Override
+    public int getSpanStart(Object tag) {
+        final int indice = indiceDoSpan(tag);
+        return indice < 0 ? -1 : inicios[indice];
+    }
+
+    @Override
+    public int getSpanEnd(Object tag) {
+        final int indice = indiceDoSpan(tag);
+        return indice < 0 ? -1 : fins[indice];
+    }
+
+    @Override
+    public int getSpanFlags(Object tag) {
+        final int indice = indiceDoSpan(tag);
+        return indice < 0 ? 0 : flags[indice];
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public int nextSpanTransition(int start, int limit, Class type) {
+
+        int proxima = limit;
+        for (int i = 0; i < quantidadeDeSpans; i++) {
+            if (type != null && !type.isInstance(spans[i])) {
+                continue;
+            }
+            if (inicios[i] > start && inicios[i] < proxima) {
+                proxima = inicios[i];
+            }
+            if (fins[i] > start && fins[i] < proxima) {
+                proxima = fins[i];
+            }
+        }
+
+        return proxima;
+    }
+
+    @Override
+    public void getChars(int start, int end, char[] dest, int destoff) {
+        if (start < 0 || end < start || end > tamanho) {
+            throw new IndexOutOfBoundsException("getChars (" + start + " ... " + end + ") de " + tamanho);
+        }
+        System.arraycopy(texto, start, dest, destoff, end - start);
+    }
+
+    @Override
+    public int length() {
+        return tamanho;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= tamanho) {
+            throw new IndexOutOfBoundsException("charAt " + index + " de " + tamanho);
+        }
+        return texto[index];
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        if (start < 0 || end < start || end > tamanho) {
+            throw new IndexOutOfBoundsException("subSequence (" + start + " ... " + end + ") de " + tamanho);
+        }
+        return new String(texto, start, end - start);
+    }
+
+    @Override
+    public String toString() {
+        return new String(texto, 0, tamanho);
+    }
+
+    private void troca(int st, int en, CharSequence origem, int inicio, int fim) {
+
+        // Colar o próprio conteúdo: copia antes de deslocar o texto
+        final CharSequence trecho = origem == this ? toString() : origem;
+
+        final int removidos = en - st;
+        final int inseridos = fim - inicio;
+        final int novoTamanho = tamanho - removidos + inseridos;
+
+        if (novoTamanho > texto.length) {
+            final char[] maior = new char[Math.max(novoTamanho, texto.length * 2)];
+            System.arraycopy(texto, 0, maior, 0, tamanho);
+            texto = maior;
+        }
+
+        System.arraycopy(texto, en, texto, st + inseridos, tamanho - en);
+        for (int i = 0; i < inseridos; i++) {
+            texto[st + i] = trecho.charAt(inicio + i);
+        }
+        tamanho = novoTamanho;
+
+        for (int i = 0; i < quantidadeDeSpans; i++) {
+            inicios[i] = novaPosicao(inicios[i], st, en, inseridos, (flags[i] & INICIO) == INICIO_POINT);
+            fins[i] = novaPosicao(fins[i], st, en, inseridos, (flags[i] & FIM) == FIM_POINT);
+        }
+    }
+
+    // Posições no trecho trocado: POINT vai para o fim do texto novo (como um cursor) e MARK fica no início
+    private static int novaPosicao(int posicao, int st, int en, int inseridos, boolean ponto) {
+
+        if (posicao < st) {
+            return posicao;
+        }
+
+        if (posicao > en || (posicao == en && en > st)) {
+            return posicao + inseridos - (en - st);
+        }
+
+        return ponto ? st + inseridos : st;
+    }
+
+    private int indiceDoSpan(Object span) {
+        for (int i = 0; i < quantidadeDeSpans; i++) {
+            if (spans[i] == span) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void garanteEspacoParaSpan() {
+
+        if (quantidadeDeSpans < spans.length) {
+            return;
+        }
+
+        final int capacidade = spans.length * 2;
+        final Object[] novosSpans = new Object[capacidade];
+        final int[] novosInicios = new int[capacidade];
+        final int[] novosFins = new int[capacidade];
+        final int[] novasFlags = new int[capacidade];
+
+        System.arraycopy(spans, 0, novosSpans, 0, quantidadeDeSpans);
+        System.arraycopy(inicios, 0, novosInicios, 0, quantidadeDeSpans);
+        System.arraycopy(fins, 0, novosFins, 0, quantidadeDeSpans);
+        System.arraycopy(flags, 0, novasFlags, 0, quantidadeDeSpans);
+
+        spans = novosSpans;
+        inicios = novosInicios;
+        fins = novosFins;
+        flags = novasFlags;
+    }
+}
@@ -0,0 +1,165 @@
+package br.com.concrete.canarinho.benchmark;
+
+import br.com.concrete.canarinho.formatador.Formatador;
+import br.com.concrete.canarinho.validator.Validador;
+
+import java.nio.charset.Charset;
+import java.util.Random;
+
+/**
+ * Massa de dados compartilhada pelos benchmarks. Os valores são os mesmos usados nos testes.
+ */
+final class Entradas {
+
+    private Entradas() {
+    }
+
+    static Validador validador(String tipo) {
+        switch (tipo) {
+            case "CPF":
+                return Validador.CPF;
+            case "CNPJ":
+                return Validador.CNPJ;
+            case "BOLETO":
+                return Validador.BOLETO;
+            case "CEP":
+                return Validador.CEP;
+            case "TELEFONE":
+                return Validador.TELEFONE;
+            default:
+                throw new IllegalArgumentException("Tipo desconhecido: " + tipo);
+        }
+    }
+
+    static String paraValidacao(String tipo, String caso) {
+        switch (caso) {
+            case "VALIDO_FORMATADO":
+                return formatado(tipo);
+            case "VALIDO_DESFORMATADO":
+                return desformatado(tipo);
+            case "INVALIDO":
+                return invalido(tipo);
+            default:
+                throw new IllegalArgumentException("Caso desconhecido: " + caso);
+        }
+    }
+
+    static Formatador formatador(String tipo) {
+        switch (tipo) {
+            case "CPF":
+                return Formatador.CPF;
+            case "CNPJ":
+                return Formatador.CNPJ;
+            case "CPF_CNPJ":
+                return Formatador.CPF_CNPJ;
+            case "CEP":
+                return Formatador.CEP;
+            case "TELEFONE":
+                return Formatador.TELEFONE;
+            case "BOLETO":
+                return Formatador.BOLETO;
+            case "LINHA_DIGITAVEL":
+                return Formatador.LINHA_DIGITAVEL;
+            case "VALOR":
+                return Formatador.VALOR;
+            default:
+                throw new IllegalArgumentException("Tipo desconhecido: " + tipo);
+        }
+    }
+
+    static String formatado(String tipo) {
+        switch (tipo) {
+            case "CPF":
+                return "545.586.262-66";
+            case "CNPJ":
+            case "CPF_CNPJ":
+                return "50.713.534/0001-33";
+            case "BOLETO":
+            case "LINHA_DIGITAVEL":
+                return "23790.12301 60000.000053 25000.456704 9 64680000013580";
+            case "CEP":
+                return "22640-100";
+            case "TELEFONE":
+                return "(11) 98765-4321";
+            case "VALOR":
+                return "1.234.567,89";
+            default:
+                throw new IllegalArgumentException("Tipo desconhecido: " + tipo);
+        }
+    }
+
+    static String desformatado(String tipo) {
+        switch (tipo) {
+            case "CPF":
+                return "54558626266";
+            case "CNPJ":
+            case "CPF_CNPJ":
+                return "50713534000133";
+            case "BOLETO":
+                return "23790123016000000005325000456704964680000013580";
+            case "LINHA_DIGITAVEL":
+                // Código de barras (44) correspondente à linha digitável acima
+                return "23799646800000135800123060000000052500045670";
+            case "CEP":
+                return "22640100";
+            case "TELEFONE":
+                return "11987654321";
+            case "VALOR":
+                return "1234567.89";
+            default:
+                throw new IllegalArgumentException("Tipo desconhecido: " + tipo);
+        }
+    }
+
+    static String invalido(String tipo) {
+        switch (tipo) {
+            case "CPF":
+                return "545.111.262-66";
+            case "CNPJ":
+                return "50.713.111/0001-33";
+            case "BOLETO":
+                return "23790.12302 60000.000053 25000.456704 9 64680000013580";
+            case "CEP":
+                return "22640-10";
+            case "TELEFONE":
+                return "(11) 9876-432";
+            default:
+                throw new IllegalArgumentException("Tipo desconhecido: " + tipo);
+        }
+    }
+
+    /**
+     * Gera um lote determinístico misturando valores válidos (formatados e desformatados) e
+     * inválidos, na proporção aproximada de 3 para 1.
+     */
+    static String[] lote(String tipo, int quantidade) {
+
+        final Random random = new Random(42);
+        final String[] lote = new String[quantidade];
+
+        for (int i = 0; i < quantidade; i++) {
+            final int sorteio = random.nextInt(4);
+            lote[i] = sorteio == 0 ? invalido(tipo) : sorteio == 1 ? formatado(tipo) : desformatado(tipo);
+            // Cópia para que cada posição seja um objeto distinto, como numa leitura real
+            lote[i] = new String(lote[i].toCharArray());
+        }
+
+        return lote;
+    }
+
+    /**
+     * Empacota um lote em registros ASCII de tamanho fixo, completados com espaços.
+     */
+    static byte[] registros(String[] lote, int tamanhoRegistro) {
+
+        final StringBuilder builder = new StringBuilder(lote.length * tamanhoRegistro);
+        for (String valor : lote) {
+            builder.append(valor);
+            for (int i = valor.length(); i < tamanhoRegistro; i++) {
+                builder.append(' ');
+            }
+        }
+
+        return builder.toString().getBytes(Charset.forName("US-ASCII"));
+    }
+}
@@ -0,0 +1,41 @@
+package br.com.concrete.canarinho.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import br.com.concrete.canarinho.formatador.Formatador;
+
+/**
+ * Mede {@link Formatador#formata(String)} (entrada desformatada) e
+ * {@link Formatador#desformata(String)} (entrada formatada) de todos os singletons.
+ */
+@State(Scope.Benchmark)
+public class FormatadorBenchmark {
+
+    @Param({"CPF", "CNPJ", "CPF_CNPJ", "CEP", "TELEFONE", "BOLETO", "LINHA_DIGITAVEL", "VALOR"})
+    public String tipo;
+
+    private Formatador formatador;
+    private String paraFormatar;
+    private String paraDesformatar;
+
+    @Setup
+    public void setup() {
+        formatador = Entradas.formatador(tipo);
+        paraFormatar = Entradas.desformatado(tipo);
+        paraDesformatar = Entradas.formatado(tipo);
+    }
+
+    @Benchmark
+    public String formata() {
+        return formatador.formata(paraFormatar);
+    }
+
+    @Benchmark
+    public String desformata() {
+        return formatador.desformata(paraDesformatar);
+    }
+}
@@ -0,0 +1,51 @@
+package br.com.concrete.canarinho.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import br.com.concrete.canarinho.formatador.Formatador;
+
+/**
+ * Mede o caminho em que o valor já está no formato de destino. Só se aplica aos formatadores de
+ * máscara: LINHA_DIGITAVEL e VALOR convertem entre representações distintas.
+ */
+@State(Scope.Benchmark)
+public class FormatadorIdempotenteBenchmark {
+
+    @Param({"CPF", "CNPJ", "CPF_CNPJ", "CEP", "TELEFONE", "BOLETO"})
+    public String tipo;
+
+    private Formatador formatador;
+    private String formatado;
+    private String desformatado;
+
+    @Setup
+    public void setup() {
+        formatador = Entradas.formatador(tipo);
+        formatado = Entradas.formatado(tipo);
+        desformatado = Entradas.desformatado(tipo);
+    }
+
+    @Benchmark
+    public String formataJaFormatado() {
+        return formatador.formata(formatado);
+    }
+
+    @Benchmark
+    public String desformataJaDesformatado() {
+        return formatador.desformata(desformatado);
+    }
+
+    @Benchmark
+    public boolean estaFormatado() {
+        return formatador.estaFormatado(formatado);
+    }
+
+    @Benchmark
+    public boolean podeSerFormatado() {
+        return formatador.podeSerFormatado(desformatado);
+    }
+}
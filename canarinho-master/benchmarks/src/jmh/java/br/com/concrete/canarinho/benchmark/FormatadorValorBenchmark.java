@@ -0,0 +1,44 @@
+package br.com.concrete.canarinho.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import br.com.concrete.canarinho.formatador.Formatador;
+import br.com.concrete.canarinho.formatador.FormatadorValor;
+
+/**
+ * Formatação de valores monetários por vários threads ao mesmo tempo, como num relatório gerado em
+ * paralelo. As variantes com centavos e {@code char[]} não devem alocar nada.
+ */
+@State(Scope.Thread)
+@Threads(Threads.MAX)
+public class FormatadorValorBenchmark {
+
+    private static final FormatadorValor VALOR = FormatadorValor.getInstance(true);
+
+    private final char[] buffer = new char[32];
+
+    private long centavos;
+
+    @Benchmark
+    public String formataTexto() {
+        return Formatador.VALOR_COM_SIMBOLO.formata("1234567.89");
+    }
+
+    @Benchmark
+    public String desformataTexto() {
+        return Formatador.VALOR_COM_SIMBOLO.desformata("R$ 1.234.567,89");
+    }
+
+    @Benchmark
+    public int formataCentavos() {
+        return VALOR.formata(++centavos % 1000000000L, buffer, 0);
+    }
+
+    @Benchmark
+    public long leCentavos() {
+        return VALOR.centavosDoFormatado("R$ 1.234.567,89");
+    }
+}
@@ -0,0 +1,41 @@
+package br.com.concrete.canarinho.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import br.com.concrete.canarinho.boleto.GeradorDeBoleto;
+
+/**
+ * Geração de código de barras e linha digitável como numa emissão em lote: vários threads, cada
+ * um com os seus buffers. Não deve alocar nada.
+ */
+@State(Scope.Thread)
+@Threads(Threads.MAX)
+public class GeradorDeBoletoBenchmark {
+
+    // Dias desde 01/01/1970 (23/06/2015)
+    private static final long VENCIMENTO = 16609L;
+
+    private final char[] codigo = new char[44];
+    private final char[] linha = new char[48];
+
+    private long valor;
+
+    @Benchmark
+    public char bancario() {
+        GeradorDeBoleto.codigoBancario(237, GeradorDeBoleto.MOEDA_REAL, VENCIMENTO, ++valor % 1000000L,
+                "0123060000000052500045670", codigo, 0);
+        GeradorDeBoleto.linhaDigitavel(codigo, 0, linha, 0);
+        return linha[46];
+    }
+
+    @Benchmark
+    public char arrecadacao() {
+        GeradorDeBoleto.codigoDeArrecadacao(4, 8, ++valor % 1000000L, 3016L, "2201506101307126200121112",
+                codigo, 0);
+        GeradorDeBoleto.linhaDigitavel(codigo, 0, linha, 0);
+        return linha[47];
+    }
+}
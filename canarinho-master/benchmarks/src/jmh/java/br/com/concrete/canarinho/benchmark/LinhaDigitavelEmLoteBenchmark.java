@@ -0,0 +1,58 @@
+package br.com.concrete.canarinho.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import br.com.concrete.canarinho.formatador.FormatadorLinhaDigitavel;
+
+import java.nio.charset.Charset;
+import java.util.BitSet;
+
+/**
+ * Conversão de códigos de barras em linhas digitáveis como num arquivo bancário: por buffer
+ * reutilizável e por registros de tamanho fixo. Nenhum dos dois deve alocar por registro.
+ */
+@State(Scope.Thread)
+public class LinhaDigitavelEmLoteBenchmark {
+
+    private static final int REGISTROS = 1000;
+    private static final int TAMANHO_REGISTRO = 45;
+    private static final int TAMANHO_DESTINO = 48;
+
+    private static final String[] CODIGOS = {
+            "23799646800000135800123060000000052500045670",
+            "84860000001523301622015061013071262001211122"
+    };
+
+    private final FormatadorLinhaDigitavel formatador = FormatadorLinhaDigitavel.getInstance();
+    private final char[] linha = new char[TAMANHO_DESTINO];
+    private final byte[] destino = new byte[REGISTROS * TAMANHO_DESTINO];
+    private final BitSet convertidos = new BitSet(REGISTROS);
+
+    private byte[] registros;
+    private int proximo;
+
+    @Setup
+    public void setup() {
+        final StringBuilder conteudo = new StringBuilder();
+        for (int i = 0; i < REGISTROS; i++) {
+            conteudo.append(CODIGOS[i % CODIGOS.length]).append('\n');
+        }
+        registros = conteudo.toString().getBytes(Charset.forName("US-ASCII"));
+    }
+
+    @Benchmark
+    public int formataEmBuffer() {
+        return formatador.formata(CODIGOS[proximo++ & 1], linha, 0);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(REGISTROS)
+    public BitSet formataLote() {
+        formatador.formataLote(registros, TAMANHO_REGISTRO, 0, REGISTROS, destino, TAMANHO_DESTINO, convertidos);
+        return convertidos;
+    }
+}
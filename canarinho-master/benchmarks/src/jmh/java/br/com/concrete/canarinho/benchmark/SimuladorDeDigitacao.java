@@ -0,0 +1,123 @@
+package br.com.concrete.canarinho.benchmark;
+
+import android.text.Selection;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Repete uma sessão de digitação em um {@link EditableSimulado}, uma tecla por chamada de
+ * {@link #proximaTecla()}. Cada tecla opera no cursor, como um teclado: digitar ou colar troca a
+ * seleção pelo texto e apagar remove a seleção ou o caracter antes do cursor. Ao fim da sessão ela
+ * recomeça; as sessões terminam limpando o campo para que cada volta parta do mesmo estado.
+ */
+final class SimuladorDeDigitacao {
+
+    private final EditableSimulado campo;
+    private final Tecla[] teclas;
+    private int proxima;
+
+    SimuladorDeDigitacao(EditableSimulado campo, Sessao sessao) {
+        this.campo = campo;
+        this.teclas = sessao.teclas.toArray(new Tecla[0]);
+        Selection.setSelection(campo, 0);
+    }
+
+    int getQuantidadeDeTeclas() {
+        return teclas.length;
+    }
+
+    EditableSimulado proximaTecla() {
+        teclas[proxima].aplica(campo);
+        proxima = proxima + 1 == teclas.length ? 0 : proxima + 1;
+        return campo;
+    }
+
+    /**
+     * Sequência de teclas. As posições de cursor são as do texto formatado no momento da tecla.
+     */
+    static final class Sessao {
+
+        private final List<Tecla> teclas = new ArrayList<>();
+        private int cursor = Tecla.CURSOR_ATUAL;
+
+        // Cada caracter é uma tecla
+        Sessao digita(String texto) {
+            for (int i = 0; i < texto.length(); i++) {
+                adiciona(texto.substring(i, i + 1));
+            }
+            return this;
+        }
+
+        Sessao cola(String texto) {
+            return adiciona(texto);
+        }
+
+        Sessao apaga(int vezes) {
+            for (int i = 0; i < vezes; i++) {
+                adiciona(null);
+            }
+            return this;
+        }
+
+        // Seleciona tudo e apaga
+        Sessao limpa() {
+            cursor = Tecla.SELECIONA_TUDO;
+            return adiciona("");
+        }
+
+        // Move o cursor antes da próxima tecla
+        Sessao posiciona(int posicao) {
+            cursor = posicao;
+            return this;
+        }
+
+        private Sessao adiciona(String texto) {
+            teclas.add(new Tecla(cursor, texto));
+            cursor = Tecla.CURSOR_ATUAL;
+            return this;
+        }
+    }
+
+    private static final class Tecla {
+
+        static final int CURSOR_ATUAL = -1;
+        static final int SELECIONA_TUDO = -2;
+
+        private final int cursor;
+
+        // null para apagar
+        private final String texto;
+
+        Tecla(int cursor, String texto) {
+            this.cursor = cursor;
+            this.texto = texto;
+        }
+
+        void aplica(EditableSimulado campo) {
+
+            if (cursor == SELECIONA_TUDO) {
+                Selection.setSelection(campo, 0, campo.length());
+            } else if (cursor >= 0) {
+                Selection.setSelection(campo, Math.min(cursor, campo.length()));
+            }
+
+            int inicio = Math.min(Selection.getSelectionStart(campo), Selection.getSelectionEnd(campo));
+            final int fim = Math.max(Selection.getSelectionStart(campo), Selection.getSelectionEnd(campo));
+
+            if (texto != null) {
+                campo.replace(inicio, fim, texto);
+                return;
+            }
+
+            if (inicio == fim) {
+                if (inicio == 0) {
+                    return;
+                }
+                inicio--;
+            }
+
+            campo.delete(inicio, fim);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package br.com.concrete.canarinho.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import br.com.concrete.canarinho.validator.Validador;
+import br.com.concrete.canarinho.validator.ValidadorBoleto;
+
+/**
+ * Simula a digitação de uma linha digitável, validando o campo a cada tecla como faz o
+ * BoletoBancarioTextWatcher. Os resultados são por tecla.
+ */
+@State(Scope.Thread)
+public class ValidacaoBoletoDigitadoBenchmark {
+
+    private static final String LINHA = "23790.12301 60000.000053 25000.456704 9 64680000013580";
+    private static final int TECLAS = 54;
+
+    private final Validador completo = ValidadorBoleto.getInstance();
+    private final Validador incremental = ValidadorBoleto.incremental();
+    private final Validador.ResultadoParcial resultadoParcial = new Validador.ResultadoParcial();
+
+    // Campo sendo digitado, reaproveitado como um Editable
+    private StringBuilder campo;
+
+    @Setup
+    public void setup() {
+        campo = new StringBuilder(TECLAS);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TECLAS)
+    public Validador.ResultadoParcial validacaoCompleta() {
+        return digita(completo);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TECLAS)
+    public Validador.ResultadoParcial validacaoIncremental() {
+        return digita(incremental);
+    }
+
+    private Validador.ResultadoParcial digita(Validador validador) {
+        campo.setLength(0);
+        for (int i = 0; i < TECLAS; i++) {
+            campo.append(LINHA.charAt(i));
+            validador.ehValido(campo, resultadoParcial);
+        }
+        return resultadoParcial;
+    }
+}
@@ -0,0 +1,62 @@
+package br.com.concrete.canarinho.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import br.com.concrete.canarinho.validator.ValidacaoEmLote;
+import br.com.concrete.canarinho.validator.Validador;
+
+import java.util.BitSet;
+
+/**
+ * Compara a validação valor a valor com a validação em lote. Os resultados são por documento.
+ */
+@State(Scope.Benchmark)
+public class ValidacaoEmLoteBenchmark {
+
+    static final int QUANTIDADE = 10000;
+    static final int TAMANHO_REGISTRO = 18;
+
+    @Param({"CPF", "CNPJ"})
+    public String tipo;
+
+    private Validador validador;
+    private String[] valores;
+    private byte[] registros;
+    private BitSet resultado;
+
+    @Setup
+    public void setup() {
+        validador = Entradas.validador(tipo);
+        valores = Entradas.lote(tipo, QUANTIDADE);
+        registros = Entradas.registros(valores, TAMANHO_REGISTRO);
+        resultado = new BitSet(QUANTIDADE);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUANTIDADE)
+    public BitSet valorAValor() {
+        for (int i = 0; i < valores.length; i++) {
+            resultado.set(i, validador.ehValido(valores[i]));
+        }
+        return resultado;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUANTIDADE)
+    public BitSet loteDeStrings() {
+        ValidacaoEmLote.valida(validador, valores, 0, valores.length, resultado);
+        return resultado;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUANTIDADE)
+    public BitSet loteDeRegistros() {
+        ValidacaoEmLote.valida(validador, registros, TAMANHO_REGISTRO, 0, QUANTIDADE, resultado);
+        return resultado;
+    }
+}
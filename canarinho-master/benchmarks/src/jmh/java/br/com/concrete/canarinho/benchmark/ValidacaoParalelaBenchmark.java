@@ -0,0 +1,75 @@
+package br.com.concrete.canarinho.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import br.com.concrete.canarinho.validator.ValidacaoParalela;
+
+import java.util.BitSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede a vazão da validação paralela conforme o número de threads do pool. Com threads até o
+ * número de núcleos da máquina a vazão deve crescer de forma praticamente linear.
+ * <p>
+ * Uso: ./gradlew :benchmarks:jmh -Pjmh.includes=ValidacaoParalelaBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ValidacaoParalelaBenchmark {
+
+    static final int QUANTIDADE = 1000000;
+    static final int TAMANHO_REGISTRO = 18;
+
+    @Param({"CPF", "CNPJ"})
+    public String tipo;
+
+    @Param({"1", "2", "4", "8"})
+    public int threads;
+
+    private String[] valores;
+    private byte[] registros;
+    private ForkJoinPool pool;
+    private ValidacaoParalela validacao;
+
+    @Setup
+    public void setup() {
+        valores = Entradas.lote(tipo, QUANTIDADE);
+        registros = Entradas.registros(valores, TAMANHO_REGISTRO);
+        pool = new ForkJoinPool(threads);
+        validacao = new ValidacaoParalela(Entradas.validador(tipo), pool);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUANTIDADE)
+    public BitSet valida() {
+        return validacao.valida(valores);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUANTIDADE)
+    public int contaValidos() {
+        return validacao.contaValidos(valores);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUANTIDADE)
+    public BitSet validaRegistros() {
+        return validacao.valida(registros, TAMANHO_REGISTRO);
+    }
+}
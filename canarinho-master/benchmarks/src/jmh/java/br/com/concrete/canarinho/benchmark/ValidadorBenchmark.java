@@ -0,0 +1,37 @@
+package br.com.concrete.canarinho.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import br.com.concrete.canarinho.validator.Validador;
+
+/**
+ * Mede {@link Validador#ehValido(String)} de todos os singletons com entradas válidas
+ * (formatadas e desformatadas) e inválidas.
+ */
+@State(Scope.Benchmark)
+public class ValidadorBenchmark {
+
+    @Param({"CPF", "CNPJ", "BOLETO", "CEP", "TELEFONE"})
+    public String tipo;
+
+    @Param({"VALIDO_FORMATADO", "VALIDO_DESFORMATADO", "INVALIDO"})
+    public String caso;
+
+    private Validador validador;
+    private String entrada;
+
+    @Setup
+    public void setup() {
+        validador = Entradas.validador(tipo);
+        entrada = Entradas.paraValidacao(tipo, caso);
+    }
+
+    @Benchmark
+    public boolean ehValido() {
+        return validador.ehValido(entrada);
+    }
+}
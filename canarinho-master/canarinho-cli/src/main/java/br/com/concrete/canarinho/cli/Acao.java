@@ -0,0 +1,22 @@
+package br.com.concrete.canarinho.cli;
+
+/**
+ * O que fazer com o valor de uma coluna além de validá-lo.
+ */
+enum Acao {
+
+    /**
+     * Apenas valida. A coluna é copiada sem alterações.
+     */
+    VALIDA,
+
+    /**
+     * Valida e, se válido, reescreve o valor formatado.
+     */
+    FORMATA,
+
+    /**
+     * Valida e, se válido, reescreve apenas os dígitos do valor.
+     */
+    DESFORMATA
+}
@@ -0,0 +1,66 @@
+package br.com.concrete.canarinho.cli;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+
+/**
+ * Array de bytes que cresce conforme a necessidade. Cada bloco do arquivo é reescrito em um buffer
+ * próprio, que depois é gravado na ordem original.
+ */
+final class BufferDeSaida {
+
+    private byte[] bytes;
+    private int tamanho;
+
+    BufferDeSaida(int capacidade) {
+        bytes = new byte[Math.max(capacidade, 16)];
+    }
+
+    int tamanho() {
+        return tamanho;
+    }
+
+    void escreve(byte valor) {
+        garanteCapacidade(1);
+        bytes[tamanho++] = valor;
+    }
+
+    void escreve(ByteBuffer origem, int inicio, int fim) {
+        final int quantidade = fim - inicio;
+        garanteCapacidade(quantidade);
+        origem.position(inicio);
+        origem.get(bytes, tamanho, quantidade);
+        tamanho += quantidade;
+    }
+
+    void escreve(CharSequence valor) {
+        final int quantidade = valor.length();
+        garanteCapacidade(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            final char c = valor.charAt(i);
+            // Formatadores deste projeto produzem apenas ASCII
+            bytes[tamanho++] = c < 0x80 ? (byte) c : (byte) '?';
+        }
+    }
+
+    void completa(byte valor, int quantidade) {
+        garanteCapacidade(quantidade);
+        Arrays.fill(bytes, tamanho, tamanho + quantidade, valor);
+        tamanho += quantidade;
+    }
+
+    void gravaEm(WritableByteChannel canal) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.wrap(bytes, 0, tamanho);
+        while (buffer.hasRemaining()) {
+            canal.write(buffer);
+        }
+    }
+
+    private void garanteCapacidade(int adicional) {
+        if (tamanho + adicional > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, tamanho + adicional));
+        }
+    }
+}
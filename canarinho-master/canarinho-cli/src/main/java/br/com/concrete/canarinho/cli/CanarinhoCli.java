@@ -0,0 +1,65 @@
+package br.com.concrete.canarinho.cli;
+
+import java.io.IOException;
+import java.io.PrintStream;
+
+/**
+ * Valida, formata e desformata documentos em arquivos grandes (CSV ou de tamanho fixo, como
+ * remessas CNAB) sem carregar o arquivo em memória nem criar uma {@link String} por campo.
+ * <p>
+ * Exemplo: valida e formata o CPF da 3ª coluna de um CSV separado por ponto e vírgula.
+ * <pre>
+ * canarinho-cli --entrada clientes.csv --saida clientes-formatado.csv --status clientes.status \
+ *               --cabecalho --coluna CPF:3:FORMATA
+ * </pre>
+ */
+public final class CanarinhoCli {
+
+    private static final int SUCESSO = 0;
+    private static final int REGISTROS_INVALIDOS = 1;
+    private static final int ERRO = 2;
+
+    // No instance creation
+    private CanarinhoCli() {
+    }
+
+    public static void main(String[] args) {
+        System.exit(executa(System.out, System.err, args));
+    }
+
+    /**
+     * Executa a linha de comando sem encerrar a JVM.
+     *
+     * @param saida Onde imprimir o resumo
+     * @param erros Onde imprimir os erros
+     * @param args  Argumentos de linha de comando
+     * @return 0 se todos os registros forem válidos, 1 se algum for inválido e 2 em caso de erro
+     */
+    public static int executa(PrintStream saida, PrintStream erros, String... args) {
+
+        final Configuracao configuracao;
+        try {
+            configuracao = Configuracao.deArgumentos(args);
+        } catch (IllegalArgumentException e) {
+            erros.println(e.getMessage());
+            erros.println();
+            erros.print(Configuracao.USO);
+            return ERRO;
+        }
+
+        final long inicio = System.nanoTime();
+        final Resumo resumo;
+        try {
+            resumo = new ProcessadorDeArquivo(configuracao).processa();
+        } catch (IOException e) {
+            erros.println("Erro ao processar " + configuracao.getEntrada() + ": " + e.getMessage());
+            return ERRO;
+        }
+
+        final long milissegundos = (System.nanoTime() - inicio) / 1000000L;
+        saida.println(resumo.getRegistros() + " registros processados em " + milissegundos + " ms, "
+                + resumo.getRegistrosComErro() + " com erro");
+
+        return resumo.getRegistrosComErro() == 0 ? SUCESSO : REGISTROS_INVALIDOS;
+    }
+}
@@ -0,0 +1,79 @@
+package br.com.concrete.canarinho.cli;
+
+/**
+ * Uma coluna a ser processada em cada registro. Pode ser localizada pelo índice do campo (arquivos
+ * delimitados) ou pela posição inicial e tamanho (arquivos de tamanho fixo, como o CNAB).
+ */
+final class Coluna {
+
+    private final int ordem;
+    private final TipoDeDocumento tipo;
+    private final Acao acao;
+    private final int indice;
+    private final int inicio;
+    private final int tamanho;
+
+    private Coluna(int ordem, TipoDeDocumento tipo, Acao acao, int indice, int inicio, int tamanho) {
+        this.ordem = ordem;
+        this.tipo = tipo;
+        this.acao = acao;
+        this.indice = indice;
+        this.inicio = inicio;
+        this.tamanho = tamanho;
+    }
+
+    /**
+     * Coluna de arquivo delimitado.
+     *
+     * @param ordem  Ordem em que a coluna foi declarada (bit correspondente no status)
+     * @param tipo   Tipo de documento da coluna
+     * @param acao   Ação aplicada aos valores válidos
+     * @param indice Índice do campo, começando em 0
+     * @return Coluna configurada
+     */
+    static Coluna delimitada(int ordem, TipoDeDocumento tipo, Acao acao, int indice) {
+        return new Coluna(ordem, tipo, acao, indice, -1, -1);
+    }
+
+    /**
+     * Coluna de arquivo de tamanho fixo.
+     *
+     * @param ordem   Ordem em que a coluna foi declarada (bit correspondente no status)
+     * @param tipo    Tipo de documento da coluna
+     * @param acao    Ação aplicada aos valores válidos
+     * @param inicio  Posição inicial na linha, começando em 0
+     * @param tamanho Quantidade de bytes da coluna
+     * @return Coluna configurada
+     */
+    static Coluna fixa(int ordem, TipoDeDocumento tipo, Acao acao, int inicio, int tamanho) {
+        return new Coluna(ordem, tipo, acao, -1, inicio, tamanho);
+    }
+
+    boolean ehFixa() {
+        return inicio >= 0;
+    }
+
+    int getOrdem() {
+        return ordem;
+    }
+
+    TipoDeDocumento getTipo() {
+        return tipo;
+    }
+
+    Acao getAcao() {
+        return acao;
+    }
+
+    int getIndice() {
+        return indice;
+    }
+
+    int getInicio() {
+        return inicio;
+    }
+
+    int getTamanho() {
+        return tamanho;
+    }
+}
@@ -0,0 +1,276 @@
+package br.com.concrete.canarinho.cli;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Configuração imutável de uma execução, montada a partir dos argumentos de linha de comando.
+ */
+final class Configuracao {
+
+    /**
+     * Quantidade máxima de colunas: o status de cada registro ocupa um único byte.
+     */
+    static final int MAXIMO_DE_COLUNAS = 8;
+
+    static final String USO = "Uso: canarinho-cli --entrada <arquivo> [--saida <arquivo>] [--status <arquivo>]\n"
+            + "                     [--delimitador <caractere>] [--cabecalho]\n"
+            + "                     [--threads <n>] [--tamanho-bloco <bytes>]\n"
+            + "                     (--coluna <TIPO>:<campo>[:<ACAO>]\n"
+            + "                      | --posicao <TIPO>:<inicio>:<tamanho>[:<ACAO>])...\n"
+            + "\n"
+            + "  TIPO: CPF, CNPJ, CPF_CNPJ, CEP, TELEFONE ou BOLETO\n"
+            + "  ACAO: VALIDA (padrão), FORMATA ou DESFORMATA\n"
+            + "  --coluna:  campo de um arquivo delimitado, começando em 1 (delimitador padrão ';')\n"
+            + "  --posicao: posição inicial (começando em 1) e tamanho de um arquivo de tamanho fixo\n"
+            + "  --status:  um byte por registro; o bit i indica que a i-ésima coluna declarada é inválida\n"
+            + "  --tamanho-bloco: bytes por bloco processado em paralelo (padrão 32 MB)\n";
+
+    private static final int TAMANHO_BLOCO_PADRAO = 32 * 1024 * 1024;
+
+    private final File entrada;
+    private final File saida;
+    private final File status;
+    private final byte delimitador;
+    private final boolean cabecalho;
+    private final int threads;
+    private final int tamanhoBloco;
+    private final List<Coluna> colunas;
+
+    private Configuracao(File entrada, File saida, File status, byte delimitador, boolean cabecalho,
+                         int threads, int tamanhoBloco, List<Coluna> colunas) {
+        this.entrada = entrada;
+        this.saida = saida;
+        this.status = status;
+        this.delimitador = delimitador;
+        this.cabecalho = cabecalho;
+        this.threads = threads;
+        this.tamanhoBloco = tamanhoBloco;
+        this.colunas = colunas;
+    }
+
+    /**
+     * Interpreta os argumentos de linha de comando.
+     *
+     * @param args Argumentos
+     * @return Configuração validada
+     * @throws IllegalArgumentException se algum argumento for inválido
+     */
+    static Configuracao deArgumentos(String... args) {
+
+        File entrada = null;
+        File saida = null;
+        File status = null;
+        byte delimitador = ';';
+        boolean cabecalho = false;
+        int threads = Runtime.getRuntime().availableProcessors();
+        int tamanhoBloco = TAMANHO_BLOCO_PADRAO;
+        final List<Coluna> colunas = new ArrayList<>();
+
+        for (int i = 0; i < args.length; i++) {
+            final String argumento = args[i];
+
+            switch (argumento) {
+                case "--entrada":
+                    entrada = new File(valor(args, ++i, argumento));
+                    break;
+                case "--saida":
+                    saida = new File(valor(args, ++i, argumento));
+                    break;
+                case "--status":
+                    status = new File(valor(args, ++i, argumento));
+                    break;
+                case "--delimitador":
+                    delimitador = delimitador(valor(args, ++i, argumento));
+                    break;
+                case "--cabecalho":
+                    cabecalho = true;
+                    break;
+                case "--threads":
+                    threads = positivo(valor(args, ++i, argumento), argumento);
+                    break;
+                case "--tamanho-bloco":
+                    tamanhoBloco = positivo(valor(args, ++i, argumento), argumento);
+                    break;
+                case "--coluna":
+                    colunas.add(coluna(colunas.size(), valor(args, ++i, argumento), false));
+                    break;
+                case "--posicao":
+                    colunas.add(coluna(colunas.size(), valor(args, ++i, argumento), true));
+                    break;
+                default:
+                    throw new IllegalArgumentException("Argumento desconhecido: " + argumento);
+            }
+        }
+
+        if (entrada == null) {
+            throw new IllegalArgumentException("Informe o arquivo de entrada");
+        }
+
+        if (saida == null && status == null) {
+            throw new IllegalArgumentException("Informe o arquivo de saída e/ou o de status");
+        }
+
+        if (colunas.isEmpty() || colunas.size() > MAXIMO_DE_COLUNAS) {
+            throw new IllegalArgumentException("Informe de 1 a " + MAXIMO_DE_COLUNAS + " colunas");
+        }
+
+        validaColunas(colunas, saida != null);
+
+        return new Configuracao(entrada, saida, status, delimitador, cabecalho, threads, tamanhoBloco,
+                Collections.unmodifiableList(colunas));
+    }
+
+    File getEntrada() {
+        return entrada;
+    }
+
+    File getSaida() {
+        return saida;
+    }
+
+    File getStatus() {
+        return status;
+    }
+
+    byte getDelimitador() {
+        return delimitador;
+    }
+
+    boolean temCabecalho() {
+        return cabecalho;
+    }
+
+    int getThreads() {
+        return threads;
+    }
+
+    int getTamanhoBloco() {
+        return tamanhoBloco;
+    }
+
+    boolean ehDeTamanhoFixo() {
+        return colunas.get(0).ehFixa();
+    }
+
+    /**
+     * Colunas ordenadas pela posição na linha (e não pela ordem de declaração).
+     *
+     * @return lista imutável de colunas
+     */
+    List<Coluna> getColunas() {
+        return colunas;
+    }
+
+    private static void validaColunas(List<Coluna> colunas, boolean temSaida) {
+
+        final boolean fixas = colunas.get(0).ehFixa();
+
+        for (Coluna coluna : colunas) {
+
+            if (coluna.ehFixa() != fixas) {
+                throw new IllegalArgumentException("Não é possível misturar --coluna e --posicao");
+            }
+
+            if (coluna.getAcao() != Acao.VALIDA && !temSaida) {
+                throw new IllegalArgumentException("Ação " + coluna.getAcao() + " exige --saida");
+            }
+        }
+
+        // Processadas na ordem em que aparecem na linha
+        Collections.sort(colunas, new Comparator<Coluna>() {
+            @Override
+            public int compare(Coluna a, Coluna b) {
+                return fixas
+                        ? Integer.compare(a.getInicio(), b.getInicio())
+                        : Integer.compare(a.getIndice(), b.getIndice());
+            }
+        });
+
+        for (int i = 1; i < colunas.size(); i++) {
+            final Coluna anterior = colunas.get(i - 1);
+            final Coluna atual = colunas.get(i);
+
+            final boolean conflito = fixas
+                    ? anterior.getInicio() + anterior.getTamanho() > atual.getInicio()
+                    : anterior.getIndice() == atual.getIndice();
+
+            if (conflito) {
+                throw new IllegalArgumentException("Colunas sobrepostas");
+            }
+        }
+    }
+
+    private static Coluna coluna(int ordem, String especificacao, boolean fixa) {
+
+        final String[] partes = especificacao.split(":");
+        final int partesObrigatorias = fixa ? 3 : 2;
+
+        if (partes.length != partesObrigatorias && partes.length != partesObrigatorias + 1) {
+            throw new IllegalArgumentException("Coluna inválida: " + especificacao);
+        }
+
+        final TipoDeDocumento tipo = enumeracao(TipoDeDocumento.class, partes[0]);
+        final Acao acao = partes.length > partesObrigatorias
+                ? enumeracao(Acao.class, partes[partesObrigatorias])
+                : Acao.VALIDA;
+
+        // Posições na linha de comando começam em 1
+        if (fixa) {
+            return Coluna.fixa(ordem, tipo, acao, positivo(partes[1], especificacao) - 1,
+                    positivo(partes[2], especificacao));
+        }
+
+        return Coluna.delimitada(ordem, tipo, acao, positivo(partes[1], especificacao) - 1);
+    }
+
+    private static <T extends Enum<T>> T enumeracao(Class<T> classe, String valor) {
+        try {
+            return Enum.valueOf(classe, valor.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Valor desconhecido: " + valor, e);
+        }
+    }
+
+    private static byte delimitador(String valor) {
+
+        if ("tab".equalsIgnoreCase(valor) || "\\t".equals(valor)) {
+            return '\t';
+        }
+
+        if (valor.length() != 1 || valor.charAt(0) >= 0x80 || valor.charAt(0) == '\n') {
+            throw new IllegalArgumentException("Delimitador deve ser um único caractere ASCII");
+        }
+
+        return (byte) valor.charAt(0);
+    }
+
+    private static int positivo(String valor, String contexto) {
+
+        final int numero;
+        try {
+            numero = Integer.parseInt(valor);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Número inválido em " + contexto + ": " + valor, e);
+        }
+
+        if (numero <= 0) {
+            throw new IllegalArgumentException("Número deve ser positivo em " + contexto + ": " + valor);
+        }
+
+        return numero;
+    }
+
+    private static String valor(String[] args, int posicao, String argumento) {
+
+        if (posicao >= args.length) {
+            throw new IllegalArgumentException("Falta o valor de " + argumento);
+        }
+
+        return args[posicao];
+    }
+}
@@ -0,0 +1,223 @@
+package br.com.concrete.canarinho.cli;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Processa um arquivo inteiro. O arquivo é dividido em blocos terminados em fim de linha; cada
+ * bloco é mapeado em memória com {@link FileChannel#map} e processado em paralelo por um
+ * {@link ProcessadorDeBloco} próprio. Os resultados são gravados na ordem original, com no máximo
+ * duas vezes o número de threads de blocos em memória ao mesmo tempo.
+ */
+final class ProcessadorDeArquivo {
+
+    private static final int TAMANHO_LEITURA = 8 * 1024;
+
+    private final Configuracao configuracao;
+
+    ProcessadorDeArquivo(Configuracao configuracao) {
+        this.configuracao = configuracao;
+    }
+
+    /**
+     * Processa o arquivo de entrada gravando os arquivos de saída e de status configurados.
+     *
+     * @return Totais da execução
+     * @throws IOException em caso de erro de leitura ou escrita
+     */
+    Resumo processa() throws IOException {
+
+        final ExecutorService executor = Executors.newFixedThreadPool(configuracao.getThreads());
+
+        try (FileChannel entrada = FileChannel.open(configuracao.getEntrada().toPath(), StandardOpenOption.READ);
+             FileChannel saida = abreParaEscrita(configuracao.getSaida());
+             FileChannel status = abreParaEscrita(configuracao.getStatus())) {
+
+            long inicio = 0;
+
+            if (configuracao.temCabecalho()) {
+                inicio = fimDaLinha(entrada, 0);
+                if (saida != null) {
+                    transfere(entrada, 0, inicio, saida);
+                }
+            }
+
+            return processaBlocos(executor, entrada, limites(entrada, inicio), saida, status);
+
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Resumo processaBlocos(ExecutorService executor, FileChannel entrada, List<Long> limites,
+                                  FileChannel saida, FileChannel status) throws IOException {
+
+        final int emAndamento = configuracao.getThreads() * 2;
+        final Deque<Future<Bloco>> pendentes = new ArrayDeque<>();
+
+        long registros = 0;
+        long registrosComErro = 0;
+
+        for (int i = 0; i + 1 < limites.size() || !pendentes.isEmpty(); i++) {
+
+            if (i + 1 < limites.size()) {
+                pendentes.add(executor.submit(new TarefaDeBloco(entrada, limites.get(i), limites.get(i + 1),
+                        saida != null, status != null)));
+
+                // Só grava quando a janela enche, para manter as threads ocupadas
+                if (pendentes.size() < emAndamento) {
+                    continue;
+                }
+            }
+
+            // Sempre o bloco mais antigo: a saída mantém a ordem original
+            final Bloco bloco = aguarda(pendentes.poll());
+
+            if (saida != null) {
+                bloco.saida.gravaEm(saida);
+            }
+
+            if (status != null) {
+                bloco.status.gravaEm(status);
+            }
+
+            registros += bloco.registros;
+            registrosComErro += bloco.registrosComErro;
+        }
+
+        return new Resumo(registros, registrosComErro);
+    }
+
+    // Divide o arquivo em blocos de aproximadamente o tamanho configurado, terminados em fim de linha
+    private List<Long> limites(FileChannel entrada, long inicio) throws IOException {
+
+        final long tamanho = entrada.size();
+        final List<Long> limites = new ArrayList<>();
+        limites.add(inicio);
+
+        long posicao = inicio;
+        while (posicao < tamanho) {
+            final long nominal = posicao + configuracao.getTamanhoBloco();
+            posicao = nominal >= tamanho ? tamanho : fimDaLinha(entrada, nominal - 1);
+            limites.add(posicao);
+        }
+
+        return limites;
+    }
+
+    // Posição logo após o primeiro fim de linha a partir de "desde" (ou o fim do arquivo)
+    private static long fimDaLinha(FileChannel entrada, long desde) throws IOException {
+
+        final ByteBuffer buffer = ByteBuffer.allocate(TAMANHO_LEITURA);
+        long posicao = desde;
+
+        while (true) {
+            buffer.clear();
+            final int lidos = entrada.read(buffer, posicao);
+
+            if (lidos <= 0) {
+                return entrada.size();
+            }
+
+            for (int i = 0; i < lidos; i++) {
+                if (buffer.get(i) == '\n') {
+                    return posicao + i + 1;
+                }
+            }
+
+            posicao += lidos;
+        }
+    }
+
+    private static void transfere(FileChannel entrada, long inicio, long fim, FileChannel saida) throws IOException {
+        long posicao = inicio;
+        while (posicao < fim) {
+            posicao += entrada.transferTo(posicao, fim - posicao, saida);
+        }
+    }
+
+    private static Bloco aguarda(Future<Bloco> futuro) throws IOException {
+        try {
+            return futuro.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Processamento interrompido", e);
+        } catch (ExecutionException e) {
+            final Throwable causa = e.getCause();
+            if (causa instanceof IOException) {
+                throw (IOException) causa;
+            }
+            if (causa instanceof RuntimeException) {
+                throw (RuntimeException) causa;
+            }
+            throw new IOException(causa);
+        }
+    }
+
+    private static FileChannel abreParaEscrita(File arquivo) throws IOException {
+
+        if (arquivo == null) {
+            return null;
+        }
+
+        return FileChannel.open(arquivo.toPath(),
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+    }
+
+    // Resultado de um bloco, pronto para ser gravado
+    private static final class Bloco {
+        private BufferDeSaida saida;
+        private BufferDeSaida status;
+        private long registros;
+        private long registrosComErro;
+    }
+
+    private final class TarefaDeBloco implements Callable<Bloco> {
+
+        private final FileChannel entrada;
+        private final long inicio;
+        private final long fim;
+        private final boolean comSaida;
+        private final boolean comStatus;
+
+        TarefaDeBloco(FileChannel entrada, long inicio, long fim, boolean comSaida, boolean comStatus) {
+            this.entrada = entrada;
+            this.inicio = inicio;
+            this.fim = fim;
+            this.comSaida = comSaida;
+            this.comStatus = comStatus;
+        }
+
+        @Override
+        public Bloco call() throws IOException {
+
+            final int tamanho = (int) (fim - inicio);
+            final MappedByteBuffer mapeado = entrada.map(FileChannel.MapMode.READ_ONLY, inicio, tamanho);
+
+            final Bloco bloco = new Bloco();
+            bloco.saida = comSaida ? new BufferDeSaida(tamanho + tamanho / 4) : null;
+            // Estimativa grosseira de registros; o buffer cresce se necessário
+            bloco.status = comStatus ? new BufferDeSaida(tamanho / 16) : null;
+
+            final ProcessadorDeBloco processador = new ProcessadorDeBloco(configuracao);
+            processador.processa(mapeado, bloco.saida, bloco.status);
+
+            bloco.registros = processador.getRegistros();
+            bloco.registrosComErro = processador.getRegistrosComErro();
+            return bloco;
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package br.com.concrete.canarinho.cli;
+
+import br.com.concrete.canarinho.DocumentoNormalizado;
+import br.com.concrete.canarinho.validator.ValidacaoEmLote;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.util.List;
+
+/**
+ * Processa os registros (linhas) de um bloco do arquivo. Cada tarefa tem a sua própria instância,
+ * com buffers de trabalho exclusivos: nenhum estado é compartilhado entre threads.
+ */
+final class ProcessadorDeBloco {
+
+    private static final byte FIM_DE_LINHA = '\n';
+    private static final byte RETORNO = '\r';
+    private static final byte ESPACO = ' ';
+
+    // Maior documento formatado é o boleto bancário, com 54 caracteres
+    private static final int TAMANHO_MAXIMO_FORMATADO = 64;
+
+    private final Coluna[] colunas;
+    private final boolean fixas;
+    private final byte delimitador;
+
+    // Posições de cada coluna na linha atual (-1 quando a linha não tem a coluna)
+    private final int[] inicios;
+    private final int[] fins;
+
+    private final DocumentoNormalizado documento = new DocumentoNormalizado();
+    private final TrechoAscii trecho = new TrechoAscii();
+
+    // Os formatadores escrevem direto neste array, sem criar uma String por registro
+    private final char[] formatado = new char[TAMANHO_MAXIMO_FORMATADO];
+    private final CharBuffer valorFormatado = CharBuffer.wrap(formatado);
+
+    private long registros;
+    private long registrosComErro;
+
+    ProcessadorDeBloco(Configuracao configuracao) {
+        final List<Coluna> lista = configuracao.getColunas();
+        this.colunas = lista.toArray(new Coluna[lista.size()]);
+        this.fixas = configuracao.ehDeTamanhoFixo();
+        this.delimitador = configuracao.getDelimitador();
+        this.inicios = new int[colunas.length];
+        this.fins = new int[colunas.length];
+    }
+
+    long getRegistros() {
+        return registros;
+    }
+
+    long getRegistrosComErro() {
+        return registrosComErro;
+    }
+
+    /**
+     * Processa todas as linhas do bloco. O bloco deve começar no início de uma linha e terminar
+     * logo após um fim de linha (ou no fim do arquivo).
+     *
+     * @param bloco  Bytes do bloco, da posição 0 até o limite
+     * @param saida  Recebe as linhas reescritas (opcional)
+     * @param status Recebe um byte por registro (opcional)
+     */
+    void processa(ByteBuffer bloco, BufferDeSaida saida, BufferDeSaida status) {
+
+        final int limite = bloco.limit();
+        int posicao = 0;
+
+        while (posicao < limite) {
+
+            int fimDaLinha = posicao;
+            while (fimDaLinha < limite && bloco.get(fimDaLinha) != FIM_DE_LINHA) {
+                fimDaLinha++;
+            }
+
+            final int proxima = fimDaLinha < limite ? fimDaLinha + 1 : limite;
+
+            if (fimDaLinha > posicao && bloco.get(fimDaLinha - 1) == RETORNO) {
+                fimDaLinha--;
+            }
+
+            final byte resultado = processaLinha(bloco, posicao, fimDaLinha, proxima, saida);
+
+            if (status != null) {
+                status.escreve(resultado);
+            }
+
+            registros++;
+            if (resultado != 0) {
+                registrosComErro++;
+            }
+
+            posicao = proxima;
+        }
+    }
+
+    private byte processaLinha(ByteBuffer bloco, int inicio, int fim, int proxima, BufferDeSaida saida) {
+
+        localizaColunas(bloco, inicio, fim);
+
+        int resultado = 0;
+        int copiadoAte = inicio;
+
+        for (int c = 0; c < colunas.length; c++) {
+
+            final Coluna coluna = colunas[c];
+            final int erro = 1 << coluna.getOrdem();
+
+            if (inicios[c] < 0) {
+                resultado |= erro;
+                continue;
+            }
+
+            documento.normaliza(trecho.reposiciona(bloco, inicios[c], fins[c]));
+
+            if (!ValidacaoEmLote.ehValido(coluna.getTipo().getValidador(), documento)) {
+                resultado |= erro;
+                continue;
+            }
+
+            if (saida == null || coluna.getAcao() == Acao.VALIDA) {
+                continue;
+            }
+
+            final CharSequence novoValor = novoValor(coluna);
+
+            // Não cabe na coluna de tamanho fixo: mantém o original e sinaliza
+            if (novoValor == null || (fixas && novoValor.length() > coluna.getTamanho())) {
+                resultado |= erro;
+                continue;
+            }
+
+            saida.escreve(bloco, copiadoAte, inicios[c]);
+            saida.escreve(novoValor);
+
+            if (fixas) {
+                saida.completa(ESPACO, coluna.getTamanho() - novoValor.length());
+            }
+
+            copiadoAte = fins[c];
+        }
+
+        if (saida != null) {
+            saida.escreve(bloco, copiadoAte, proxima);
+        }
+
+        return (byte) resultado;
+    }
+
+    private CharSequence novoValor(Coluna coluna) {
+
+        if (coluna.getAcao() == Acao.DESFORMATA) {
+            return documento;
+        }
+
+        try {
+            final int tamanho = coluna.getTipo().getFormatador().formata(documento, formatado, 0);
+            valorFormatado.clear();
+            valorFormatado.limit(tamanho);
+            return valorFormatado;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private void localizaColunas(ByteBuffer bloco, int inicio, int fim) {
+
+        if (fixas) {
+            for (int c = 0; c < colunas.length; c++) {
+                final int inicioColuna = inicio + colunas[c].getInicio();
+                final int fimColuna = inicioColuna + colunas[c].getTamanho();
+                final boolean presente = fimColuna <= fim;
+                inicios[c] = presente ? inicioColuna : -1;
+                fins[c] = presente ? fimColuna : -1;
+            }
+            return;
+        }
+
+        int c = 0;
+        int campo = 0;
+        int inicioCampo = inicio;
+
+        // As colunas estão ordenadas pelo índice: uma única passada pela linha
+        for (int i = inicio; i <= fim && c < colunas.length; i++) {
+
+            if (i < fim && bloco.get(i) != delimitador) {
+                continue;
+            }
+
+            if (colunas[c].getIndice() == campo) {
+                inicios[c] = inicioCampo;
+                fins[c] = i;
+                c++;
+            }
+
+            campo++;
+            inicioCampo = i + 1;
+        }
+
+        for (; c < colunas.length; c++) {
+            inicios[c] = -1;
+            fins[c] = -1;
+        }
+    }
+}
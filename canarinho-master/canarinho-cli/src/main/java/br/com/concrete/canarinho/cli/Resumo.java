@@ -0,0 +1,23 @@
+package br.com.concrete.canarinho.cli;
+
+/**
+ * Totais de uma execução.
+ */
+final class Resumo {
+
+    private final long registros;
+    private final long registrosComErro;
+
+    Resumo(long registros, long registrosComErro) {
+        this.registros = registros;
+        this.registrosComErro = registrosComErro;
+    }
+
+    long getRegistros() {
+        return registros;
+    }
+
+    long getRegistrosComErro() {
+        return registrosComErro;
+    }
+}
@@ -0,0 +1,35 @@
+package br.com.concrete.canarinho.cli;
+
+import br.com.concrete.canarinho.formatador.Formatador;
+import br.com.concrete.canarinho.validator.Validador;
+import br.com.concrete.canarinho.validator.ValidadorCPFCNPJ;
+
+/**
+ * Tipos de documento aceitos nas colunas, cada um com o seu {@link Validador} e
+ * {@link Formatador}.
+ */
+enum TipoDeDocumento {
+
+    CPF(Validador.CPF, Formatador.CPF),
+    CNPJ(Validador.CNPJ, Formatador.CNPJ),
+    CPF_CNPJ(ValidadorCPFCNPJ.getInstance(), Formatador.CPF_CNPJ),
+    CEP(Validador.CEP, Formatador.CEP),
+    TELEFONE(Validador.TELEFONE, Formatador.TELEFONE),
+    BOLETO(Validador.BOLETO, Formatador.BOLETO);
+
+    private final Validador validador;
+    private final Formatador formatador;
+
+    TipoDeDocumento(Validador validador, Formatador formatador) {
+        this.validador = validador;
+        this.formatador = formatador;
+    }
+
+    Validador getValidador() {
+        return validador;
+    }
+
+    Formatador getFormatador() {
+        return formatador;
+    }
+}
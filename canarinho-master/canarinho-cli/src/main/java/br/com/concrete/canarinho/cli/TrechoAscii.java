@@ -0,0 +1,61 @@
+package br.com.concrete.canarinho.cli;
+
+import java.nio.ByteBuffer;
+
+/**
+ * {@link CharSequence} sobre um trecho de bytes ASCII de um {@link ByteBuffer}. Permite repassar um
+ * campo do arquivo mapeado para os validadores sem criar uma {@link String} por campo.
+ * <p>
+ * Não é thread-safe: cada tarefa reposiciona a sua própria instância a cada campo.
+ * </p>
+ */
+final class TrechoAscii implements CharSequence {
+
+    private ByteBuffer buffer;
+    private int inicio;
+    private int tamanho;
+
+    /**
+     * Aponta a instância para um novo trecho.
+     *
+     * @param buffer Buffer com os bytes
+     * @param inicio Posição inicial (inclusiva)
+     * @param fim    Posição final (exclusiva)
+     * @return this
+     */
+    TrechoAscii reposiciona(ByteBuffer buffer, int inicio, int fim) {
+        this.buffer = buffer;
+        this.inicio = inicio;
+        this.tamanho = fim - inicio;
+        return this;
+    }
+
+    @Override
+    public int length() {
+        return tamanho;
+    }
+
+    @Override
+    public char charAt(int index) {
+
+        if (index < 0 || index >= tamanho) {
+            throw new IndexOutOfBoundsException("Posição inválida: " + index);
+        }
+
+        return (char) (buffer.get(inicio + index) & 0xFF);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return toString().subSequence(start, end);
+    }
+
+    @Override
+    public String toString() {
+        final char[] chars = new char[tamanho];
+        for (int i = 0; i < tamanho; i++) {
+            chars[i] = charAt(i);
+        }
+        return new String(chars);
+    }
+}
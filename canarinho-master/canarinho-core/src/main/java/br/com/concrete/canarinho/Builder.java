@@ -2,9 +2,9 @@ package br.com.concrete.canarinho;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
-import java.util.LinkedList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Builder.BuilderFinal com interface fluente para criação de instâncias configuradas de
@@ -17,7 +17,12 @@ public class Builder {
     protected boolean complementar;
     protected int modulo;
     protected boolean somarIndividual;
-    protected final SparseArray<String> substituicoes = new SparseArray<>();
+    protected final Map<Integer, String> substituicoes = new HashMap<>();
+
+    // Tabelas resolvidas em build() e repassadas ao DigitoPara
+    protected int[] pesos;
+    protected String[] resultados;
+    protected char[] digitos;
 
     /**
      * TODO Javadoc pendente.
@@ -141,6 +146,22 @@ public class Builder {
         mod(11);
       }
 
+      pesos = new int[multiplicadores.size()];
+
+      for (int i = 0; i < pesos.length; i++) {
+        pesos[i] = multiplicadores.get(i);
+      }
+
+      // O resultado (complementar ou não) vai de 0 até o módulo
+      resultados = new String[modulo + 1];
+      digitos = new char[modulo + 1];
+
+      for (int i = 0; i <= modulo; i++) {
+        final String substituto = substituicoes.get(i);
+        resultados[i] = substituto != null ? substituto : String.valueOf(i);
+        digitos[i] = resultados[i].charAt(0);
+      }
+
       return new DigitoPara(this);
     }
   }
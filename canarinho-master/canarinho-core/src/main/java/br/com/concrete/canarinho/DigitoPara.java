@@ -0,0 +1,191 @@
+package br.com.concrete.canarinho;
+
+/**
+ * Uma fluent interface para o cálculo de dígitos, que é usado em diversos boletos e
+ * documentos.
+ * <p>
+ * Para exemplificar, o dígito do trecho 0000039104766 para os multiplicadores indo de
+ * 2 a 7 e usando módulo 11 é a seguinte:
+ * </p>
+ * <pre>
+ *  0  0  0  0  0  3  9  1  0  4  7  6  6 (trecho numérico)
+ *  2  7  6  5  4  3  2  7  6  5  4  3  2 (multiplicadores, da direita para a esquerda e ciclando)
+ *  ----------------------------------------- multiplicações algarismo a algarismo
+ *   0  0  0  0  0  9 18  7  0 20 28 18 12 -- soma = 112
+ * </pre>
+ * <p>
+ * Tira-se o módulo dessa soma e, então, calcula-se o complementar do módulo e, se o número
+ * for 0, 10 ou 11, o dígito passa a ser 1.
+ * </p>
+ * <pre>
+ *      soma = 112
+ *      soma % 11 = 2
+ *      11 - (soma % 11) = 9
+ * </pre>
+ * <p>
+ * NOTE: Esta é uma versão otimizada para Android inspirada em
+ * https://github.com/caelum/caelum-stella/blob/master/stella-core/src/main/java/br/com/caelum/stella/DigitoPara.java
+ * </p>
+ * <p>
+ * Os multiplicadores e as substituições são resolvidos uma única vez em
+ * {@link Builder.BuilderFinal#build()}. O cálculo percorre o trecho de trás para frente sem
+ * criar objetos: {@link #calculaDigito(CharSequence, int, int)} e
+ * {@link #calculaDigito(char[], int, int)} devolvem o dígito como {@code char}.
+ * </p>
+ * <p>
+ * Instâncias são imutáveis e não guardam estado entre chamadas. Portanto, uma mesma instância
+ * pode ser compartilhada entre threads sem sincronização.
+ * </p>
+ */
+public final class DigitoPara {
+
+    private final int[] multiplicadores;
+    private final boolean complementar;
+    private final int modulo;
+    private final boolean somarIndividual;
+    private final String[] resultados;
+    private final char[] digitos;
+
+    protected DigitoPara(Builder.BuilderFinal builder) {
+
+        // Cópias defensivas: o builder pode ser reutilizado após o build()
+        multiplicadores = builder.pesos.clone();
+        complementar = builder.complementar;
+        modulo = builder.modulo;
+        somarIndividual = builder.somarIndividual;
+        resultados = builder.resultados.clone();
+        digitos = builder.digitos.clone();
+    }
+
+    /**
+     * Faz a soma geral das multiplicações dos algarismos pelos multiplicadores, tira o
+     * módulo e devolve seu complementar.
+     *
+     * @param trecho Bloco para calcular o dígito
+     * @return String o dígito vindo do módulo com o número passado e configurações extra.
+     * @throws IllegalArgumentException se o trecho contiver algo além de dígitos
+     */
+    public final String calcula(String trecho) {
+        return resultados[calculaResultado(trecho, 0, trecho.length())];
+    }
+
+    /**
+     * Calcula o dígito de um trecho de uma {@link CharSequence} sem criar objetos intermediários.
+     * Caso o resultado possua mais de um caracter (ex.: "10" sem substituição), é devolvido o
+     * primeiro, assim como {@code calcula(trecho).charAt(0)}.
+     *
+     * @param trecho Sequência que contém o bloco
+     * @param inicio Posição inicial do bloco (inclusiva)
+     * @param fim    Posição final do bloco (exclusiva)
+     * @return o dígito calculado
+     * @throws IllegalArgumentException se o bloco contiver algo além de dígitos
+     */
+    public final char calculaDigito(CharSequence trecho, int inicio, int fim) {
+        return digitos[calculaResultado(trecho, inicio, fim)];
+    }
+
+    /**
+     * Mesmo que {@link #calculaDigito(CharSequence, int, int)}, mas sobre um array de caracteres.
+     *
+     * @param trecho Array que contém o bloco
+     * @param inicio Posição inicial do bloco (inclusiva)
+     * @param fim    Posição final do bloco (exclusiva)
+     * @return o dígito calculado
+     * @throws IllegalArgumentException se o bloco contiver algo além de dígitos
+     */
+    public final char calculaDigito(char[] trecho, int inicio, int fim) {
+        return digitos[calculaResultado(trecho, inicio, fim)];
+    }
+
+    /**
+     * Calcula o resultado numérico do módulo (já complementado, se configurado) de um trecho, antes
+     * da aplicação das substituições.
+     *
+     * @param trecho Sequência que contém o bloco
+     * @param inicio Posição inicial do bloco (inclusiva)
+     * @param fim    Posição final do bloco (exclusiva)
+     * @return o resultado do módulo
+     * @throws IllegalArgumentException se o bloco contiver algo além de dígitos
+     */
+    public final int calculaResultado(CharSequence trecho, int inicio, int fim) {
+
+        int soma = 0;
+        int multiplicadorDaVez = 0;
+
+        // Percorre da direita para a esquerda, como na tabela acima
+        for (int i = fim - 1; i >= inicio; i--) {
+            final int total = valorDe(trecho.charAt(i)) * multiplicadores[multiplicadorDaVez];
+            soma += somarIndividual ? somaDigitos(total) : total;
+            multiplicadorDaVez = proximoMultiplicador(multiplicadorDaVez);
+        }
+
+        return resultadoDaSoma(soma);
+    }
+
+    /**
+     * Mesmo que {@link #calculaResultado(CharSequence, int, int)}, mas sobre um array de caracteres.
+     *
+     * @param trecho Array que contém o bloco
+     * @param inicio Posição inicial do bloco (inclusiva)
+     * @param fim    Posição final do bloco (exclusiva)
+     * @return o resultado do módulo
+     * @throws IllegalArgumentException se o bloco contiver algo além de dígitos
+     */
+    public final int calculaResultado(char[] trecho, int inicio, int fim) {
+
+        int soma = 0;
+        int multiplicadorDaVez = 0;
+
+        for (int i = fim - 1; i >= inicio; i--) {
+            final int total = valorDe(trecho[i]) * multiplicadores[multiplicadorDaVez];
+            soma += somarIndividual ? somaDigitos(total) : total;
+            multiplicadorDaVez = proximoMultiplicador(multiplicadorDaVez);
+        }
+
+        return resultadoDaSoma(soma);
+    }
+
+    /*
+     * Valor do algarismo. Qualquer outro caracter levaria a soma (e o índice nas substituições)
+     * para fora do intervalo esperado, então é rejeitado.
+     */
+    private static int valorDe(char c) {
+
+        if (c < '0' || c > '9') {
+            throw new IllegalArgumentException("Trecho deve conter apenas dígitos");
+        }
+
+        return c - '0';
+    }
+
+    private int resultadoDaSoma(int soma) {
+
+        final int resultado = soma % modulo;
+
+        return complementar ? modulo - resultado : resultado;
+    }
+
+    /*
+     * soma os dígitos do número (até 2)
+     *
+     * Ex: 18 => 9 (1+8), 12 => 3 (1+2)
+     */
+    private int somaDigitos(int total) {
+        return (total / 10) + (total % 10);
+    }
+
+    /*
+     * Devolve o próximo multiplicador a ser usado, isto é, a próxima posição da lista de
+     * multiplicadores ou, se chegar ao fim da lista, a primeira posição, novamente.
+     */
+    private int proximoMultiplicador(int multiplicadorDaVez) {
+
+        int multiplicador = multiplicadorDaVez + 1;
+
+        if (multiplicador == multiplicadores.length) {
+            multiplicador = 0;
+        }
+
+        return multiplicador;
+    }
+}
@@ -0,0 +1,125 @@
+package br.com.concrete.canarinho;
+
+/**
+ * Utilitário para extrair os dígitos (0 a 9) de um valor sem uso de expressões regulares. É o
+ * equivalente a {@code PADRAO_SOMENTE_NUMEROS.matcher(valor).replaceAll("")}, mas escreve em um
+ * buffer fornecido por quem chama e devolve a quantidade de dígitos encontrados.
+ *
+ * @see DocumentoNormalizado
+ */
+public final class Digitos {
+
+    // No instance creation
+    private Digitos() {
+    }
+
+    /**
+     * Verifica se o caracter é um dígito ASCII.
+     *
+     * @param c Caracter
+     * @return true se estiver entre '0' e '9'
+     */
+    public static boolean ehDigito(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Conta os dígitos de uma sequência.
+     *
+     * @param valor Sequência a ser percorrida
+     * @return quantidade de dígitos
+     */
+    public static int conta(CharSequence valor) {
+        return conta(valor, 0, valor.length());
+    }
+
+    /**
+     * Conta os dígitos de um trecho de uma sequência.
+     *
+     * @param valor  Sequência a ser percorrida
+     * @param inicio Posição inicial (inclusiva)
+     * @param fim    Posição final (exclusiva)
+     * @return quantidade de dígitos
+     */
+    public static int conta(CharSequence valor, int inicio, int fim) {
+
+        int quantidade = 0;
+
+        for (int i = inicio; i < fim; i++) {
+            if (ehDigito(valor.charAt(i))) {
+                quantidade++;
+            }
+        }
+
+        return quantidade;
+    }
+
+    /**
+     * Copia os dígitos de um trecho para um array de caracteres. Caso o destino não comporte
+     * todos os dígitos, os excedentes são apenas contados (o retorno será maior que o espaço
+     * disponível).
+     *
+     * @param valor   Sequência a ser percorrida
+     * @param inicio  Posição inicial (inclusiva)
+     * @param fim     Posição final (exclusiva)
+     * @param destino Array que receberá os dígitos
+     * @param offset  Posição inicial no destino
+     * @return quantidade de dígitos encontrados
+     */
+    public static int extrai(CharSequence valor, int inicio, int fim, char[] destino, int offset) {
+
+        final int limite = destino.length - offset;
+        int quantidade = 0;
+
+        for (int i = inicio; i < fim; i++) {
+
+            final char c = valor.charAt(i);
+
+            if (!ehDigito(c)) {
+                continue;
+            }
+
+            if (quantidade < limite) {
+                destino[offset + quantidade] = c;
+            }
+
+            quantidade++;
+        }
+
+        return quantidade;
+    }
+
+    /**
+     * Mesmo que {@link #extrai(CharSequence, int, int, char[], int)}, mas escreve os dígitos como
+     * bytes ASCII ('0' a '9').
+     *
+     * @param valor   Sequência a ser percorrida
+     * @param inicio  Posição inicial (inclusiva)
+     * @param fim     Posição final (exclusiva)
+     * @param destino Array que receberá os dígitos
+     * @param offset  Posição inicial no destino
+     * @return quantidade de dígitos encontrados
+     */
+    public static int extrai(CharSequence valor, int inicio, int fim, byte[] destino, int offset) {
+
+        final int limite = destino.length - offset;
+        int quantidade = 0;
+
+        for (int i = inicio; i < fim; i++) {
+
+            final char c = valor.charAt(i);
+
+            if (!ehDigito(c)) {
+                continue;
+            }
+
+            if (quantidade < limite) {
+                destino[offset + quantidade] = (byte) c;
+            }
+
+            quantidade++;
+        }
+
+        return quantidade;
+    }
+}
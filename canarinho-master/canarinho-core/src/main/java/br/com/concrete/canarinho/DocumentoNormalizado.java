@@ -0,0 +1,150 @@
+package br.com.concrete.canarinho;
+
+/**
+ * Handle reutilizável com apenas os dígitos de um documento (CPF, CNPJ, CEP, telefone, boleto...).
+ * O valor original é percorrido uma única vez em {@link #normaliza(CharSequence)} e o resultado
+ * pode ser repassado aos validadores sem que cada um precise limpar o valor de novo.
+ * <p>
+ * Não é thread-safe: cada thread (ou cada campo) deve ter a sua instância. O buffer interno só
+ * cresce, então após o aquecimento uma instância reutilizada não aloca mais nada.
+ * </p>
+ */
+public final class DocumentoNormalizado implements CharSequence {
+
+    private static final int CAPACIDADE_PADRAO = 48;
+
+    private char[] digitos;
+    private int tamanho;
+
+    /**
+     * Cria um handle com capacidade para o maior documento suportado (boleto de 48 dígitos).
+     */
+    public DocumentoNormalizado() {
+        this(CAPACIDADE_PADRAO);
+    }
+
+    /**
+     * Cria um handle com capacidade inicial customizada.
+     *
+     * @param capacidade Quantidade inicial de dígitos suportada
+     */
+    public DocumentoNormalizado(int capacidade) {
+        digitos = new char[capacidade];
+    }
+
+    /**
+     * Substitui o conteúdo pelos dígitos do valor informado.
+     *
+     * @param valor Valor formatado ou não
+     * @return this
+     */
+    public DocumentoNormalizado normaliza(CharSequence valor) {
+        return normaliza(valor, 0, valor.length());
+    }
+
+    /**
+     * Substitui o conteúdo pelos dígitos do trecho informado.
+     *
+     * @param valor  Valor formatado ou não
+     * @param inicio Posição inicial (inclusiva)
+     * @param fim    Posição final (exclusiva)
+     * @return this
+     */
+    public DocumentoNormalizado normaliza(CharSequence valor, int inicio, int fim) {
+
+        if (valor == null) {
+            throw new IllegalArgumentException("Valor não pode ser nulo");
+        }
+
+        tamanho = Digitos.extrai(valor, inicio, fim, digitos, 0);
+
+        // Raro: só acontece quando o valor tem mais dígitos que a capacidade atual
+        if (tamanho > digitos.length) {
+            digitos = new char[tamanho];
+            Digitos.extrai(valor, inicio, fim, digitos, 0);
+        }
+
+        return this;
+    }
+
+    /**
+     * Substitui o conteúdo pelos dígitos de um trecho de bytes ASCII (ex.: um registro de tamanho
+     * fixo de um arquivo).
+     *
+     * @param registros Bytes ASCII
+     * @param inicio    Posição inicial (inclusiva)
+     * @param fim       Posição final (exclusiva)
+     * @return this
+     */
+    public DocumentoNormalizado normaliza(byte[] registros, int inicio, int fim) {
+
+        if (digitos.length < fim - inicio) {
+            digitos = new char[fim - inicio];
+        }
+
+        tamanho = 0;
+
+        for (int i = inicio; i < fim; i++) {
+
+            final char c = (char) registros[i];
+
+            if (Digitos.ehDigito(c)) {
+                digitos[tamanho++] = c;
+            }
+        }
+
+        return this;
+    }
+
+    /**
+     * Remove um dígito, deslocando os seguintes uma posição para trás.
+     *
+     * @param indice Posição do dígito a remover
+     * @return this
+     */
+    public DocumentoNormalizado descarta(int indice) {
+
+        if (indice < 0 || indice >= tamanho) {
+            throw new IndexOutOfBoundsException("Posição inválida: " + indice);
+        }
+
+        System.arraycopy(digitos, indice + 1, digitos, indice, tamanho - indice - 1);
+        tamanho--;
+
+        return this;
+    }
+
+    /**
+     * Acesso direto ao buffer. Apenas as posições de 0 até {@link #length()} são válidas.
+     *
+     * @return buffer interno com os dígitos
+     */
+    public char[] getDigitos() {
+        return digitos;
+    }
+
+    @Override
+    public int length() {
+        return tamanho;
+    }
+
+    @Override
+    public char charAt(int index) {
+
+        if (index < 0 || index >= tamanho) {
+            throw new IndexOutOfBoundsException("Posição inválida: " + index);
+        }
+
+        return digitos[index];
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return toString().subSequence(start, end);
+    }
+
+    @Override
+    public String toString() {
+        return new String(digitos, 0, tamanho);
+    }
+}
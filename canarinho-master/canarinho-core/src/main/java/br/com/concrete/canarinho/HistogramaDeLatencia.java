@@ -0,0 +1,155 @@
+package br.com.concrete.canarinho;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histograma de latências (em nanossegundos) com faixas fixas, para medições feitas em caminhos
+ * quentes como a digitação em um campo.
+ * <p>
+ * Valores até 15 têm uma faixa cada; a partir daí cada potência de 2 é dividida em 8 faixas, então
+ * o erro relativo de um percentil é de no máximo 12,5%. As 488 faixas cobrem qualquer {@code long}
+ * positivo e são alocadas na construção: registrar um valor é calcular o índice da faixa e
+ * incrementar um contador atômico, sem travas e sem alocação.
+ * </p>
+ * <p>
+ * Pode ser usado por várias threads ao mesmo tempo. As consultas leem os contadores um a um, então
+ * um percentil calculado durante registros concorrentes pode não incluir os mais recentes.
+ * </p>
+ */
+public final class HistogramaDeLatencia {
+
+    // Valores abaixo deste têm uma faixa cada
+    private static final int FAIXAS_EXATAS = 16;
+    private static final int EXPOENTE_INICIAL = 4;
+
+    // Faixas por potência de 2 (2^3)
+    private static final int BITS_POR_POTENCIA = 3;
+    private static final int FAIXAS_POR_POTENCIA = 1 << BITS_POR_POTENCIA;
+
+    private static final int QUANTIDADE_DE_FAIXAS = FAIXAS_EXATAS + (63 - EXPOENTE_INICIAL) * FAIXAS_POR_POTENCIA;
+
+    private final AtomicLongArray faixas = new AtomicLongArray(QUANTIDADE_DE_FAIXAS);
+    private final AtomicLong maximo = new AtomicLong();
+
+    /**
+     * Registra uma medição. Valores negativos são registrados como 0.
+     *
+     * @param nanos Duração em nanossegundos
+     */
+    public void registra(long nanos) {
+
+        final long valor = nanos < 0 ? 0 : nanos;
+        faixas.incrementAndGet(faixaDe(valor));
+
+        long atual = maximo.get();
+        while (valor > atual && !maximo.compareAndSet(atual, valor)) {
+            atual = maximo.get();
+        }
+    }
+
+    /**
+     * Quantidade de medições registradas.
+     *
+     * @return Quantidade de medições
+     */
+    public long getQuantidade() {
+
+        long quantidade = 0;
+        for (int i = 0; i < QUANTIDADE_DE_FAIXAS; i++) {
+            quantidade += faixas.get(i);
+        }
+
+        return quantidade;
+    }
+
+    /**
+     * Maior valor registrado (exato).
+     *
+     * @return Maior duração em nanossegundos ou 0 se não houver medições
+     */
+    public long getMaximo() {
+        return maximo.get();
+    }
+
+    /**
+     * Calcula um percentil. O valor retornado é o limite superior da faixa em que o percentil cai
+     * (nunca maior que o {@link #getMaximo() máximo}), ou seja, ao menos o percentual informado das
+     * medições foi menor ou igual a ele.
+     *
+     * @param percentual Percentual entre 0 e 100 (ex.: 99.9)
+     * @return Duração em nanossegundos ou 0 se não houver medições
+     * @throws IllegalArgumentException se o percentual estiver fora do intervalo
+     */
+    public long percentil(double percentual) {
+
+        if (!(percentual >= 0 && percentual <= 100)) {
+            throw new IllegalArgumentException("Percentual deve estar entre 0 e 100");
+        }
+
+        final long[] copia = new long[QUANTIDADE_DE_FAIXAS];
+        long quantidade = 0;
+        for (int i = 0; i < QUANTIDADE_DE_FAIXAS; i++) {
+            copia[i] = faixas.get(i);
+            quantidade += copia[i];
+        }
+
+        if (quantidade == 0) {
+            return 0;
+        }
+
+        final long posicao = Math.max(1, (long) Math.ceil(quantidade * percentual / 100));
+        final long maior = maximo.get();
+
+        long acumulado = 0;
+        for (int i = 0; i < QUANTIDADE_DE_FAIXAS; i++) {
+            acumulado += copia[i];
+            if (acumulado >= posicao) {
+                return Math.min(limiteSuperior(i), maior);
+            }
+        }
+
+        return maior;
+    }
+
+    /**
+     * Descarta todas as medições. Registros concorrentes com esta chamada podem ser mantidos ou
+     * descartados.
+     */
+    public void zera() {
+        for (int i = 0; i < QUANTIDADE_DE_FAIXAS; i++) {
+            faixas.set(i, 0);
+        }
+        maximo.set(0);
+    }
+
+    private static int faixaDe(long valor) {
+
+        if (valor < FAIXAS_EXATAS) {
+            return (int) valor;
+        }
+
+        final int expoente = 63 - Long.numberOfLeadingZeros(valor);
+        final int subfaixa = (int) (valor >>> (expoente - BITS_POR_POTENCIA)) & (FAIXAS_POR_POTENCIA - 1);
+
+        return FAIXAS_EXATAS + (expoente - EXPOENTE_INICIAL) * FAIXAS_POR_POTENCIA + subfaixa;
+    }
+
+    private static long limiteSuperior(int faixa) {
+
+        if (faixa < FAIXAS_EXATAS) {
+            return faixa;
+        }
+
+        final int expoente = EXPOENTE_INICIAL + (faixa - FAIXAS_EXATAS) / FAIXAS_POR_POTENCIA;
+        final int subfaixa = (faixa - FAIXAS_EXATAS) % FAIXAS_POR_POTENCIA;
+        final int largura = expoente - BITS_POR_POTENCIA;
+
+        // A última faixa termina em Long.MAX_VALUE
+        if (expoente == 62 && subfaixa == FAIXAS_POR_POTENCIA - 1) {
+            return Long.MAX_VALUE;
+        }
+
+        return ((long) (FAIXAS_POR_POTENCIA + subfaixa + 1) << largura) - 1;
+    }
+}
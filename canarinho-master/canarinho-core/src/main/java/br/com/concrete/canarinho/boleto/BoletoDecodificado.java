@@ -0,0 +1,365 @@
+package br.com.concrete.canarinho.boleto;
+
+import br.com.concrete.canarinho.Digitos;
+
+/**
+ * Leitura dos campos de um boleto a partir do código de barras (44 dígitos) ou da linha digitável
+ * (47 dígitos para boletos bancários e 48 para arrecadação/tributos), formatados ou não.
+ * <p>
+ * A instância é um flyweight reutilizável: {@link #decodifica(CharSequence)} copia os dígitos para
+ * buffers de tamanho fixo e todos os campos são lidos como primitivos, sem criar Strings. Para
+ * importar arquivos de retorno basta uma instância por thread.
+ * </p>
+ * <p>
+ * Não é thread-safe.
+ * </p>
+ */
+public final class BoletoDecodificado {
+
+    /**
+     * Valor retornado por {@link #getVencimento(long)} quando o boleto não tem vencimento (fator
+     * 0000).
+     */
+    public static final long SEM_VENCIMENTO = Long.MIN_VALUE;
+
+    private static final long MILISSEGUNDOS_POR_DIA = 24L * 60 * 60 * 1000;
+
+    // Segmento cuja identificação da empresa é o CNPJ (8 dígitos) e não um código de 4 dígitos
+    private static final char SEGMENTO_COM_CNPJ = '6';
+
+    private final char[] digitos = new char[RegrasDeBoleto.TAMANHO_LINHA_ARRECADACAO];
+    private final char[] codigo = new char[RegrasDeBoleto.TAMANHO_CODIGO];
+
+    private boolean reconhecido;
+    private boolean tributo;
+    private int blocoInvalido;
+
+    /**
+     * Decodifica um novo valor, substituindo o anterior. Caracteres que não são dígitos são
+     * ignorados.
+     *
+     * @param valor Código de barras ou linha digitável
+     * @return this
+     */
+    public BoletoDecodificado decodifica(CharSequence valor) {
+
+        if (valor == null) {
+            throw new IllegalArgumentException("Valor não pode ser nulo");
+        }
+
+        final int tamanho = Digitos.extrai(valor, 0, valor.length(), digitos, 0);
+
+        reconhecido = true;
+        blocoInvalido = 0;
+        tributo = tamanho > 0 && digitos[0] == '8';
+
+        if (tamanho == RegrasDeBoleto.TAMANHO_CODIGO) {
+            System.arraycopy(digitos, 0, codigo, 0, RegrasDeBoleto.TAMANHO_CODIGO);
+        } else if (tamanho == RegrasDeBoleto.TAMANHO_LINHA_BANCARIA && !tributo) {
+            decodificaLinhaBancaria();
+        } else if (tamanho == RegrasDeBoleto.TAMANHO_LINHA_ARRECADACAO && tributo) {
+            decodificaLinhaDeArrecadacao();
+        } else {
+            reconhecido = false;
+        }
+
+        return this;
+    }
+
+    /**
+     * Indica se o último valor tinha um dos tamanhos aceitos. Os demais métodos só podem ser
+     * chamados quando este retorna true.
+     *
+     * @return true se o formato foi reconhecido
+     */
+    public boolean isReconhecido() {
+        return reconhecido;
+    }
+
+    /**
+     * Indica se o formato foi reconhecido e todos os dígitos verificadores (dos blocos da linha
+     * digitável e o geral) conferem.
+     *
+     * @return true se o boleto for válido
+     */
+    public boolean isValido() {
+        return reconhecido && blocoInvalido == 0 && isDigitoGeralValido();
+    }
+
+    /**
+     * Bloco da linha digitável cujo DV não confere (o primeiro encontrado).
+     *
+     * @return De 1 a 4 ou 0 se todos conferem (ou se o valor era um código de barras)
+     */
+    public int getBlocoInvalido() {
+        confereReconhecido();
+        return blocoInvalido;
+    }
+
+    /**
+     * Confere o DV geral do código de barras (posição 5 nos boletos bancários e 4 nos de
+     * arrecadação).
+     *
+     * @return true se o DV geral confere
+     */
+    public boolean isDigitoGeralValido() {
+        confereReconhecido();
+        return tributo
+                ? RegrasDeBoleto.digitoGeralArrecadacao(codigo, 0) == codigo[RegrasDeBoleto.POSICAO_DV_ARRECADACAO]
+                : RegrasDeBoleto.digitoGeralBancario(codigo, 0) == codigo[RegrasDeBoleto.POSICAO_DV_BANCARIO];
+    }
+
+    /**
+     * Indica se é um boleto de arrecadação (tributos e concessionárias, iniciados com 8).
+     *
+     * @return true para arrecadação e false para boletos bancários
+     */
+    public boolean ehTributo() {
+        confereReconhecido();
+        return tributo;
+    }
+
+    /**
+     * Dígito do código de barras na posição informada.
+     *
+     * @param posicao De 0 a 43
+     * @return Dígito ASCII
+     */
+    public char getDigito(int posicao) {
+        confereReconhecido();
+        return codigo[posicao];
+    }
+
+    /**
+     * Copia o código de barras (44 dígitos) para o array informado.
+     *
+     * @param destino Array de destino
+     * @param inicio  Posição inicial no destino
+     * @return Quantidade de dígitos copiados
+     */
+    public int copiaCodigoDeBarras(char[] destino, int inicio) {
+        confereReconhecido();
+        System.arraycopy(codigo, 0, destino, inicio, RegrasDeBoleto.TAMANHO_CODIGO);
+        return RegrasDeBoleto.TAMANHO_CODIGO;
+    }
+
+    /**
+     * DV geral do código de barras.
+     *
+     * @return De 0 a 9
+     */
+    public int getDigitoGeral() {
+        confereReconhecido();
+        return codigo[tributo ? RegrasDeBoleto.POSICAO_DV_ARRECADACAO : RegrasDeBoleto.POSICAO_DV_BANCARIO] - '0';
+    }
+
+    /**
+     * Valor do boleto em centavos. Em boletos de arrecadação com valor de referência (veja
+     * {@link #isValorEfetivo()}) é uma quantidade de moeda e não um valor em reais.
+     *
+     * @return Valor em centavos ou 0 se o boleto não tiver valor
+     */
+    public long getValorEmCentavos() {
+        confereReconhecido();
+        return tributo ? numero(4, 15) : numero(9, 19);
+    }
+
+    // Bancário
+
+    /**
+     * Código do banco (posições 1 a 3).
+     *
+     * @return Código do banco
+     */
+    public int getBanco() {
+        confereBancario();
+        return (int) numero(0, 3);
+    }
+
+    /**
+     * Código da moeda (posição 4; 9 é Real).
+     *
+     * @return Código da moeda
+     */
+    public int getMoeda() {
+        confereBancario();
+        return codigo[3] - '0';
+    }
+
+    /**
+     * Fator de vencimento (posições 6 a 9).
+     *
+     * @return De 1000 a 9999 ou 0 se não houver vencimento
+     */
+    public int getFatorDeVencimento() {
+        confereBancario();
+        return (int) numero(5, 9);
+    }
+
+    /**
+     * Data de vencimento tomando hoje como referência para o ciclo do fator.
+     *
+     * @return Dias desde 01/01/1970 ou {@link #SEM_VENCIMENTO}
+     * @see #getVencimento(long)
+     */
+    public long getVencimento() {
+        return getVencimento(System.currentTimeMillis() / MILISSEGUNDOS_POR_DIA);
+    }
+
+    /**
+     * Data de vencimento. O fator de vencimento voltou de 9999 para 1000 em 22/02/2025, então o
+     * mesmo fator corresponde a mais de uma data; é usada a mais próxima da data de referência
+     * (normalmente a data de emissão ou de pagamento).
+     *
+     * @param diaDeReferencia Dias desde 01/01/1970 (ex.: {@code LocalDate.toEpochDay()})
+     * @return Dias desde 01/01/1970 ou {@link #SEM_VENCIMENTO}
+     */
+    public long getVencimento(long diaDeReferencia) {
+        final int fator = getFatorDeVencimento();
+        return fator == 0 ? SEM_VENCIMENTO : RegrasDeBoleto.diaDoVencimento(fator, diaDeReferencia);
+    }
+
+    /**
+     * Copia o campo livre (posições 20 a 44, definidas por cada banco).
+     *
+     * @param destino Array de destino
+     * @param inicio  Posição inicial no destino
+     * @return Quantidade de dígitos copiados (25)
+     */
+    public int copiaCampoLivre(char[] destino, int inicio) {
+        confereBancario();
+        return copia(19, destino, inicio);
+    }
+
+    // Arrecadação
+
+    /**
+     * Segmento (posição 2): 1 prefeituras, 2 saneamento, 3 energia e gás, 4 telecomunicações, 5
+     * órgãos governamentais, 6 empresas identificadas pelo CNPJ, 7 multas de trânsito e 9 uso
+     * exclusivo do banco.
+     *
+     * @return Segmento
+     */
+    public int getSegmento() {
+        confereArrecadacao();
+        return codigo[1] - '0';
+    }
+
+    /**
+     * Identificador de valor (posição 3): 6 e 8 para valor efetivo em reais, 7 e 9 para valor de
+     * referência.
+     *
+     * @return Identificador de valor
+     */
+    public int getIdentificadorDeValor() {
+        confereArrecadacao();
+        return codigo[2] - '0';
+    }
+
+    /**
+     * Indica se o valor é efetivo (em reais) e não uma quantidade de moeda de referência.
+     *
+     * @return true para identificadores de valor 6 e 8
+     */
+    public boolean isValorEfetivo() {
+        final int identificador = getIdentificadorDeValor();
+        return identificador == 6 || identificador == 8;
+    }
+
+    /**
+     * Identificação da empresa ou órgão: 4 dígitos (posições 16 a 19) ou, no segmento 6, os 8
+     * primeiros dígitos do CNPJ (posições 16 a 23).
+     *
+     * @return Identificação da empresa
+     */
+    public long getIdentificacaoDaEmpresa() {
+        confereArrecadacao();
+        return numero(15, fimDaIdentificacaoDaEmpresa());
+    }
+
+    /**
+     * Copia o campo livre de arrecadação (após a identificação da empresa).
+     *
+     * @param destino Array de destino
+     * @param inicio  Posição inicial no destino
+     * @return Quantidade de dígitos copiados (25 ou, no segmento 6, 21)
+     */
+    public int copiaCampoLivreDeArrecadacao(char[] destino, int inicio) {
+        confereArrecadacao();
+        return copia(fimDaIdentificacaoDaEmpresa(), destino, inicio);
+    }
+
+    private int fimDaIdentificacaoDaEmpresa() {
+        return codigo[1] == SEGMENTO_COM_CNPJ ? 23 : 19;
+    }
+
+    private void decodificaLinhaBancaria() {
+
+        for (int i = 0; i < RegrasDeBoleto.TAMANHO_CODIGO; i++) {
+            codigo[i] = digitos[RegrasDeBoleto.CODIGO_PARA_LINHA_BANCARIA[i]];
+        }
+
+        int inicio = 0;
+        for (int campo = 0; campo < RegrasDeBoleto.FIM_DOS_CAMPOS_BANCARIOS.length; campo++) {
+            final int fim = RegrasDeBoleto.FIM_DOS_CAMPOS_BANCARIOS[campo];
+
+            if (blocoInvalido == 0 && RegrasDeBoleto.modulo10(digitos, inicio, fim - 1, -1) != digitos[fim - 1]) {
+                blocoInvalido = campo + 1;
+            }
+
+            inicio = fim;
+        }
+    }
+
+    private void decodificaLinhaDeArrecadacao() {
+
+        final boolean modulo10 = RegrasDeBoleto.usaModulo10(digitos[2]);
+        final int dados = RegrasDeBoleto.TAMANHO_BLOCO_ARRECADACAO - 1;
+
+        for (int bloco = 0; bloco < RegrasDeBoleto.BLOCOS_ARRECADACAO; bloco++) {
+            final int inicio = bloco * RegrasDeBoleto.TAMANHO_BLOCO_ARRECADACAO;
+            final int fim = inicio + dados;
+
+            System.arraycopy(digitos, inicio, codigo, bloco * dados, dados);
+
+            if (blocoInvalido == 0
+                    && RegrasDeBoleto.digitoArrecadacao(digitos, inicio, fim, -1, modulo10) != digitos[fim]) {
+                blocoInvalido = bloco + 1;
+            }
+        }
+    }
+
+    private long numero(int inicio, int fim) {
+        long numero = 0;
+        for (int i = inicio; i < fim; i++) {
+            numero = numero * 10 + (codigo[i] - '0');
+        }
+        return numero;
+    }
+
+    private int copia(int inicio, char[] destino, int inicioDestino) {
+        final int quantidade = RegrasDeBoleto.TAMANHO_CODIGO - inicio;
+        System.arraycopy(codigo, inicio, destino, inicioDestino, quantidade);
+        return quantidade;
+    }
+
+    private void confereReconhecido() {
+        if (!reconhecido) {
+            throw new IllegalStateException("Nenhum boleto reconhecido foi decodificado");
+        }
+    }
+
+    private void confereBancario() {
+        confereReconhecido();
+        if (tributo) {
+            throw new IllegalStateException("Campo exclusivo de boletos bancários");
+        }
+    }
+
+    private void confereArrecadacao() {
+        confereReconhecido();
+        if (!tributo) {
+            throw new IllegalStateException("Campo exclusivo de boletos de arrecadação");
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package br.com.concrete.canarinho.boleto;
+
+/**
+ * Geração do código de barras (44 dígitos) e da linha digitável de boletos bancários e de
+ * arrecadação/tributos a partir dos seus campos, calculando todos os dígitos verificadores.
+ * <p>
+ * Os dígitos são escritos diretamente em arrays fornecidos pelo chamador, que podem ser
+ * reutilizados entre boletos: nenhuma operação aloca objetos. A classe não tem estado e pode ser
+ * usada por várias threads ao mesmo tempo, desde que cada uma use os seus próprios buffers.
+ * </p>
+ *
+ * @see BoletoDecodificado
+ */
+public final class GeradorDeBoleto {
+
+    /**
+     * Código da moeda Real.
+     */
+    public static final int MOEDA_REAL = 9;
+
+    private static final long VALOR_MAXIMO_BANCARIO = 9999999999L;
+    private static final long VALOR_MAXIMO_ARRECADACAO = 99999999999L;
+
+    private static final int TAMANHO_CAMPO_LIVRE = 25;
+
+    // No segmento 6 a empresa é identificada pelos 8 primeiros dígitos do CNPJ
+    private static final int SEGMENTO_COM_CNPJ = 6;
+
+    // No instance creation
+    private GeradorDeBoleto() {
+    }
+
+    /**
+     * Escreve o código de barras de um boleto bancário.
+     *
+     * @param banco           Código do banco (de 0 a 999)
+     * @param moeda           Código da moeda (de 0 a 9, normalmente {@link #MOEDA_REAL})
+     * @param vencimento      Dias desde 01/01/1970 ou {@link BoletoDecodificado#SEM_VENCIMENTO}
+     * @param valorEmCentavos Valor (até 10 dígitos)
+     * @param campoLivre      25 dígitos de uso do banco
+     * @param destino         Array de destino
+     * @param inicio          Posição inicial no destino
+     * @return Quantidade de dígitos escritos (44)
+     * @throws IllegalArgumentException se algum campo estiver fora do layout ou não couber no
+     *                                  destino
+     */
+    public static int codigoBancario(int banco, int moeda, long vencimento, long valorEmCentavos,
+                                     CharSequence campoLivre, char[] destino, int inicio) {
+
+        confereIntervalo(banco, 999, "Banco");
+        confereIntervalo(moeda, 9, "Moeda");
+        confereIntervalo(valorEmCentavos, VALOR_MAXIMO_BANCARIO, "Valor");
+        confereCampoLivre(campoLivre, TAMANHO_CAMPO_LIVRE);
+        confereDestino(destino, inicio, RegrasDeBoleto.TAMANHO_CODIGO);
+
+        final int fator = vencimento == BoletoDecodificado.SEM_VENCIMENTO
+                ? 0
+                : RegrasDeBoleto.fatorDeVencimento(vencimento);
+
+        escreveNumero(banco, destino, inicio, 3);
+        destino[inicio + 3] = (char) ('0' + moeda);
+        escreveNumero(fator, destino, inicio + 5, 4);
+        escreveNumero(valorEmCentavos, destino, inicio + 9, 10);
+        copiaCampoLivre(campoLivre, destino, inicio + 19);
+
+        destino[inicio + RegrasDeBoleto.POSICAO_DV_BANCARIO] = RegrasDeBoleto.digitoGeralBancario(destino, inicio);
+        return RegrasDeBoleto.TAMANHO_CODIGO;
+    }
+
+    /**
+     * Escreve o código de barras de um boleto de arrecadação (concessionárias e tributos).
+     *
+     * @param segmento               Segmento (de 1 a 9)
+     * @param identificadorDeValor   6 ou 8 para valor efetivo, 7 ou 9 para valor de referência.
+     *                               Define também o módulo dos dígitos verificadores (10 para 6 e
+     *                               7, 11 para 8 e 9)
+     * @param valorEmCentavos        Valor (até 11 dígitos)
+     * @param identificacaoDaEmpresa Código da empresa com 4 dígitos ou, no segmento 6, os 8
+     *                               primeiros dígitos do CNPJ
+     * @param campoLivre             Dígitos restantes de uso da empresa: 25 ou, no segmento 6, 21
+     * @param destino                Array de destino
+     * @param inicio                 Posição inicial no destino
+     * @return Quantidade de dígitos escritos (44)
+     * @throws IllegalArgumentException se algum campo estiver fora do layout ou não couber no
+     *                                  destino
+     */
+    public static int codigoDeArrecadacao(int segmento, int identificadorDeValor, long valorEmCentavos,
+                                          long identificacaoDaEmpresa, CharSequence campoLivre,
+                                          char[] destino, int inicio) {
+
+        if (segmento < 1 || segmento > 9) {
+            throw new IllegalArgumentException("Segmento deve estar entre 1 e 9");
+        }
+
+        if (identificadorDeValor < 6 || identificadorDeValor > 9) {
+            throw new IllegalArgumentException("Identificador de valor deve estar entre 6 e 9");
+        }
+
+        final int tamanhoEmpresa = segmento == SEGMENTO_COM_CNPJ ? 8 : 4;
+
+        confereIntervalo(valorEmCentavos, VALOR_MAXIMO_ARRECADACAO, "Valor");
+        confereIntervalo(identificacaoDaEmpresa, tamanhoEmpresa == 8 ? 99999999L : 9999L,
+                "Identificação da empresa");
+        confereCampoLivre(campoLivre, TAMANHO_CAMPO_LIVRE - tamanhoEmpresa + 4);
+        confereDestino(destino, inicio, RegrasDeBoleto.TAMANHO_CODIGO);
+
+        destino[inicio] = '8';
+        destino[inicio + 1] = (char) ('0' + segmento);
+        destino[inicio + 2] = (char) ('0' + identificadorDeValor);
+        escreveNumero(valorEmCentavos, destino, inicio + 4, 11);
+        escreveNumero(identificacaoDaEmpresa, destino, inicio + 15, tamanhoEmpresa);
+        copiaCampoLivre(campoLivre, destino, inicio + 15 + tamanhoEmpresa);
+
+        destino[inicio + RegrasDeBoleto.POSICAO_DV_ARRECADACAO] =
+                RegrasDeBoleto.digitoGeralArrecadacao(destino, inicio);
+        return RegrasDeBoleto.TAMANHO_CODIGO;
+    }
+
+    /**
+     * Converte um código de barras completo (com o DV geral) na linha digitável correspondente,
+     * sem formatação, calculando os DVs de cada campo.
+     *
+     * @param codigo        Código de barras bancário ou de arrecadação
+     * @param inicioCodigo  Posição do código de barras no array
+     * @param destino       Array de destino
+     * @param inicio        Posição inicial no destino
+     * @return Quantidade de dígitos escritos: 47 para boletos bancários e 48 para arrecadação
+     * @throws IllegalArgumentException se a linha não couber no destino
+     */
+    public static int linhaDigitavel(char[] codigo, int inicioCodigo, char[] destino, int inicio) {
+
+        confereDestino(codigo, inicioCodigo, RegrasDeBoleto.TAMANHO_CODIGO);
+
+        final boolean arrecadacao = codigo[inicioCodigo] == '8';
+        confereDestino(destino, inicio, arrecadacao
+                ? RegrasDeBoleto.TAMANHO_LINHA_ARRECADACAO
+                : RegrasDeBoleto.TAMANHO_LINHA_BANCARIA);
+
+        for (int i = 0; i < RegrasDeBoleto.TAMANHO_CODIGO; i++) {
+            destino[inicio + RegrasDeBoleto.posicaoNaLinha(i, arrecadacao)] = codigo[inicioCodigo + i];
+        }
+
+        return RegrasDeBoleto.escreveDigitosDosCampos(destino, inicio, arrecadacao);
+    }
+
+    /**
+     * Converte um código de barras completo na linha digitável correspondente, sem formatação, em
+     * uma única passada.
+     *
+     * @param codigo  Código de barras com exatamente 44 dígitos
+     * @param destino Array de destino
+     * @param inicio  Posição inicial no destino
+     * @return Quantidade de dígitos escritos: 47 para boletos bancários e 48 para arrecadação
+     * @throws IllegalArgumentException se o código não tiver 44 dígitos ou a linha não couber no
+     *                                  destino
+     */
+    public static int linhaDigitavel(CharSequence codigo, char[] destino, int inicio) {
+
+        if (codigo == null) {
+            throw new IllegalArgumentException("Valor não pode ser nulo");
+        }
+
+        final boolean arrecadacao = codigo.length() > 0 && codigo.charAt(0) == '8';
+        confereDestino(destino, inicio, arrecadacao
+                ? RegrasDeBoleto.TAMANHO_LINHA_ARRECADACAO
+                : RegrasDeBoleto.TAMANHO_LINHA_BANCARIA);
+
+        return RegrasDeBoleto.escreveLinhaDigitavel(codigo, destino, inicio);
+    }
+
+    /**
+     * Converte uma linha digitável, formatada ou não, no código de barras correspondente. Os
+     * caracteres que não são dígitos são ignorados e os DVs dos campos são descartados sem
+     * conferência (use {@link BoletoDecodificado} para validá-los).
+     *
+     * @param linha   Linha digitável com 47 (bancário) ou 48 (arrecadação) dígitos
+     * @param destino Array de destino
+     * @param inicio  Posição inicial no destino
+     * @return Quantidade de dígitos escritos (44)
+     * @throws IllegalArgumentException se a linha não tiver a quantidade de dígitos esperada ou o
+     *                                  código não couber no destino
+     */
+    public static int codigoDeBarras(CharSequence linha, char[] destino, int inicio) {
+
+        if (linha == null) {
+            throw new IllegalArgumentException("Valor não pode ser nulo");
+        }
+
+        confereDestino(destino, inicio, RegrasDeBoleto.TAMANHO_CODIGO);
+        return RegrasDeBoleto.escreveCodigoDeBarras(linha, destino, inicio);
+    }
+
+    private static void escreveNumero(long numero, char[] destino, int inicio, int tamanho) {
+
+        long restante = numero;
+        for (int i = inicio + tamanho - 1; i >= inicio; i--) {
+            destino[i] = (char) ('0' + restante % 10);
+            restante /= 10;
+        }
+    }
+
+    private static void copiaCampoLivre(CharSequence campoLivre, char[] destino, int inicio) {
+        for (int i = 0; i < campoLivre.length(); i++) {
+            destino[inicio + i] = campoLivre.charAt(i);
+        }
+    }
+
+    private static void confereIntervalo(long valor, long maximo, String campo) {
+        if (valor < 0 || valor > maximo) {
+            throw new IllegalArgumentException(campo + " deve estar entre 0 e " + maximo);
+        }
+    }
+
+    private static void confereCampoLivre(CharSequence campoLivre, int tamanho) {
+
+        if (campoLivre == null || campoLivre.length() != tamanho) {
+            throw new IllegalArgumentException("Campo livre deve ter " + tamanho + " dígitos");
+        }
+
+        for (int i = 0; i < tamanho; i++) {
+            final char c = campoLivre.charAt(i);
+            if (c < '0' || c > '9') {
+                throw new IllegalArgumentException("Campo livre deve conter apenas números");
+            }
+        }
+    }
+
+    private static void confereDestino(char[] destino, int inicio, int tamanho) {
+        if (destino == null || inicio < 0 || destino.length - inicio < tamanho) {
+            throw new IllegalArgumentException("Array deve ter espaço para " + tamanho + " dígitos");
+        }
+    }
+}
@@ -0,0 +1,346 @@
+package br.com.concrete.canarinho.boleto;
+
+import java.util.Arrays;
+
+/**
+ * Layouts e cálculos comuns à leitura e à geração de boletos (padrão FEBRABAN). Todas as operações
+ * trabalham sobre arrays de dígitos ASCII e não alocam objetos.
+ */
+final class RegrasDeBoleto {
+
+    /**
+     * Tamanho do código de barras (bancário ou de arrecadação).
+     */
+    static final int TAMANHO_CODIGO = 44;
+
+    /**
+     * Tamanho da linha digitável de boletos bancários.
+     */
+    static final int TAMANHO_LINHA_BANCARIA = 47;
+
+    /**
+     * Tamanho da linha digitável de arrecadação (tributos e concessionárias).
+     */
+    static final int TAMANHO_LINHA_ARRECADACAO = 48;
+
+    /**
+     * Posição do dígito verificador geral no código de barras bancário.
+     */
+    static final int POSICAO_DV_BANCARIO = 4;
+
+    /**
+     * Posição do dígito verificador geral no código de barras de arrecadação.
+     */
+    static final int POSICAO_DV_ARRECADACAO = 3;
+
+    /**
+     * Para cada posição do código de barras bancário, a posição correspondente na linha digitável.
+     */
+    static final int[] CODIGO_PARA_LINHA_BANCARIA = {
+        // Banco e moeda
+        0, 1, 2, 3,
+        // DV geral (campo 4)
+        32,
+        // Fator de vencimento e valor (campo 5)
+        33, 34, 35, 36, 37, 38, 39, 40, 41, 42, 43, 44, 45, 46,
+        // Campo livre (campos 1, 2 e 3, sem os DVs)
+        4, 5, 6, 7, 8,
+        10, 11, 12, 13, 14, 15, 16, 17, 18, 19,
+        21, 22, 23, 24, 25, 26, 27, 28, 29, 30
+    };
+
+    /**
+     * Fim (exclusivo) de cada campo da linha digitável bancária com DV próprio. O início é o fim do
+     * campo anterior e o último dígito de cada campo é o DV.
+     */
+    static final int[] FIM_DOS_CAMPOS_BANCARIOS = {10, 21, 32};
+
+    /**
+     * Quantidade de dígitos de cada bloco da linha digitável de arrecadação (11 dígitos + DV).
+     */
+    static final int TAMANHO_BLOCO_ARRECADACAO = 12;
+
+    /**
+     * Quantidade de blocos da linha digitável de arrecadação.
+     */
+    static final int BLOCOS_ARRECADACAO = 4;
+
+    /**
+     * Data base do fator de vencimento (07/10/1997) em dias desde 01/01/1970.
+     */
+    static final long DIA_BASE_FATOR = 10141L;
+
+    /**
+     * O fator vai de 1000 a 9999 e, ao chegar em 9999 (21/02/2025), volta para 1000. Cada ciclo
+     * desloca a data base em 9000 dias.
+     */
+    static final int CICLO_DO_FATOR = 9000;
+
+    static final int FATOR_MINIMO = 1000;
+
+    static final int FATOR_MAXIMO = 9999;
+
+    /**
+     * Inverso de {@link #CODIGO_PARA_LINHA_BANCARIA}: para cada posição da linha digitável
+     * bancária, a posição no código de barras ou -1 para os DVs dos campos 1, 2 e 3.
+     */
+    static final int[] LINHA_BANCARIA_PARA_CODIGO = new int[TAMANHO_LINHA_BANCARIA];
+
+    static {
+        Arrays.fill(LINHA_BANCARIA_PARA_CODIGO, -1);
+        for (int i = 0; i < TAMANHO_CODIGO; i++) {
+            LINHA_BANCARIA_PARA_CODIGO[CODIGO_PARA_LINHA_BANCARIA[i]] = i;
+        }
+    }
+
+    private RegrasDeBoleto() {
+    }
+
+    /**
+     * Escreve a linha digitável (sem formatação) de um código de barras em uma única passada:
+     * cada dígito vai direto para a sua posição na linha e os DVs dos campos são calculados no
+     * próprio destino.
+     *
+     * @param codigo  Exatamente 44 dígitos
+     * @param destino Array com espaço para 47 ou 48 dígitos a partir de {@code inicio}
+     * @return Quantidade de dígitos escritos
+     * @throws IllegalArgumentException se o código tiver outro tamanho ou algo além de dígitos
+     */
+    static int escreveLinhaDigitavel(CharSequence codigo, char[] destino, int inicio) {
+
+        if (codigo.length() != TAMANHO_CODIGO) {
+            throw new IllegalArgumentException("Linha digitável deve conter 44 caracteres. "
+                    + "Valor possui " + codigo.length() + " caracteres");
+        }
+
+        final boolean arrecadacao = codigo.charAt(0) == '8';
+
+        for (int i = 0; i < TAMANHO_CODIGO; i++) {
+            final char c = codigo.charAt(i);
+
+            if (c < '0' || c > '9') {
+                throw new IllegalArgumentException("Código de barras deve conter apenas números");
+            }
+
+            destino[inicio + posicaoNaLinha(i, arrecadacao)] = c;
+        }
+
+        return escreveDigitosDosCampos(destino, inicio, arrecadacao);
+    }
+
+    /**
+     * Posição na linha digitável de uma posição do código de barras.
+     */
+    static int posicaoNaLinha(int posicaoNoCodigo, boolean arrecadacao) {
+
+        // Na arrecadação cada bloco de 11 dígitos ganha um DV ao final
+        return arrecadacao
+                ? posicaoNoCodigo + posicaoNoCodigo / (TAMANHO_BLOCO_ARRECADACAO - 1)
+                : CODIGO_PARA_LINHA_BANCARIA[posicaoNoCodigo];
+    }
+
+    /**
+     * Calcula os DVs dos campos de uma linha digitável cujos demais dígitos já estão no lugar.
+     *
+     * @return Tamanho da linha
+     */
+    static int escreveDigitosDosCampos(char[] linha, int inicio, boolean arrecadacao) {
+
+        if (arrecadacao) {
+            final boolean modulo10 = usaModulo10(linha[inicio + 2]);
+
+            for (int bloco = 0; bloco < BLOCOS_ARRECADACAO; bloco++) {
+                final int inicioDoBloco = inicio + bloco * TAMANHO_BLOCO_ARRECADACAO;
+                final int posicaoDoDv = inicioDoBloco + TAMANHO_BLOCO_ARRECADACAO - 1;
+                linha[posicaoDoDv] = digitoArrecadacao(linha, inicioDoBloco, posicaoDoDv, -1, modulo10);
+            }
+
+            return TAMANHO_LINHA_ARRECADACAO;
+        }
+
+        int inicioDoCampo = inicio;
+        for (int fim : FIM_DOS_CAMPOS_BANCARIOS) {
+            final int posicaoDoDv = inicio + fim - 1;
+            linha[posicaoDoDv] = modulo10(linha, inicioDoCampo, posicaoDoDv, -1);
+            inicioDoCampo = inicio + fim;
+        }
+
+        return TAMANHO_LINHA_BANCARIA;
+    }
+
+    /**
+     * Escreve o código de barras de uma linha digitável em uma única passada, ignorando qualquer
+     * caractere que não seja dígito e descartando os DVs dos campos (que não são conferidos).
+     *
+     * @param linha   Linha digitável formatada ou não
+     * @param destino Array com espaço para 44 dígitos a partir de {@code inicio}
+     * @return Quantidade de dígitos escritos (44)
+     * @throws IllegalArgumentException se a quantidade de dígitos não for a de uma linha digitável
+     */
+    static int escreveCodigoDeBarras(CharSequence linha, char[] destino, int inicio) {
+
+        boolean arrecadacao = false;
+        int tamanho = 0;
+
+        for (int i = 0; i < linha.length(); i++) {
+            final char c = linha.charAt(i);
+
+            if (c < '0' || c > '9') {
+                continue;
+            }
+
+            if (tamanho == 0) {
+                arrecadacao = c == '8';
+            }
+
+            final int posicao = posicaoNoCodigo(tamanho, arrecadacao);
+            if (posicao >= 0) {
+                destino[inicio + posicao] = c;
+            }
+
+            tamanho++;
+        }
+
+        if (arrecadacao && tamanho != TAMANHO_LINHA_ARRECADACAO) {
+            throw new IllegalArgumentException("Valor para boletos que iniciam com 8 deve conter 48 dígitos");
+        }
+
+        if (!arrecadacao && tamanho != TAMANHO_LINHA_BANCARIA) {
+            throw new IllegalArgumentException("Valor para boletos deve conter 47 digitos");
+        }
+
+        return TAMANHO_CODIGO;
+    }
+
+    // Posição no código de barras do n-ésimo dígito da linha ou -1 se for um DV de campo (ou excedente)
+    private static int posicaoNoCodigo(int posicaoNaLinha, boolean arrecadacao) {
+
+        if (arrecadacao) {
+            final int posicaoNoBloco = posicaoNaLinha % TAMANHO_BLOCO_ARRECADACAO;
+            return posicaoNaLinha >= TAMANHO_LINHA_ARRECADACAO || posicaoNoBloco == TAMANHO_BLOCO_ARRECADACAO - 1
+                    ? -1
+                    : posicaoNaLinha / TAMANHO_BLOCO_ARRECADACAO * (TAMANHO_BLOCO_ARRECADACAO - 1) + posicaoNoBloco;
+        }
+
+        return posicaoNaLinha >= TAMANHO_LINHA_BANCARIA ? -1 : LINHA_BANCARIA_PARA_CODIGO[posicaoNaLinha];
+    }
+
+    /**
+     * DV geral do código de barras bancário: módulo 11 com pesos de 2 a 9, ignorando a posição do
+     * próprio DV. Restos que resultariam em 0, 10 ou 11 viram 1.
+     *
+     * @param inicio Posição do código de barras no array
+     */
+    static char digitoGeralBancario(char[] codigo, int inicio) {
+
+        final int soma = somaModulo11(codigo, inicio, inicio + TAMANHO_CODIGO, inicio + POSICAO_DV_BANCARIO);
+        final int dv = 11 - soma % 11;
+        return dv == 0 || dv > 9 ? '1' : (char) ('0' + dv);
+    }
+
+    /**
+     * DV geral do código de barras de arrecadação. Identificadores de valor 6 e 7 usam módulo 10;
+     * 8 e 9 usam módulo 11 (restos 0 e 1 viram 0).
+     *
+     * @param inicio Posição do código de barras no array
+     */
+    static char digitoGeralArrecadacao(char[] codigo, int inicio) {
+
+        return digitoArrecadacao(codigo, inicio, inicio + TAMANHO_CODIGO, inicio + POSICAO_DV_ARRECADACAO,
+                usaModulo10(codigo[inicio + 2]));
+    }
+
+    /**
+     * DV de um trecho no padrão de arrecadação: módulo 10 ou módulo 11 (restos 0 e 1 viram 0).
+     *
+     * @param ignorar Posição a ser pulada (ex.: a do DV geral) ou -1
+     */
+    static char digitoArrecadacao(char[] digitos, int inicio, int fim, int ignorar, boolean modulo10) {
+
+        if (modulo10) {
+            return modulo10(digitos, inicio, fim, ignorar);
+        }
+
+        final int resto = somaModulo11(digitos, inicio, fim, ignorar) % 11;
+        return resto <= 1 ? '0' : (char) ('0' + 11 - resto);
+    }
+
+    /**
+     * Módulo 10 (pesos 2 e 1 da direita para a esquerda, somando os algarismos dos produtos).
+     *
+     * @param ignorar Posição a ser pulada (ex.: a do DV geral) ou -1
+     */
+    static char modulo10(char[] digitos, int inicio, int fim, int ignorar) {
+
+        int soma = 0;
+        int peso = 2;
+
+        for (int i = fim - 1; i >= inicio; i--) {
+
+            if (i == ignorar) {
+                continue;
+            }
+
+            final int produto = (digitos[i] - '0') * peso;
+            soma += produto > 9 ? produto - 9 : produto;
+            peso = peso == 2 ? 1 : 2;
+        }
+
+        final int resto = soma % 10;
+        return resto == 0 ? '0' : (char) ('0' + 10 - resto);
+    }
+
+    /**
+     * Identificadores de valor 6 e 7 usam módulo 10; os demais, módulo 11.
+     */
+    static boolean usaModulo10(char identificadorDeValor) {
+        return identificadorDeValor == '6' || identificadorDeValor == '7';
+    }
+
+    /**
+     * Converte um fator de vencimento em data (dias desde 01/01/1970), escolhendo o ciclo do fator
+     * mais próximo da data de referência.
+     */
+    static long diaDoVencimento(int fator, long diaDeReferencia) {
+
+        final long primeiroCiclo = DIA_BASE_FATOR + fator;
+        final long ciclos = Math.max(0, Math.round((diaDeReferencia - primeiroCiclo) / (double) CICLO_DO_FATOR));
+
+        return primeiroCiclo + ciclos * CICLO_DO_FATOR;
+    }
+
+    /**
+     * Converte uma data (dias desde 01/01/1970) em fator de vencimento.
+     *
+     * @throws IllegalArgumentException se a data for anterior ao primeiro fator válido
+     */
+    static int fatorDeVencimento(long dia) {
+
+        final long dias = dia - DIA_BASE_FATOR;
+
+        if (dias < FATOR_MINIMO) {
+            throw new IllegalArgumentException("Data de vencimento anterior a 03/07/2000");
+        }
+
+        return (int) ((dias - FATOR_MINIMO) % CICLO_DO_FATOR) + FATOR_MINIMO;
+    }
+
+    // Pesos de 2 a 9 da direita para a esquerda
+    private static int somaModulo11(char[] digitos, int inicio, int fim, int ignorar) {
+
+        int soma = 0;
+        int peso = 2;
+
+        for (int i = fim - 1; i >= inicio; i--) {
+
+            if (i == ignorar) {
+                continue;
+            }
+
+            soma += (digitos[i] - '0') * peso;
+            peso = peso == 9 ? 2 : peso + 1;
+        }
+
+        return soma;
+    }
+}
@@ -0,0 +1,302 @@
+package br.com.concrete.canarinho.formatador;
+
+import java.io.IOException;
+
+/**
+ * Conversões de valores monetários representados em centavos ({@code long}). A leitura aceita a
+ * mesma notação decimal de {@link java.math.BigDecimal#BigDecimal(String)} (ex.: "1234.5",
+ * "-0.015", "1e3") e arredonda para duas casas com {@link java.math.RoundingMode#HALF_EVEN}, como o
+ * {@link java.text.DecimalFormat} fazia. A escrita usa o padrão brasileiro: ponto para milhares e
+ * vírgula para decimais.
+ * <p>
+ * Não guarda estado e não aloca objetos: pode ser usada por qualquer quantidade de threads.
+ * </p>
+ */
+final class Centavos {
+
+    static final String SIMBOLO_REAL = "R$ ";
+
+    // Potências de 10 que cabem em um long, para contar os dígitos e escrevê-los em um Appendable
+    private static final long[] POTENCIAS_DE_10 = new long[19];
+
+    // Maior expoente aceito na notação científica
+    private static final int EXPOENTE_MAXIMO = 999999999;
+
+    static {
+        POTENCIAS_DE_10[0] = 1;
+        for (int i = 1; i < POTENCIAS_DE_10.length; i++) {
+            POTENCIAS_DE_10[i] = POTENCIAS_DE_10[i - 1] * 10;
+        }
+    }
+
+    private Centavos() {
+    }
+
+    /**
+     * Lê um número decimal e o arredonda para centavos.
+     *
+     * @param valor Número na notação de {@link java.math.BigDecimal#BigDecimal(String)}
+     * @return Valor em centavos
+     * @throws NumberFormatException se o valor não for um número ou não couber em um long
+     */
+    static long deDecimal(CharSequence valor) {
+        return le(valor, 0, '.', false);
+    }
+
+    /**
+     * Lê um valor no padrão brasileiro (ex.: "-1.234,567") e o arredonda para centavos. Pontos são
+     * ignorados em qualquer posição, como em {@link FormatadorValor#desformata(String)}.
+     *
+     * @param valor  Valor formatado
+     * @param inicio Posição do número no valor (após o símbolo do Real, se houver)
+     * @return Valor em centavos
+     * @throws NumberFormatException se o valor não for um número ou não couber em um long
+     */
+    static long deFormatado(CharSequence valor, int inicio) {
+        return le(valor, inicio, ',', true);
+    }
+
+    /**
+     * Quantidade de caracteres de um valor formatado.
+     *
+     * @param centavos       Valor em centavos
+     * @param comSimboloReal Se o valor terá o prefixo "R$ "
+     * @return Tamanho do valor formatado
+     */
+    static int tamanhoFormatado(long centavos, boolean comSimboloReal) {
+
+        final int inteiros = quantidadeDeInteiros(centavos);
+
+        return (comSimboloReal ? SIMBOLO_REAL.length() : 0)
+                + (centavos < 0 ? 1 : 0)
+                + inteiros + (inteiros - 1) / 3
+                + 3;
+    }
+
+    /**
+     * Escreve o valor no padrão brasileiro (ex.: "-1.234,56" ou "R$ 0,10").
+     *
+     * @return Quantidade de caracteres escritos
+     */
+    static int formata(long centavos, boolean comSimboloReal, char[] destino, int inicio) {
+
+        final int tamanho = tamanhoFormatado(centavos, comSimboloReal);
+
+        // Da direita para a esquerda: uma divisão por dígito. O valor negativo comporta Long.MIN_VALUE
+        long negativo = centavos < 0 ? centavos : -centavos;
+        int posicao = inicio + tamanho;
+
+        destino[--posicao] = (char) ('0' - negativo % 10);
+        negativo /= 10;
+        destino[--posicao] = (char) ('0' - negativo % 10);
+        negativo /= 10;
+        destino[--posicao] = ',';
+
+        int inteiros = 0;
+        do {
+            if (inteiros > 0 && inteiros % 3 == 0) {
+                destino[--posicao] = '.';
+            }
+            destino[--posicao] = (char) ('0' - negativo % 10);
+            negativo /= 10;
+            inteiros++;
+        } while (negativo != 0);
+
+        if (centavos < 0) {
+            destino[--posicao] = '-';
+        }
+
+        if (comSimboloReal) {
+            SIMBOLO_REAL.getChars(0, SIMBOLO_REAL.length(), destino, inicio);
+        }
+
+        return tamanho;
+    }
+
+    /**
+     * Acrescenta o valor no padrão brasileiro ao destino.
+     *
+     * @throws IOException caso o destino falhe
+     */
+    static void formata(long centavos, boolean comSimboloReal, Appendable destino) throws IOException {
+
+        if (comSimboloReal) {
+            destino.append(SIMBOLO_REAL);
+        }
+
+        if (centavos < 0) {
+            destino.append('-');
+        }
+
+        final long negativo = centavos < 0 ? centavos : -centavos;
+        final int inteiros = quantidadeDeInteiros(centavos);
+
+        for (int i = inteiros - 1; i >= 0; i--) {
+            destino.append(digito(negativo, i + 2));
+
+            if (i > 0 && i % 3 == 0) {
+                destino.append('.');
+            }
+        }
+
+        destino.append(',')
+                .append(digito(negativo, 1))
+                .append(digito(negativo, 0));
+    }
+
+    // Quantidade de dígitos da parte inteira (ao menos 1)
+    private static int quantidadeDeInteiros(long centavos) {
+
+        final long negativo = centavos < 0 ? centavos : -centavos;
+
+        int quantidade = 1;
+        while (quantidade + 2 < POTENCIAS_DE_10.length && negativo <= -POTENCIAS_DE_10[quantidade + 2]) {
+            quantidade++;
+        }
+
+        return quantidade;
+    }
+
+    // Algarismo da posição informada (0 = unidade) de um valor negativo ou zero
+    private static char digito(long negativo, int posicao) {
+        return (char) ('0' - negativo / POTENCIAS_DE_10[posicao] % 10);
+    }
+
+    /*
+     * Duas passadas: a primeira confere a sintaxe e descobre quantos dígitos da mantissa ficam
+     * antes da vírgula decimal (já deslocada pelo expoente); a segunda acumula os dígitos até a
+     * segunda casa decimal e arredonda pelos descartados (HALF_EVEN).
+     */
+    private static long le(CharSequence valor, int inicio, char separadorDecimal, boolean agrupado) {
+
+        final int tamanho = valor.length();
+        int i = inicio;
+
+        // Pontos de agrupamento são ignorados, então o sinal pode vir depois deles
+        while (agrupado && i < tamanho && valor.charAt(i) == '.') {
+            i++;
+        }
+
+        final boolean negativo = i < tamanho && valor.charAt(i) == '-';
+        if (i < tamanho && (valor.charAt(i) == '-' || valor.charAt(i) == '+')) {
+            i++;
+        }
+
+        final int inicioDaMantissa = i;
+        int digitos = 0;
+        int digitosAntesDoSeparador = -1;
+
+        for (; i < tamanho; i++) {
+            final char c = valor.charAt(i);
+
+            if (c >= '0' && c <= '9') {
+                digitos++;
+            } else if (c == separadorDecimal && digitosAntesDoSeparador < 0) {
+                digitosAntesDoSeparador = digitos;
+            } else if (!agrupado || c != '.') {
+                break;
+            }
+        }
+
+        if (digitos == 0) {
+            throw new NumberFormatException("Valor inválido: " + valor);
+        }
+
+        final int fimDaMantissa = i;
+
+        int expoente = 0;
+        if (!agrupado && i < tamanho && (valor.charAt(i) == 'e' || valor.charAt(i) == 'E')) {
+            expoente = leExpoente(valor, i + 1);
+            i = tamanho;
+        }
+
+        if (i != tamanho) {
+            throw new NumberFormatException("Valor inválido: " + valor);
+        }
+
+        final long inteiros = (digitosAntesDoSeparador < 0 ? digitos : digitosAntesDoSeparador) + (long) expoente;
+
+        // Índice (na mantissa) do último dígito mantido e do primeiro descartado
+        final long ultimo = inteiros + 1;
+        long centavos = 0;
+        int descartado = 0;
+        boolean restoDiferenteDeZero = false;
+        long j = 0;
+
+        for (i = inicioDaMantissa; i < fimDaMantissa; i++) {
+            final char c = valor.charAt(i);
+
+            if (c < '0' || c > '9') {
+                continue;
+            }
+
+            if (j <= ultimo) {
+                centavos = acumula(centavos, c - '0', valor);
+            } else if (j == ultimo + 1) {
+                descartado = c - '0';
+            } else if (c != '0') {
+                restoDiferenteDeZero = true;
+            }
+
+            j++;
+        }
+
+        // Expoente além da mantissa: completa com zeros (zero continua zero)
+        for (; j <= ultimo && centavos != 0; j++) {
+            centavos = acumula(centavos, 0, valor);
+        }
+
+        if (descartado > 5 || descartado == 5 && (restoDiferenteDeZero || centavos % 2 == 1)) {
+            centavos = acumula(centavos, 1, valor, false);
+        }
+
+        return negativo ? -centavos : centavos;
+    }
+
+    private static int leExpoente(CharSequence valor, int inicio) {
+
+        final int tamanho = valor.length();
+        int i = inicio;
+
+        final boolean negativo = i < tamanho && valor.charAt(i) == '-';
+        if (i < tamanho && (valor.charAt(i) == '-' || valor.charAt(i) == '+')) {
+            i++;
+        }
+
+        if (i == tamanho) {
+            throw new NumberFormatException("Expoente inválido: " + valor);
+        }
+
+        long expoente = 0;
+        for (; i < tamanho; i++) {
+            final char c = valor.charAt(i);
+
+            if (c < '0' || c > '9') {
+                throw new NumberFormatException("Expoente inválido: " + valor);
+            }
+
+            expoente = expoente * 10 + c - '0';
+
+            if (expoente > EXPOENTE_MAXIMO) {
+                throw new NumberFormatException("Expoente fora do intervalo suportado: " + valor);
+            }
+        }
+
+        return (int) (negativo ? -expoente : expoente);
+    }
+
+    private static long acumula(long centavos, int digito, CharSequence valor) {
+        return acumula(centavos, digito, valor, true);
+    }
+
+    // Desloca uma casa (ou apenas soma, no arredondamento) conferindo se o resultado cabe em um long
+    private static long acumula(long centavos, int digito, CharSequence valor, boolean desloca) {
+
+        final long base = desloca ? 10 : 1;
+        if (centavos > (Long.MAX_VALUE - digito) / base) {
+            throw new NumberFormatException("Valor fora do intervalo suportado: " + valor);
+        }
+
+        return centavos * base + digito;
+    }
+}
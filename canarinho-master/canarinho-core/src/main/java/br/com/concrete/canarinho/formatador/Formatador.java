@@ -1,14 +1,22 @@
 package br.com.concrete.canarinho.formatador;
 
+import java.io.IOException;
 import java.util.regex.Pattern;
 
 /**
  * Interface de formatação. Formata valores completos. Útil caso receba o valor
  * desformatado de uma API.
+ * <p>
+ * Além das versões que devolvem uma {@link String}, todas as operações de formatação têm versões
+ * que escrevem direto em um {@link Appendable} (ex.: um {@link StringBuilder} ou um
+ * {@link java.io.Writer}) ou em um {@code char[]}, para quem gera muitos valores e não quer criar
+ * Strings intermediárias.
+ * </p>
  */
 public interface Formatador {
         /**
-         * Classe para guardar os padrões de experssões regulares usados no framework.
+         * Classe para guardar os padrões de experssões regulares usados no framework. Mantidos por
+         * compatibilidade: os formatadores usam {@link Mascara}.
          */
         public static final Pattern PADRAO_SOMENTE_NUMEROS = Pattern.compile("[^0-9]");
         public static final Pattern CEP_FORMATADO = Pattern.compile("(\\d{5})-(\\d{3})");
@@ -30,29 +38,17 @@ public interface Formatador {
         /**
          * Singleton de formatação de CEP.
          */
-        Formatador CEP = new FormatadorBase(
-                        CEP_FORMATADO,
-                        "$1-$2",
-                        CEP_DESFORMATADO,
-                        "$1$2");
+        Formatador CEP = new FormatadorBase("#####-###");
 
         /**
          * Singleton de formatação de CPF.
          */
-        Formatador CPF = new FormatadorBase(
-                        CPF_FORMATADO,
-                        "$1.$2.$3-$4",
-                        CPF_DESFORMATADO,
-                        "$1$2$3$4");
+        Formatador CPF = new FormatadorBase("###.###.###-##");
 
         /**
          * Singleton de formatação de CNPJ.
          */
-        Formatador CNPJ = new FormatadorBase(
-                        CNPJ_FORMATADO,
-                        "$1.$2.$3/$4-$5",
-                        CNPJ_DESFORMATADO,
-                        "$1$2$3$4$5");
+        Formatador CNPJ = new FormatadorBase("##.###.###/####-##");
 
         /**
          * Singleton de formatação de CPF e CNPJ.
@@ -94,6 +90,28 @@ public interface Formatador {
          */
         String formata(String value);
 
+        /**
+         * Formata um valor COMPLETO, acrescentando o resultado ao destino. Segue as mesmas regras
+         * de {@link #formata(String)}.
+         *
+         * @param valor   valor a formatar
+         * @param destino destino do resultado
+         * @throws IOException caso o destino falhe
+         */
+        void formata(CharSequence valor, Appendable destino) throws IOException;
+
+        /**
+         * Formata um valor COMPLETO, escrevendo o resultado em um array. Segue as mesmas regras de
+         * {@link #formata(String)}.
+         *
+         * @param valor   valor a formatar
+         * @param destino array de destino
+         * @param inicio  posição inicial no destino
+         * @return quantidade de caracteres escritos
+         * @throws IllegalArgumentException caso o resultado não caiba no destino
+         */
+        int formata(CharSequence valor, char[] destino, int inicio);
+
         /**
          * Desformata um valor.
          *
@@ -102,6 +120,28 @@ public interface Formatador {
          */
         String desformata(String value);
 
+        /**
+         * Desformata um valor, acrescentando o resultado ao destino. Segue as mesmas regras de
+         * {@link #desformata(String)}.
+         *
+         * @param valor   valor a desformatar
+         * @param destino destino do resultado
+         * @throws IOException caso o destino falhe
+         */
+        void desformata(CharSequence valor, Appendable destino) throws IOException;
+
+        /**
+         * Desformata um valor, escrevendo o resultado em um array. Segue as mesmas regras de
+         * {@link #desformata(String)}.
+         *
+         * @param valor   valor a desformatar
+         * @param destino array de destino
+         * @param inicio  posição inicial no destino
+         * @return quantidade de caracteres escritos
+         * @throws IllegalArgumentException caso o resultado não caiba no destino
+         */
+        int desformata(CharSequence valor, char[] destino, int inicio);
+
         /**
          * Verifica se um parâmetro está formatado.
          *
@@ -0,0 +1,155 @@
+package br.com.concrete.canarinho.formatador;
+
+import java.io.IOException;
+
+/**
+ * Classe utilitária para a implementação de todos os formatadores que precisam apenas da aplicação
+ * de uma {@link Mascara}.
+ */
+final class FormatadorBase implements Formatador {
+
+    private final Mascara mascara;
+
+    /**
+     * Constrói um formatador a partir de um modelo de máscara.
+     *
+     * @param mascara Modelo da máscara (ex.: ###.###.###-##)
+     */
+    FormatadorBase(String mascara) {
+        this.mascara = Mascara.compartilhada(mascara);
+    }
+
+    @Override
+    public final String formata(String value) throws IllegalArgumentException {
+
+        confereNulo(value);
+
+        if (mascara.estaFormatado(value)) {
+            return value;
+        }
+
+        return mascara.formata(value);
+    }
+
+    @Override
+    public final void formata(CharSequence valor, Appendable destino) throws IOException {
+
+        confereNulo(valor);
+
+        if (mascara.estaFormatado(valor)) {
+            destino.append(valor);
+            return;
+        }
+
+        confereFormatavel(valor);
+        mascara.formata(valor, destino);
+    }
+
+    @Override
+    public final int formata(CharSequence valor, char[] destino, int inicio) {
+
+        confereNulo(valor);
+        confereEspaco(destino, inicio, mascara.length());
+
+        if (mascara.estaFormatado(valor)) {
+            return copia(valor, destino, inicio);
+        }
+
+        confereFormatavel(valor);
+        return mascara.formata(valor, destino, inicio);
+    }
+
+    @Override
+    public final String desformata(String value) throws IllegalArgumentException {
+
+        confereNulo(value);
+
+        if (mascara.podeSerFormatado(value)) {
+            return value;
+        }
+
+        return mascara.desformata(value);
+    }
+
+    @Override
+    public final void desformata(CharSequence valor, Appendable destino) throws IOException {
+
+        confereNulo(valor);
+
+        if (mascara.podeSerFormatado(valor)) {
+            destino.append(valor);
+            return;
+        }
+
+        confereFormatado(valor);
+        mascara.desformata(valor, destino);
+    }
+
+    @Override
+    public final int desformata(CharSequence valor, char[] destino, int inicio) {
+
+        confereNulo(valor);
+        confereEspaco(destino, inicio, mascara.getQuantidadeDeDigitos());
+
+        if (mascara.podeSerFormatado(valor)) {
+            return copia(valor, destino, inicio);
+        }
+
+        confereFormatado(valor);
+        return mascara.desformata(valor, destino, inicio);
+    }
+
+    @Override
+    public final boolean estaFormatado(String value) {
+
+        if (value == null) {
+            throw new IllegalArgumentException("value must not be null");
+        }
+
+        return mascara.estaFormatado(value);
+    }
+
+    @Override
+    public final boolean podeSerFormatado(String value) {
+        return value != null && mascara.podeSerFormatado(value);
+    }
+
+    /**
+     * Confere se o destino tem espaço para o resultado.
+     *
+     * @throws IllegalArgumentException se não houver espaço
+     */
+    static void confereEspaco(char[] destino, int inicio, int tamanho) {
+        if (destino == null || inicio < 0 || destino.length - inicio < tamanho) {
+            throw new IllegalArgumentException("Destino não comporta " + tamanho + " caracteres");
+        }
+    }
+
+    private void confereFormatavel(CharSequence valor) {
+        if (!mascara.podeSerFormatado(valor)) {
+            throw new IllegalArgumentException("Valor não está formatado propriamente.");
+        }
+    }
+
+    private void confereFormatado(CharSequence valor) {
+        if (!mascara.estaFormatado(valor)) {
+            throw new IllegalArgumentException("Valor não está formatado propriamente.");
+        }
+    }
+
+    private static void confereNulo(CharSequence valor) {
+        if (valor == null) {
+            throw new IllegalArgumentException("Value may not be null.");
+        }
+    }
+
+    private static int copia(CharSequence valor, char[] destino, int inicio) {
+
+        final int tamanho = valor.length();
+        for (int i = 0; i < tamanho; i++) {
+            destino[inicio + i] = valor.charAt(i);
+        }
+
+        return tamanho;
+    }
+}
@@ -1,6 +1,6 @@
 package br.com.concrete.canarinho.formatador;
 
-import java.util.regex.Pattern;
+import java.io.IOException;
 
 /**
  * Formatador especializado para linha digitável de boletos bancários. Ele detecta automaticamente
@@ -10,32 +10,11 @@ import java.util.regex.Pattern;
  */
 public final class FormatadorBoleto implements Formatador {
 
-    private static final Pattern TRIBUTO_FORMATADO =
-            Pattern.compile("(\\d{12})\\s(\\d{12})\\s(\\d{12})\\s(\\d{12})");
-    private static final Pattern TRIBUTO_DESFORMATADO =
-            Pattern.compile("(\\d{12})(\\d{12})(\\d{12})(\\d{12})");
-
     private static final FormatadorBase FORMATADOR_TRIBUTOS = new FormatadorBase(
-            TRIBUTO_FORMATADO,
-            "$1 $2 $3 $4",
-            TRIBUTO_DESFORMATADO,
-            "$1$2$3$4"
-    );
-
-    private static final Pattern NORMAL_FORMATADO = Pattern.compile(
-            "(\\d{5})[.](\\d{5})\\s(\\d{5})[.](\\d{6})\\s(\\d{5})[.](\\d{6})\\s(\\d)\\s(\\d{14})"
-    );
-
-    private static final Pattern NORMAL_DESFORMATADO = Pattern.compile(
-            "(\\d{5})(\\d{5})(\\d{5})(\\d{6})(\\d{5})(\\d{6})(\\d{1})(\\d{14})"
-    );
+            "############ ############ ############ ############");
 
     private static final FormatadorBase FORMATADOR_NORMAL = new FormatadorBase(
-            NORMAL_FORMATADO,
-            "$1.$2 $3.$4 $5.$6 $7 $8",
-            NORMAL_DESFORMATADO,
-            "$1$2$3$4$5$6$7$8"
-    );
+            "#####.##### #####.###### #####.###### # ##############");
 
     // No instance creation
     private FormatadorBoleto() {
@@ -51,6 +30,27 @@ public final class FormatadorBoleto implements Formatador {
         return FORMATADOR_NORMAL.formata(value);
     }
 
+    @Override
+    public void formata(CharSequence valor, Appendable destino) throws IOException {
+
+        if (ehTributo(valor)) {
+            FORMATADOR_TRIBUTOS.formata(valor, destino);
+            return;
+        }
+
+        FORMATADOR_NORMAL.formata(valor, destino);
+    }
+
+    @Override
+    public int formata(CharSequence valor, char[] destino, int inicio) {
+
+        if (ehTributo(valor)) {
+            return FORMATADOR_TRIBUTOS.formata(valor, destino, inicio);
+        }
+
+        return FORMATADOR_NORMAL.formata(valor, destino, inicio);
+    }
+
     @Override
     public String desformata(String value) {
 
@@ -61,6 +61,27 @@ public final class FormatadorBoleto implements Formatador {
         return FORMATADOR_NORMAL.desformata(value);
     }
 
+    @Override
+    public void desformata(CharSequence valor, Appendable destino) throws IOException {
+
+        if (ehTributo(valor)) {
+            FORMATADOR_TRIBUTOS.desformata(valor, destino);
+            return;
+        }
+
+        FORMATADOR_NORMAL.desformata(valor, destino);
+    }
+
+    @Override
+    public int desformata(CharSequence valor, char[] destino, int inicio) {
+
+        if (ehTributo(valor)) {
+            return FORMATADOR_TRIBUTOS.desformata(valor, destino, inicio);
+        }
+
+        return FORMATADOR_NORMAL.desformata(valor, destino, inicio);
+    }
+
     @Override
     public boolean estaFormatado(String value) {
 
@@ -81,7 +102,7 @@ public final class FormatadorBoleto implements Formatador {
         return FORMATADOR_NORMAL.podeSerFormatado(value);
     }
 
-    private boolean ehTributo(String value) {
+    private boolean ehTributo(CharSequence value) {
 
         if (value == null) {
             throw new IllegalArgumentException("Valor não pode ser nulo");
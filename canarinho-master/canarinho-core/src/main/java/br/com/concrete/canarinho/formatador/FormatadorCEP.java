@@ -1,5 +1,7 @@
 package br.com.concrete.canarinho.formatador;
 
+import java.io.IOException;
+
 /**
  * Formatador para CEP. Segue o padrão 99999-999.
  */
@@ -17,11 +19,31 @@ public final class FormatadorCEP implements Formatador {
         return Formatador.CEP.formata(value);
     }
 
+    @Override
+    public void formata(final CharSequence valor, final Appendable destino) throws IOException {
+        Formatador.CEP.formata(valor, destino);
+    }
+
+    @Override
+    public int formata(final CharSequence valor, final char[] destino, final int inicio) {
+        return Formatador.CEP.formata(valor, destino, inicio);
+    }
+
     @Override
     public String desformata(final String value) {
         return Formatador.CEP.desformata(value);
     }
 
+    @Override
+    public void desformata(final CharSequence valor, final Appendable destino) throws IOException {
+        Formatador.CEP.desformata(valor, destino);
+    }
+
+    @Override
+    public int desformata(final CharSequence valor, final char[] destino, final int inicio) {
+        return Formatador.CEP.desformata(valor, destino, inicio);
+    }
+
     @Override
     public boolean estaFormatado(final String value) {
         return Formatador.CEP.estaFormatado(value);
@@ -1,11 +1,17 @@
 package br.com.concrete.canarinho.formatador;
 
+import br.com.concrete.canarinho.Digitos;
+
+import java.io.IOException;
+
 /**
  * Formatador para CPF e CNPJ no mesmo campo. Formata como CPF até 11 dígitos numéricos. Depois
  * formata como CNPJ.
  */
 public final class FormatadorCPFCNPJ implements Formatador {
 
+    private static final int CPF_TAMANHO_EXCEDENTE = 12;
+
     private FormatadorCPFCNPJ() {
     }
 
@@ -22,6 +28,25 @@ public final class FormatadorCPFCNPJ implements Formatador {
         return Formatador.CNPJ.formata(value);
     }
 
+    @Override
+    public void formata(CharSequence valor, Appendable destino) throws IOException {
+        if (ehCpf(valor)) {
+            Formatador.CPF.formata(valor, destino);
+            return;
+        }
+
+        Formatador.CNPJ.formata(valor, destino);
+    }
+
+    @Override
+    public int formata(CharSequence valor, char[] destino, int inicio) {
+        if (ehCpf(valor)) {
+            return Formatador.CPF.formata(valor, destino, inicio);
+        }
+
+        return Formatador.CNPJ.formata(valor, destino, inicio);
+    }
+
     @Override
     public String desformata(final String value) {
         if (ehCpf(value)) {
@@ -31,6 +56,25 @@ public final class FormatadorCPFCNPJ implements Formatador {
         return Formatador.CNPJ.desformata(value);
     }
 
+    @Override
+    public void desformata(CharSequence valor, Appendable destino) throws IOException {
+        if (ehCpf(valor)) {
+            Formatador.CPF.desformata(valor, destino);
+            return;
+        }
+
+        Formatador.CNPJ.desformata(valor, destino);
+    }
+
+    @Override
+    public int desformata(CharSequence valor, char[] destino, int inicio) {
+        if (ehCpf(valor)) {
+            return Formatador.CPF.desformata(valor, destino, inicio);
+        }
+
+        return Formatador.CNPJ.desformata(valor, destino, inicio);
+    }
+
     @Override
     public boolean estaFormatado(final String value) {
         if (ehCpf(value)) {
@@ -42,7 +86,6 @@ public final class FormatadorCPFCNPJ implements Formatador {
 
     @Override
     public boolean podeSerFormatado(final String value) {
-        boolean CPF_TAMANHO_EXCEDENTE = 12;
         if (value == null) {
             return false;
         }
@@ -54,14 +97,12 @@ public final class FormatadorCPFCNPJ implements Formatador {
         return Formatador.CNPJ.podeSerFormatado(value);
     }
 
-    private boolean ehCpf(String value) {
+    private boolean ehCpf(CharSequence value) {
         if (value == null) {
             throw new IllegalArgumentException("Valor não pode ser nulo");
         }
 
-        final String desformatado = Formatador.PADRAO_SOMENTE_NUMEROS.matcher(value)
-                .replaceAll("");
-        return desformatado.length() < CPF_TAMANHO_EXCEDENTE;
+        return Digitos.conta(value) < CPF_TAMANHO_EXCEDENTE;
     }
 
     private static final FormatadorCPFCNPJ INSTANCE = new FormatadorCPFCNPJ();
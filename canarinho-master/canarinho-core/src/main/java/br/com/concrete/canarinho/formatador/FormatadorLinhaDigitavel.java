@@ -0,0 +1,213 @@
+package br.com.concrete.canarinho.formatador;
+
+import br.com.concrete.canarinho.Digitos;
+import br.com.concrete.canarinho.DocumentoNormalizado;
+import br.com.concrete.canarinho.boleto.GeradorDeBoleto;
+
+import java.io.IOException;
+import java.util.BitSet;
+
+/**
+ * Transforma a linha digitável de um boleto em um código de boleto e vice-versa. Use o metodo
+ * {@link #formata(String)} para transformar a linha digitavel em boleto e
+ * {@link #desformata(String)}.
+ * Para verificar se um valor esta em linha digitável ou em boleto, usar os métodos:
+ * <ul>
+ * <li>{@link #estaFormatado(String)}: indicará se está em formata de boleto</li>
+ * <li>{@link #podeSerFormatado(String)}: indicará se é uma linha digitável</li>
+ * </ul>
+ * <p>
+ * A conversão é feita por tabelas de permutação em uma única passada (ver
+ * {@link GeradorDeBoleto#linhaDigitavel(CharSequence, char[], int)} e
+ * {@link GeradorDeBoleto#codigoDeBarras(CharSequence, char[], int)}). Para conversões em volume,
+ * use as variantes que escrevem em um {@code char[]}, em um {@link Appendable} ou em registros de
+ * tamanho fixo, que não criam Strings intermediárias.
+ * </p>
+ */
+public final class FormatadorLinhaDigitavel implements Formatador {
+
+    private static final int TAMANHO_CODIGO = 44;
+
+    // Maior linha digitável (arrecadação); a bancária tem 47 dígitos
+    private static final int TAMANHO_LINHA = 48;
+
+    private static final byte PREENCHIMENTO = ' ';
+
+    private FormatadorLinhaDigitavel() {
+    }
+
+    public static FormatadorLinhaDigitavel getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public String formata(String value) {
+
+        if (value == null) {
+            throw new IllegalArgumentException("Linha digitável deve conter 44 caracteres. "
+                    + "Valor possui null caracteres");
+        }
+
+        final char[] linha = new char[TAMANHO_LINHA];
+        return new String(linha, 0, formata(value, linha, 0));
+    }
+
+    /**
+     * Escreve a linha digitável, sem formatação, do código de barras informado.
+     *
+     * @param valor   Código de barras com 44 dígitos
+     * @param destino Array de destino (47 ou 48 posições a partir de {@code inicio})
+     * @param inicio  Posição inicial no destino
+     * @return Quantidade de dígitos escritos
+     */
+    @Override
+    public int formata(CharSequence valor, char[] destino, int inicio) {
+        return GeradorDeBoleto.linhaDigitavel(valor, destino, inicio);
+    }
+
+    /**
+     * Acrescenta a linha digitável, sem formatação, do código de barras informado.
+     *
+     * @param valor   Código de barras com 44 dígitos
+     * @param destino Destino da linha digitável
+     * @throws IOException caso o destino falhe
+     */
+    @Override
+    public void formata(CharSequence valor, Appendable destino) throws IOException {
+        final char[] linha = new char[TAMANHO_LINHA];
+        acrescenta(linha, formata(valor, linha, 0), destino);
+    }
+
+    @Override
+    public String desformata(String valor) {
+
+        if (valor == null || "".equals(valor)) {
+            throw new IllegalArgumentException("Valor não pode estar nulo.");
+        }
+
+        final char[] codigo = new char[TAMANHO_CODIGO];
+        return new String(codigo, 0, desformata(valor, codigo, 0));
+    }
+
+    /**
+     * Escreve o código de barras de uma linha digitável, formatada ou não.
+     *
+     * @param valor   Linha digitável
+     * @param destino Array de destino (44 posições a partir de {@code inicio})
+     * @param inicio  Posição inicial no destino
+     * @return Quantidade de dígitos escritos (44)
+     */
+    @Override
+    public int desformata(CharSequence valor, char[] destino, int inicio) {
+        return GeradorDeBoleto.codigoDeBarras(valor, destino, inicio);
+    }
+
+    /**
+     * Acrescenta o código de barras de uma linha digitável, formatada ou não.
+     *
+     * @param valor   Linha digitável
+     * @param destino Destino do código de barras
+     * @throws IOException caso o destino falhe
+     */
+    @Override
+    public void desformata(CharSequence valor, Appendable destino) throws IOException {
+        final char[] codigo = new char[TAMANHO_CODIGO];
+        acrescenta(codigo, desformata(valor, codigo, 0), destino);
+    }
+
+    /**
+     * Converte códigos de barras em registros ASCII de tamanho fixo para linhas digitáveis.
+     * Caracteres que não são dígitos são ignorados. Cada linha é escrita no início do registro de
+     * destino correspondente e o restante é preenchido com espaços; registros que não podem ser
+     * convertidos ficam apenas com espaços.
+     *
+     * @param registros       Bytes com os registros de origem
+     * @param tamanhoRegistro Tamanho de cada registro de origem
+     * @param de              Índice do primeiro registro (inclusivo)
+     * @param ate             Índice do último registro (exclusivo)
+     * @param destino         Bytes dos registros de destino, indexados como os de origem
+     * @param tamanhoDestino  Tamanho de cada registro de destino (ao menos 48)
+     * @param convertidos     Bit {@code i} ligado se o registro {@code i} foi convertido
+     */
+    public void formataLote(byte[] registros, int tamanhoRegistro, int de, int ate,
+                            byte[] destino, int tamanhoDestino, BitSet convertidos) {
+        converteLote(registros, tamanhoRegistro, de, ate, destino, tamanhoDestino, convertidos, true);
+    }
+
+    /**
+     * Converte linhas digitáveis em registros ASCII de tamanho fixo para códigos de barras. Segue
+     * as mesmas regras de {@link #formataLote(byte[], int, int, int, byte[], int, BitSet)}.
+     *
+     * @param registros       Bytes com os registros de origem
+     * @param tamanhoRegistro Tamanho de cada registro de origem
+     * @param de              Índice do primeiro registro (inclusivo)
+     * @param ate             Índice do último registro (exclusivo)
+     * @param destino         Bytes dos registros de destino, indexados como os de origem
+     * @param tamanhoDestino  Tamanho de cada registro de destino (ao menos 44)
+     * @param convertidos     Bit {@code i} ligado se o registro {@code i} foi convertido
+     */
+    public void desformataLote(byte[] registros, int tamanhoRegistro, int de, int ate,
+                               byte[] destino, int tamanhoDestino, BitSet convertidos) {
+        converteLote(registros, tamanhoRegistro, de, ate, destino, tamanhoDestino, convertidos, false);
+    }
+
+    @Override
+    public boolean estaFormatado(String value) {
+        return Formatador.BOLETO.estaFormatado(value);
+    }
+
+    @Override
+    public boolean podeSerFormatado(String value) {
+        return Digitos.conta(value) == TAMANHO_CODIGO;
+    }
+
+    private void converteLote(byte[] registros, int tamanhoRegistro, int de, int ate,
+                              byte[] destino, int tamanhoDestino, BitSet convertidos, boolean paraLinha) {
+
+        if (tamanhoRegistro <= 0) {
+            throw new IllegalArgumentException("Tamanho do registro deve ser positivo");
+        }
+
+        if (tamanhoDestino < (paraLinha ? TAMANHO_LINHA : TAMANHO_CODIGO)) {
+            throw new IllegalArgumentException("Registro de destino não comporta o resultado");
+        }
+
+        final DocumentoNormalizado documento = new DocumentoNormalizado(tamanhoRegistro);
+        final char[] convertido = new char[TAMANHO_LINHA];
+
+        for (int i = de; i < ate; i++) {
+            final int inicio = i * tamanhoRegistro;
+            documento.normaliza(registros, inicio, inicio + tamanhoRegistro);
+
+            // Conferido antes para que registros inválidos não custem uma exceção
+            final boolean convertivel = paraLinha
+                    ? documento.length() == TAMANHO_CODIGO
+                    : ehLinhaDigitavel(documento);
+
+            int tamanho = 0;
+            if (convertivel) {
+                tamanho = paraLinha ? formata(documento, convertido, 0) : desformata(documento, convertido, 0);
+            }
+
+            final int inicioDestino = i * tamanhoDestino;
+            for (int j = 0; j < tamanhoDestino; j++) {
+                destino[inicioDestino + j] = j < tamanho ? (byte) convertido[j] : PREENCHIMENTO;
+            }
+
+            convertidos.set(i, convertivel);
+        }
+    }
+
+    private static boolean ehLinhaDigitavel(DocumentoNormalizado documento) {
+        final int tamanho = documento.length();
+        return tamanho > 0 && tamanho == (documento.charAt(0) == '8' ? TAMANHO_LINHA : TAMANHO_LINHA - 1);
+    }
+
+    private static void acrescenta(char[] digitos, int tamanho, Appendable destino) throws IOException {
+        for (int i = 0; i < tamanho; i++) {
+            destino.append(digitos[i]);
+        }
+    }
+
+    private static final FormatadorLinhaDigitavel INSTANCE = new FormatadorLinhaDigitavel();
+}
@@ -1,41 +1,17 @@
 package br.com.concrete.canarinho.formatador;
 
-import java.util.regex.Pattern;
+import br.com.concrete.canarinho.Digitos;
+
+import java.io.IOException;
 
 /**
  * Formata no padrão de telefone brasileiro: (99) 99999-9999 ou (99) 9999-9999.
  */
 public final class FormatadorTelefone implements Formatador {
 
-    private static final Pattern NOVE_DIGITOS_FORMATADO = Pattern.compile(
-            "\\((\\d{2})\\)\\s(\\d{5})-(\\d{4})"
-    );
-
-    private static final Pattern NOVE_DIGITOS_DESFORMATADO = Pattern.compile(
-            "(\\d{2})(\\d{5})(\\d{4})"
-    );
-
-    private static final Pattern OITO_DIGITOS_FORMATADO = Pattern.compile(
-            "\\((\\d{2})\\)\\s(\\d{4})-(\\d{4})"
-    );
-
-    private static final Pattern OITO_DIGITOS_DESFORMATADO = Pattern.compile(
-            "(\\d{2})(\\d{4})(\\d{4})"
-    );
+    private static final FormatadorBase FORMATADOR_NOVE_DIGITOS = new FormatadorBase("(##) #####-####");
 
-    private static final FormatadorBase FORMATADOR_NOVE_DIGITOS = new FormatadorBase(
-            NOVE_DIGITOS_FORMATADO,
-            "($1) $2-$3",
-            NOVE_DIGITOS_DESFORMATADO,
-            "$1$2$3"
-    );
-
-    private static final FormatadorBase FORMATADOR_OITO_DIGITOS = new FormatadorBase(
-            OITO_DIGITOS_FORMATADO,
-            "($1) $2-$3",
-            OITO_DIGITOS_DESFORMATADO,
-            "$1$2$3"
-    );
+    private static final FormatadorBase FORMATADOR_OITO_DIGITOS = new FormatadorBase("(##) ####-####");
 
     private FormatadorTelefone() {
     }
@@ -53,6 +29,25 @@ public final class FormatadorTelefone implements Formatador {
         return FORMATADOR_OITO_DIGITOS.formata(value);
     }
 
+    @Override
+    public void formata(CharSequence valor, Appendable destino) throws IOException {
+        if (ehNoveDigitos(valor)) {
+            FORMATADOR_NOVE_DIGITOS.formata(valor, destino);
+            return;
+        }
+
+        FORMATADOR_OITO_DIGITOS.formata(valor, destino);
+    }
+
+    @Override
+    public int formata(CharSequence valor, char[] destino, int inicio) {
+        if (ehNoveDigitos(valor)) {
+            return FORMATADOR_NOVE_DIGITOS.formata(valor, destino, inicio);
+        }
+
+        return FORMATADOR_OITO_DIGITOS.formata(valor, destino, inicio);
+    }
+
     @Override
     public String desformata(String value) {
         if (ehNoveDigitos(value)) {
@@ -62,6 +57,25 @@ public final class FormatadorTelefone implements Formatador {
         return FORMATADOR_OITO_DIGITOS.desformata(value);
     }
 
+    @Override
+    public void desformata(CharSequence valor, Appendable destino) throws IOException {
+        if (ehNoveDigitos(valor)) {
+            FORMATADOR_NOVE_DIGITOS.desformata(valor, destino);
+            return;
+        }
+
+        FORMATADOR_OITO_DIGITOS.desformata(valor, destino);
+    }
+
+    @Override
+    public int desformata(CharSequence valor, char[] destino, int inicio) {
+        if (ehNoveDigitos(valor)) {
+            return FORMATADOR_NOVE_DIGITOS.desformata(valor, destino, inicio);
+        }
+
+        return FORMATADOR_OITO_DIGITOS.desformata(valor, destino, inicio);
+    }
+
     @Override
     public boolean estaFormatado(String value) {
         if (ehNoveDigitos(value)) {
@@ -80,14 +94,12 @@ public final class FormatadorTelefone implements Formatador {
         return FORMATADOR_OITO_DIGITOS.podeSerFormatado(value);
     }
 
-    private boolean ehNoveDigitos(String value) {
+    private boolean ehNoveDigitos(CharSequence value) {
         if (value == null) {
             throw new IllegalArgumentException("Valor não pode ser nulo");
         }
 
-        return Formatador.PADRAO_SOMENTE_NUMEROS.matcher(value)
-                .replaceAll("")
-                .length() > 10;
+        return Digitos.conta(value) > 10;
     }
 
     private static final FormatadorTelefone INSTANCE = new FormatadorTelefone();
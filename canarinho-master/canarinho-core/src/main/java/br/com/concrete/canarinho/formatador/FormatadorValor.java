@@ -0,0 +1,353 @@
+package br.com.concrete.canarinho.formatador;
+
+import java.io.IOException;
+import java.util.regex.Pattern;
+
+/**
+ * Formatador de valores monetários. Possui duas versões:
+ * <ul>
+ * <li>Com símbolo do Real {@link Formatador#VALOR_COM_SIMBOLO}</li>
+ * <li>Sem símbolo do Real {@link Formatador#VALOR}</li>
+ * </ul>
+ * <p>
+ * Os valores são convertidos para centavos em um {@code long} e escritos por um laço de
+ * caracteres, com o mesmo arredondamento do {@link java.text.DecimalFormat} (HALF_EVEN). Não há
+ * estado compartilhado: as instâncias podem ser usadas por qualquer quantidade de threads sem
+ * sincronização. Quem já tem o valor em centavos pode usar diretamente {@link #formata(long)} e
+ * {@link #centavosDoFormatado(CharSequence)}.
+ * </p>
+ */
+public final class FormatadorValor implements Formatador {
+
+    private static final Pattern PADRAO_DECIMAL = Pattern
+            .compile("^\\d+(\\.\\d{1,2})?$");
+    private static final Pattern PADRAO_MOEDA = Pattern
+            .compile("\\d{1,3}(\\.\\d{3})*(,\\d{2})?");
+
+    private final boolean adicionaSimboloReal;
+
+    // No instance creation
+    private FormatadorValor(boolean comSimboloReal) {
+        adicionaSimboloReal = comSimboloReal;
+    }
+
+    /**
+     * Busca uma instância do formatador com símbolo ou sem.
+     *
+     * @param comSimboloReal Flag para saber qual instância buscar.
+     * @return FormatadorValor de acordo com a flag
+     */
+    public static FormatadorValor getInstance(boolean comSimboloReal) {
+        return comSimboloReal
+                ? INSTANCE_COM_SIMBOLO
+                : INSTANCE_SEM_SIMBOLO;
+    }
+
+    @Override
+    public String formata(String value) {
+        return formata(centavos(value));
+    }
+
+    /**
+     * Formata um valor em centavos (ex.: 123456 vira "1.234,56").
+     *
+     * @param centavos Valor em centavos
+     * @return Valor formatado
+     */
+    public String formata(long centavos) {
+        final char[] resultado = new char[Centavos.tamanhoFormatado(centavos, adicionaSimboloReal)];
+        Centavos.formata(centavos, adicionaSimboloReal, resultado, 0);
+        return new String(resultado);
+    }
+
+    @Override
+    public void formata(CharSequence valor, Appendable destino) throws IOException {
+        formata(centavos(valor), destino);
+    }
+
+    /**
+     * Formata um valor em centavos, acrescentando o resultado ao destino.
+     *
+     * @param centavos Valor em centavos
+     * @param destino  Destino do valor formatado
+     * @throws IOException caso o destino falhe
+     */
+    public void formata(long centavos, Appendable destino) throws IOException {
+        Centavos.formata(centavos, adicionaSimboloReal, destino);
+    }
+
+    @Override
+    public int formata(CharSequence valor, char[] destino, int inicio) {
+        return formata(centavos(valor), destino, inicio);
+    }
+
+    /**
+     * Formata um valor em centavos, escrevendo o resultado em um array.
+     *
+     * @param centavos Valor em centavos
+     * @param destino  Array de destino
+     * @param inicio   Posição inicial no destino
+     * @return Quantidade de caracteres escritos
+     * @throws IllegalArgumentException caso o resultado não caiba no destino
+     */
+    public int formata(long centavos, char[] destino, int inicio) {
+        FormatadorBase.confereEspaco(destino, inicio, Centavos.tamanhoFormatado(centavos, adicionaSimboloReal));
+        return Centavos.formata(centavos, adicionaSimboloReal, destino, inicio);
+    }
+
+    @Override
+    public String desformata(String value) {
+
+        final int inicio = inicioDoNumero(value);
+        final char[] resultado = new char[desformata(value, inicio, null, 0)];
+        desformata(value, inicio, resultado, 0);
+
+        return new String(resultado);
+    }
+
+    @Override
+    public void desformata(CharSequence valor, Appendable destino) throws IOException {
+
+        final int inicio = inicioDoNumero(valor);
+
+        // Confere o valor antes de escrever qualquer caractere no destino
+        desformata(valor, inicio, null, 0);
+        acrescentaDesformatado(valor, inicio, destino);
+    }
+
+    @Override
+    public int desformata(CharSequence valor, char[] destino, int inicio) {
+
+        final int inicioDoNumero = inicioDoNumero(valor);
+        FormatadorBase.confereEspaco(destino, inicio, desformata(valor, inicioDoNumero, null, 0));
+
+        return desformata(valor, inicioDoNumero, destino, inicio);
+    }
+
+    /**
+     * Converte para centavos um valor na mesma notação aceita por {@link #formata(String)}
+     * (ex.: "1234.565" vira 123456).
+     *
+     * @param valor Valor decimal com ponto
+     * @return Valor em centavos, arredondado como na formatação
+     * @throws NumberFormatException se o valor não for um número ou não couber em um long
+     */
+    public long centavos(CharSequence valor) {
+
+        if (valor == null) {
+            throw new IllegalArgumentException("Valor não pode ser nulo");
+        }
+
+        return Centavos.deDecimal(valor);
+    }
+
+    /**
+     * Converte para centavos um valor formatado, com ou sem o símbolo do Real (ex.: "R$ 1.234,56"
+     * vira 123456). Casas decimais além da segunda são arredondadas como na formatação.
+     *
+     * @param valor Valor formatado
+     * @return Valor em centavos
+     * @throws NumberFormatException se o valor não for um número ou não couber em um long
+     */
+    public long centavosDoFormatado(CharSequence valor) {
+        return Centavos.deFormatado(valor, inicioDoNumero(valor));
+    }
+
+    @Override
+    public boolean estaFormatado(String value) {
+
+        if (value == null) {
+            throw new IllegalArgumentException("Valor não pode ser nulo");
+        }
+
+        return PADRAO_MOEDA.matcher(value).matches();
+    }
+
+    @Override
+    public boolean podeSerFormatado(String value) {
+
+        if (value == null) {
+            throw new IllegalArgumentException("Valor não pode ser nulo");
+        }
+
+        return PADRAO_DECIMAL.matcher(value).matches();
+    }
+
+    // Início do número, após o símbolo do Real se houver
+    private static int inicioDoNumero(CharSequence valor) {
+
+        if (valor == null) {
+            throw new IllegalArgumentException("Valor não pode ser nulo");
+        }
+
+        final int tamanho = Centavos.SIMBOLO_REAL.length();
+        if (valor.length() < tamanho) {
+            return 0;
+        }
+
+        for (int i = 0; i < tamanho; i++) {
+            if (valor.charAt(i) != Centavos.SIMBOLO_REAL.charAt(i)) {
+                return 0;
+            }
+        }
+
+        return tamanho;
+    }
+
+    /*
+     * Mesmo resultado de new BigDecimal(valor sem pontos e com vírgula trocada por
+     * ponto).toPlainString(): sem zeros à esquerda, sinal apenas em valores diferentes de zero e
+     * casas decimais como informadas. Com destino nulo apenas conta os caracteres.
+     */
+    private static int desformata(CharSequence valor, int inicio, char[] destino, int posicaoInicial) {
+
+        final int fim = valor.length();
+        int i = inicio;
+
+        // Pontos são removidos, então o sinal pode vir depois deles
+        while (i < fim && valor.charAt(i) == '.') {
+            i++;
+        }
+
+        final boolean negativo = i < fim && valor.charAt(i) == '-';
+        if (i < fim && (valor.charAt(i) == '-' || valor.charAt(i) == '+')) {
+            i++;
+        }
+
+        boolean digitos = false;
+        boolean significativo = false;
+        boolean virgula = false;
+
+        for (int j = i; j < fim; j++) {
+            final char c = valor.charAt(j);
+
+            if (c >= '1' && c <= '9') {
+                digitos = true;
+                significativo = true;
+            } else if (c == '0') {
+                digitos = true;
+            } else if (c == ',' && !virgula) {
+                virgula = true;
+            } else if (c != '.') {
+                throw new NumberFormatException("Valor inválido: " + valor);
+            }
+        }
+
+        if (!digitos) {
+            throw new NumberFormatException("Valor inválido: " + valor);
+        }
+
+        int posicao = posicaoInicial;
+
+        if (negativo && significativo) {
+            posicao = escreve('-', destino, posicao);
+        }
+
+        boolean inteiros = false;
+        boolean decimais = false;
+        virgula = false;
+
+        for (; i < fim; i++) {
+            final char c = valor.charAt(i);
+
+            if (c == ',') {
+                virgula = true;
+            } else if (c == '.') {
+                continue;
+            } else if (virgula) {
+                if (!inteiros) {
+                    posicao = escreve('0', destino, posicao);
+                    inteiros = true;
+                }
+                if (!decimais) {
+                    posicao = escreve('.', destino, posicao);
+                    decimais = true;
+                }
+                posicao = escreve(c, destino, posicao);
+            } else if (c != '0' || inteiros) {
+                posicao = escreve(c, destino, posicao);
+                inteiros = true;
+            }
+        }
+
+        if (!inteiros) {
+            posicao = escreve('0', destino, posicao);
+        }
+
+        return posicao - posicaoInicial;
+    }
+
+    // Mesma escrita de desformata(CharSequence, int, char[], int) para um valor já conferido
+    private static void acrescentaDesformatado(CharSequence valor, int inicio, Appendable destino)
+            throws IOException {
+
+        final int fim = valor.length();
+        int i = inicio;
+
+        while (i < fim && valor.charAt(i) == '.') {
+            i++;
+        }
+
+        final boolean negativo = i < fim && valor.charAt(i) == '-';
+        if (i < fim && (valor.charAt(i) == '-' || valor.charAt(i) == '+')) {
+            i++;
+        }
+
+        if (negativo && temDigitoSignificativo(valor, i)) {
+            destino.append('-');
+        }
+
+        boolean inteiros = false;
+        boolean decimais = false;
+        boolean virgula = false;
+
+        for (; i < fim; i++) {
+            final char c = valor.charAt(i);
+
+            if (c == ',') {
+                virgula = true;
+            } else if (c == '.') {
+                continue;
+            } else if (virgula) {
+                if (!inteiros) {
+                    destino.append('0');
+                    inteiros = true;
+                }
+                if (!decimais) {
+                    destino.append('.');
+                    decimais = true;
+                }
+                destino.append(c);
+            } else if (c != '0' || inteiros) {
+                destino.append(c);
+                inteiros = true;
+            }
+        }
+
+        if (!inteiros) {
+            destino.append('0');
+        }
+    }
+
+    private static boolean temDigitoSignificativo(CharSequence valor, int inicio) {
+
+        for (int i = inicio; i < valor.length(); i++) {
+            final char c = valor.charAt(i);
+            if (c >= '1' && c <= '9') {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static int escreve(char c, char[] destino, int posicao) {
+        if (destino != null) {
+            destino[posicao] = c;
+        }
+        return posicao + 1;
+    }
+
+    private static final FormatadorValor INSTANCE_SEM_SIMBOLO = new FormatadorValor(false);
+    private static final FormatadorValor INSTANCE_COM_SIMBOLO = new FormatadorValor(true);
+}
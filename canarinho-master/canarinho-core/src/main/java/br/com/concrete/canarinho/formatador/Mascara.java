@@ -0,0 +1,370 @@
+package br.com.concrete.canarinho.formatador;
+
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Máscara numérica compilada a partir de um modelo como {@code ###.###.###-##}, a mesma notação
+ * dos watchers: cada '#' é a posição de um dígito e os demais caracteres são literais. Um espaço
+ * no modelo aceita qualquer caractere de espaço em branco (equivalente a {@code \s}) na
+ * verificação, mas é sempre escrito como ' ' na formatação.
+ * <p>
+ * As posições dos dígitos são calculadas uma única vez; formatar, desformatar e verificar um valor
+ * são apenas laços sobre os caracteres, sem expressões regulares. Imutável e segura para uso
+ * concorrente.
+ * </p>
+ * <p>
+ * {@link #compartilhada(String)} guarda as máscaras compiladas em um cache por modelo: formatadores
+ * e watchers que usam o mesmo modelo compartilham a mesma instância. Além das posições dos dígitos,
+ * a máscara guarda o mapa inverso (quantos dígitos há antes de cada posição), usado pelos watchers
+ * para aplicar a máscara a valores incompletos sem procurar os '#' a cada digitação.
+ * </p>
+ */
+public final class Mascara {
+
+    /**
+     * Caracter que representa um dígito no modelo.
+     */
+    public static final char DIGITO = '#';
+
+    // Máscaras compartilhadas, por modelo. Os modelos usados por uma aplicação são poucos
+    private static final ConcurrentMap<String, Mascara> COMPARTILHADAS = new ConcurrentHashMap<>();
+
+    private final String modelo;
+    private final char[] caracteres;
+
+    // Posição no valor formatado de cada dígito
+    private final int[] posicoesDosDigitos;
+
+    // Quantidade de dígitos antes de cada posição (de 0 a length(), inclusive)
+    private final int[] digitosAntes;
+
+    private Mascara(String modelo) {
+        this.modelo = modelo;
+        this.caracteres = modelo.toCharArray();
+
+        int quantidade = 0;
+        for (char c : caracteres) {
+            if (c == DIGITO) {
+                quantidade++;
+            }
+        }
+
+        this.posicoesDosDigitos = new int[quantidade];
+
+        this.digitosAntes = new int[caracteres.length + 1];
+
+        int digito = 0;
+        for (int i = 0; i < caracteres.length; i++) {
+            digitosAntes[i] = digito;
+            if (caracteres[i] == DIGITO) {
+                posicoesDosDigitos[digito++] = i;
+            }
+        }
+        digitosAntes[caracteres.length] = digito;
+    }
+
+    /**
+     * Compila um modelo de máscara.
+     *
+     * @param modelo Modelo com ao menos um '#'
+     * @return Máscara compilada
+     * @throws IllegalArgumentException se o modelo não tiver nenhum '#'
+     */
+    public static Mascara compila(String modelo) {
+
+        if (modelo == null || modelo.indexOf(DIGITO) < 0) {
+            throw new IllegalArgumentException("Máscara precisa conter ao menos um caracter '#'");
+        }
+
+        return new Mascara(modelo);
+    }
+
+    /**
+     * Busca a máscara compilada do modelo, compilando-a apenas no primeiro uso. Todas as chamadas
+     * com o mesmo modelo retornam a mesma instância.
+     *
+     * @param modelo Modelo com ao menos um '#'
+     * @return Máscara compilada compartilhada
+     * @throws IllegalArgumentException se o modelo não tiver nenhum '#'
+     */
+    public static Mascara compartilhada(String modelo) {
+
+        final Mascara existente = modelo == null ? null : COMPARTILHADAS.get(modelo);
+        if (existente != null) {
+            return existente;
+        }
+
+        final Mascara nova = compila(modelo);
+        final Mascara concorrente = COMPARTILHADAS.putIfAbsent(modelo, nova);
+
+        return concorrente == null ? nova : concorrente;
+    }
+
+    /**
+     * Modelo usado na compilação.
+     *
+     * @return Modelo
+     */
+    public String getModelo() {
+        return modelo;
+    }
+
+    /**
+     * Tamanho do valor formatado.
+     *
+     * @return Quantidade de caracteres
+     */
+    public int length() {
+        return caracteres.length;
+    }
+
+    /**
+     * Quantidade de dígitos (posições '#') do valor desformatado.
+     *
+     * @return Quantidade de dígitos
+     */
+    public int getQuantidadeDeDigitos() {
+        return posicoesDosDigitos.length;
+    }
+
+    /**
+     * Posição, no valor formatado, do dígito informado.
+     *
+     * @param indice Índice do dígito, de 0 a {@link #getQuantidadeDeDigitos()} - 1
+     * @return Posição do dígito
+     */
+    public int posicaoDoDigito(int indice) {
+        return posicoesDosDigitos[indice];
+    }
+
+    /**
+     * Quantidade de dígitos antes de uma posição do valor formatado; para a posição de um '#', é o
+     * índice do dígito.
+     *
+     * @param posicao Posição de 0 a {@link #length()}
+     * @return Quantidade de dígitos antes da posição
+     */
+    public int digitosAntes(int posicao) {
+        return digitosAntes[posicao];
+    }
+
+    /**
+     * Verifica se a posição do valor formatado é a de um dígito.
+     *
+     * @param posicao Posição de 0 a {@link #length()} - 1
+     * @return true se a posição for um '#' no modelo
+     */
+    public boolean ehPosicaoDeDigito(int posicao) {
+        return digitosAntes[posicao + 1] != digitosAntes[posicao];
+    }
+
+    /**
+     * Tamanho de um valor incompleto formatado: os literais seguintes ao último dígito são
+     * incluídos (ex.: "123." para três dígitos de CPF).
+     *
+     * @param quantidade Quantidade de dígitos do valor
+     * @return Tamanho do valor formatado (0 se não houver dígitos)
+     */
+    public int tamanhoParcial(int quantidade) {
+
+        if (quantidade <= 0) {
+            return 0;
+        }
+
+        return quantidade < posicoesDosDigitos.length ? posicoesDosDigitos[quantidade] : caracteres.length;
+    }
+
+    /**
+     * Verifica se o valor segue exatamente a máscara.
+     *
+     * @param valor Valor a verificar
+     * @return true se cada '#' corresponder a um dígito e cada literal a si mesmo
+     */
+    public boolean estaFormatado(CharSequence valor) {
+
+        if (valor.length() != caracteres.length) {
+            return false;
+        }
+
+        for (int i = 0; i < caracteres.length; i++) {
+            final char esperado = caracteres[i];
+            final char c = valor.charAt(i);
+
+            if (esperado == DIGITO) {
+                if (c < '0' || c > '9') {
+                    return false;
+                }
+            } else if (esperado == ' ' ? !ehEspaco(c) : c != esperado) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Verifica se o valor tem exatamente a quantidade de dígitos da máscara e nada mais.
+     *
+     * @param valor Valor a verificar
+     * @return true se puder ser formatado
+     */
+    public boolean podeSerFormatado(CharSequence valor) {
+
+        if (valor.length() != posicoesDosDigitos.length) {
+            return false;
+        }
+
+        for (int i = 0; i < posicoesDosDigitos.length; i++) {
+            final char c = valor.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Aplica a máscara a um valor desformatado. O valor deve ter sido conferido com
+     * {@link #podeSerFormatado(CharSequence)}.
+     *
+     * @param digitos Valor desformatado
+     * @param destino Array com {@link #length()} posições a partir de {@code inicio}
+     * @param inicio  Posição inicial no destino
+     * @return Quantidade de caracteres escritos
+     */
+    public int formata(CharSequence digitos, char[] destino, int inicio) {
+
+        System.arraycopy(caracteres, 0, destino, inicio, caracteres.length);
+
+        for (int i = 0; i < posicoesDosDigitos.length; i++) {
+            destino[inicio + posicoesDosDigitos[i]] = digitos.charAt(i);
+        }
+
+        return caracteres.length;
+    }
+
+    /**
+     * Aplica a máscara a um valor desformatado, acrescentando o resultado ao destino. O valor deve
+     * ter sido conferido com {@link #podeSerFormatado(CharSequence)}.
+     *
+     * @param digitos Valor desformatado
+     * @param destino Destino do valor formatado
+     * @throws IOException caso o destino falhe
+     */
+    public void formata(CharSequence digitos, Appendable destino) throws IOException {
+
+        int digito = 0;
+        for (char c : caracteres) {
+            destino.append(c == DIGITO ? digitos.charAt(digito++) : c);
+        }
+    }
+
+    /**
+     * Aplica a máscara a um valor desformatado.
+     *
+     * @param digitos Valor desformatado
+     * @return Valor formatado
+     * @throws IllegalArgumentException se o valor não puder ser formatado
+     */
+    public String formata(CharSequence digitos) {
+
+        if (!podeSerFormatado(digitos)) {
+            throw new IllegalArgumentException("Valor não está formatado propriamente.");
+        }
+
+        final char[] destino = new char[caracteres.length];
+        formata(digitos, destino, 0);
+        return new String(destino);
+    }
+
+    /**
+     * Aplica a máscara a um valor possivelmente incompleto, como os watchers fazem durante a
+     * digitação. Dígitos além da quantidade da máscara são ignorados e os literais seguintes ao
+     * último dígito são incluídos (veja {@link #tamanhoParcial(int)}).
+     *
+     * @param digitos    Apenas dígitos
+     * @param descartado Índice de um dígito a ignorar ou -1 para usar todos
+     * @param destino    Array com {@link #length()} posições a partir de {@code inicio}
+     * @param inicio     Posição inicial no destino
+     * @return Quantidade de caracteres escritos
+     */
+    public int formataParcial(CharSequence digitos, int descartado, char[] destino, int inicio) {
+
+        final boolean descarta = descartado >= 0 && descartado < digitos.length();
+        final int quantidade = Math.min(digitos.length() - (descarta ? 1 : 0), posicoesDosDigitos.length);
+        final int tamanho = tamanhoParcial(quantidade);
+
+        System.arraycopy(caracteres, 0, destino, inicio, tamanho);
+
+        for (int i = 0; i < quantidade; i++) {
+            final int origem = descarta && i >= descartado ? i + 1 : i;
+            destino[inicio + posicoesDosDigitos[i]] = digitos.charAt(origem);
+        }
+
+        return tamanho;
+    }
+
+    /**
+     * Extrai os dígitos de um valor formatado. O valor deve ter sido conferido com
+     * {@link #estaFormatado(CharSequence)}.
+     *
+     * @param formatado Valor formatado
+     * @param destino   Array com {@link #getQuantidadeDeDigitos()} posições a partir de
+     *                  {@code inicio}
+     * @param inicio    Posição inicial no destino
+     * @return Quantidade de dígitos escritos
+     */
+    public int desformata(CharSequence formatado, char[] destino, int inicio) {
+
+        for (int i = 0; i < posicoesDosDigitos.length; i++) {
+            destino[inicio + i] = formatado.charAt(posicoesDosDigitos[i]);
+        }
+
+        return posicoesDosDigitos.length;
+    }
+
+    /**
+     * Extrai os dígitos de um valor formatado, acrescentando-os ao destino. O valor deve ter sido
+     * conferido com {@link #estaFormatado(CharSequence)}.
+     *
+     * @param formatado Valor formatado
+     * @param destino   Destino dos dígitos
+     * @throws IOException caso o destino falhe
+     */
+    public void desformata(CharSequence formatado, Appendable destino) throws IOException {
+        for (int posicao : posicoesDosDigitos) {
+            destino.append(formatado.charAt(posicao));
+        }
+    }
+
+    /**
+     * Extrai os dígitos de um valor formatado.
+     *
+     * @param formatado Valor formatado
+     * @return Valor desformatado
+     * @throws IllegalArgumentException se o valor não estiver formatado
+     */
+    public String desformata(CharSequence formatado) {
+
+        if (!estaFormatado(formatado)) {
+            throw new IllegalArgumentException("Valor não está formatado propriamente.");
+        }
+
+        final char[] destino = new char[posicoesDosDigitos.length];
+        desformata(formatado, destino, 0);
+        return new String(destino);
+    }
+
+    @Override
+    public String toString() {
+        return modelo;
+    }
+
+    // Mesmos caracteres aceitos por \s
+    private static boolean ehEspaco(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+}
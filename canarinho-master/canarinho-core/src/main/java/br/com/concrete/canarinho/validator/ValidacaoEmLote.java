@@ -0,0 +1,97 @@
+package br.com.concrete.canarinho.validator;
+
+import br.com.concrete.canarinho.DocumentoNormalizado;
+
+import java.util.BitSet;
+
+/**
+ * Ponto de entrada da validação em lote para qualquer {@link Validador}. Validadores que estendem
+ * {@link ValidadorBase} (como todos os da biblioteca) usam as suas próprias implementações, que
+ * reaproveitam buffers entre os valores; os demais são validados valor a valor com
+ * {@link Validador#ehValido(String)}. O resultado é o mesmo nos dois casos.
+ *
+ * @see ValidacaoParalela
+ */
+public final class ValidacaoEmLote {
+
+    // No instance creation
+    private ValidacaoEmLote() {
+    }
+
+    /**
+     * Valida um documento cujos dígitos já foram extraídos.
+     *
+     * @param validador Validador a ser usado
+     * @param documento Dígitos do valor a ser validado
+     * @return true se estiver válido e false caso contrário
+     * @see ValidadorBase#ehValido(DocumentoNormalizado)
+     */
+    public static boolean ehValido(Validador validador, DocumentoNormalizado documento) {
+
+        if (validador instanceof ValidadorBase) {
+            return ((ValidadorBase) validador).ehValido(documento);
+        }
+
+        return validador.ehValido(documento.toString());
+    }
+
+    /**
+     * Valida um lote de valores. O resultado de {@code valores[i]} é gravado no bit {@code i} do
+     * {@link BitSet} (posições nulas são consideradas inválidas).
+     *
+     * @param validador Validador a ser usado
+     * @param valores   Valores a serem validados
+     * @param de        Primeira posição (inclusiva)
+     * @param ate       Última posição (exclusiva)
+     * @param resultado BitSet que receberá um bit por valor
+     * @see ValidadorBase#validaLote(CharSequence[], int, int, BitSet)
+     */
+    public static void valida(Validador validador, CharSequence[] valores, int de, int ate, BitSet resultado) {
+
+        if (validador instanceof ValidadorBase) {
+            ((ValidadorBase) validador).validaLote(valores, de, ate, resultado);
+            return;
+        }
+
+        for (int i = de; i < ate; i++) {
+            final CharSequence valor = valores[i];
+            resultado.set(i, valor != null && validador.ehValido(valor.toString()));
+        }
+    }
+
+    /**
+     * Valida um lote de registros de tamanho fixo empacotados em um array de bytes ASCII. O
+     * registro {@code i} ocupa os bytes de {@code i * tamanhoRegistro} até
+     * {@code (i + 1) * tamanhoRegistro} e seu resultado é gravado no bit {@code i}. Cada registro é
+     * validado pelos seus dígitos, ou seja, espaços e outros caracteres de preenchimento são
+     * ignorados.
+     *
+     * @param validador       Validador a ser usado
+     * @param registros       Registros empacotados
+     * @param tamanhoRegistro Tamanho, em bytes, de cada registro
+     * @param de              Primeiro registro (inclusivo)
+     * @param ate             Último registro (exclusivo)
+     * @param resultado       BitSet que receberá um bit por registro
+     * @see ValidadorBase#validaLote(byte[], int, int, int, BitSet)
+     */
+    public static void valida(Validador validador, byte[] registros, int tamanhoRegistro,
+                              int de, int ate, BitSet resultado) {
+
+        if (validador instanceof ValidadorBase) {
+            ((ValidadorBase) validador).validaLote(registros, tamanhoRegistro, de, ate, resultado);
+            return;
+        }
+
+        if (tamanhoRegistro <= 0) {
+            throw new IllegalArgumentException("Tamanho do registro deve ser positivo");
+        }
+
+        final DocumentoNormalizado documento = new DocumentoNormalizado(tamanhoRegistro);
+
+        for (int i = de; i < ate; i++) {
+            final int inicio = i * tamanhoRegistro;
+            documento.normaliza(registros, inicio, inicio + tamanhoRegistro);
+            resultado.set(i, validador.ehValido(documento.toString()));
+        }
+    }
+}
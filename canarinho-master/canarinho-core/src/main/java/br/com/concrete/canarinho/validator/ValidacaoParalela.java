@@ -0,0 +1,303 @@
+package br.com.concrete.canarinho.validator;
+
+import br.com.concrete.canarinho.DocumentoNormalizado;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Validação de grandes volumes de documentos dividida entre os núcleos disponíveis através de um
+ * {@link ForkJoinPool}.
+ * <p>
+ * O lote é dividido em blocos alinhados a 64 documentos, de forma que cada bloco grava apenas as
+ * suas próprias palavras do resultado: não há locks nem variáveis atômicas na consolidação. Cada
+ * tarefa usa buffers próprios e valida através de {@link ValidacaoEmLote} com o validador
+ * informado, portanto o resultado é sempre o mesmo da validação sequencial. Registros de tamanho
+ * fixo são lidos diretamente do array recebido.
+ * <p>
+ * Instâncias são imutáveis e podem ser compartilhadas entre threads.
+ */
+public final class ValidacaoParalela {
+
+    // Documentos por palavra do resultado
+    private static final int BITS_POR_PALAVRA = 64;
+
+    // Abaixo deste tamanho o custo de dividir a tarefa supera o ganho
+    private static final int LIMIAR = 64 * BITS_POR_PALAVRA;
+
+    private final Validador validador;
+
+    private final ForkJoinPool pool;
+
+    /**
+     * Cria uma validação paralela que usa o {@link ForkJoinPool#commonPool()}.
+     *
+     * @param validador Validador aplicado a cada documento
+     */
+    public ValidacaoParalela(Validador validador) {
+        this(validador, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Cria uma validação paralela que executa no pool informado.
+     *
+     * @param validador Validador aplicado a cada documento
+     * @param pool      Pool onde as tarefas serão executadas
+     */
+    public ValidacaoParalela(Validador validador, ForkJoinPool pool) {
+
+        if (validador == null || pool == null) {
+            throw new IllegalArgumentException("Valores não podem ser nulos");
+        }
+
+        this.validador = validador;
+        this.pool = pool;
+    }
+
+    /**
+     * Valida todos os valores. O bit {@code i} do resultado indica se {@code valores[i]} é válido
+     * (posições nulas são consideradas inválidas).
+     *
+     * @param valores Valores a serem validados
+     * @return BitSet com um bit por valor
+     */
+    public BitSet valida(CharSequence[] valores) {
+        final long[] palavras = new long[palavras(valores.length)];
+        pool.invoke(new TarefaDeValores(new Valores(valores), 0, valores.length, palavras));
+        return BitSet.valueOf(palavras);
+    }
+
+    /**
+     * Valida todos os valores de uma lista. A lista não deve ser alterada durante a validação e
+     * deve ter acesso aleatório eficiente (ex.: {@link java.util.ArrayList}).
+     *
+     * @param valores Valores a serem validados
+     * @return BitSet com um bit por valor
+     * @see #valida(CharSequence[])
+     */
+    public BitSet valida(List<? extends CharSequence> valores) {
+        final long[] palavras = new long[palavras(valores.size())];
+        pool.invoke(new TarefaDeValores(new Valores(valores), 0, valores.size(), palavras));
+        return BitSet.valueOf(palavras);
+    }
+
+    /**
+     * Valida registros de tamanho fixo empacotados em um array de bytes ASCII (veja
+     * {@link ValidacaoEmLote#valida(Validador, byte[], int, int, int, BitSet)}).
+     *
+     * @param registros       Registros empacotados
+     * @param tamanhoRegistro Tamanho, em bytes, de cada registro
+     * @return BitSet com um bit por registro
+     */
+    public BitSet valida(byte[] registros, int tamanhoRegistro) {
+        final int quantidade = quantidadeDeRegistros(registros, tamanhoRegistro);
+        final long[] palavras = new long[palavras(quantidade)];
+        pool.invoke(new TarefaDeRegistros(registros, tamanhoRegistro, 0, quantidade, palavras));
+        return BitSet.valueOf(palavras);
+    }
+
+    /**
+     * Conta quantos valores são válidos sem materializar o resultado de cada um.
+     *
+     * @param valores Valores a serem validados
+     * @return Quantidade de valores válidos
+     */
+    public int contaValidos(CharSequence[] valores) {
+        return pool.invoke(new TarefaDeValores(new Valores(valores), 0, valores.length, null));
+    }
+
+    /**
+     * Conta quantos valores de uma lista são válidos sem materializar o resultado de cada um.
+     *
+     * @param valores Valores a serem validados
+     * @return Quantidade de valores válidos
+     */
+    public int contaValidos(List<? extends CharSequence> valores) {
+        return pool.invoke(new TarefaDeValores(new Valores(valores), 0, valores.size(), null));
+    }
+
+    /**
+     * Conta quantos registros de tamanho fixo são válidos.
+     *
+     * @param registros       Registros empacotados
+     * @param tamanhoRegistro Tamanho, em bytes, de cada registro
+     * @return Quantidade de registros válidos
+     */
+    public int contaValidos(byte[] registros, int tamanhoRegistro) {
+        final int quantidade = quantidadeDeRegistros(registros, tamanhoRegistro);
+        return pool.invoke(new TarefaDeRegistros(registros, tamanhoRegistro, 0, quantidade, null));
+    }
+
+    private static int quantidadeDeRegistros(byte[] registros, int tamanhoRegistro) {
+
+        if (tamanhoRegistro <= 0) {
+            throw new IllegalArgumentException("Tamanho do registro deve ser positivo");
+        }
+
+        if (registros.length % tamanhoRegistro != 0) {
+            throw new IllegalArgumentException("Tamanho do array não é múltiplo do tamanho do registro");
+        }
+
+        return registros.length / tamanhoRegistro;
+    }
+
+    private static int palavras(int quantidade) {
+        return (quantidade + BITS_POR_PALAVRA - 1) / BITS_POR_PALAVRA;
+    }
+
+    // Ponto de divisão sempre múltiplo de 64 para que cada tarefa tenha palavras exclusivas
+    private static int meio(int de, int ate) {
+        return (de + (ate - de) / 2) & -BITS_POR_PALAVRA;
+    }
+
+    // Converte uma janela de até 64 bits de um BitSet em uma palavra
+    private static long palavra(BitSet janela) {
+        long palavra = 0L;
+        for (int i = janela.nextSetBit(0); i >= 0; i = janela.nextSetBit(i + 1)) {
+            palavra |= 1L << i;
+        }
+        return palavra;
+    }
+
+    // Acesso uniforme a arrays e listas
+    private static final class Valores {
+
+        private final CharSequence[] array;
+        private final List<? extends CharSequence> lista;
+
+        Valores(CharSequence[] array) {
+            this.array = array;
+            this.lista = null;
+        }
+
+        Valores(List<? extends CharSequence> lista) {
+            this.array = null;
+            this.lista = lista;
+        }
+
+        void copia(int de, CharSequence[] destino, int quantidade) {
+
+            if (array != null) {
+                System.arraycopy(array, de, destino, 0, quantidade);
+                return;
+            }
+
+            for (int i = 0; i < quantidade; i++) {
+                destino[i] = lista.get(de + i);
+            }
+        }
+    }
+
+    private final class TarefaDeValores extends RecursiveTask<Integer> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Valores valores;
+        private final int de;
+        private final int ate;
+        private final long[] palavras;
+
+        TarefaDeValores(Valores valores, int de, int ate, long[] palavras) {
+            this.valores = valores;
+            this.de = de;
+            this.ate = ate;
+            this.palavras = palavras;
+        }
+
+        @Override
+        protected Integer compute() {
+
+            final int meio = meio(de, ate);
+
+            if (ate - de > LIMIAR && meio > de) {
+                final TarefaDeValores direita = new TarefaDeValores(valores, meio, ate, palavras);
+                direita.fork();
+                final int esquerda = new TarefaDeValores(valores, de, meio, palavras).compute();
+                return esquerda + direita.join();
+            }
+
+            // Estado exclusivo desta tarefa
+            final CharSequence[] janela = new CharSequence[BITS_POR_PALAVRA];
+            final BitSet bits = new BitSet(BITS_POR_PALAVRA);
+            int validos = 0;
+
+            for (int inicio = de; inicio < ate; inicio += BITS_POR_PALAVRA) {
+                final int quantidade = Math.min(BITS_POR_PALAVRA, ate - inicio);
+
+                valores.copia(inicio, janela, quantidade);
+                bits.clear();
+                ValidacaoEmLote.valida(validador, janela, 0, quantidade, bits);
+
+                final long palavra = palavra(bits);
+                validos += Long.bitCount(palavra);
+
+                if (palavras != null) {
+                    palavras[inicio / BITS_POR_PALAVRA] = palavra;
+                }
+            }
+
+            return validos;
+        }
+    }
+
+    private final class TarefaDeRegistros extends RecursiveTask<Integer> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final byte[] registros;
+        private final int tamanhoRegistro;
+        private final int de;
+        private final int ate;
+        private final long[] palavras;
+
+        TarefaDeRegistros(byte[] registros, int tamanhoRegistro, int de, int ate, long[] palavras) {
+            this.registros = registros;
+            this.tamanhoRegistro = tamanhoRegistro;
+            this.de = de;
+            this.ate = ate;
+            this.palavras = palavras;
+        }
+
+        @Override
+        protected Integer compute() {
+
+            final int meio = meio(de, ate);
+
+            if (ate - de > LIMIAR && meio > de) {
+                final TarefaDeRegistros direita =
+                        new TarefaDeRegistros(registros, tamanhoRegistro, meio, ate, palavras);
+                direita.fork();
+                final int esquerda =
+                        new TarefaDeRegistros(registros, tamanhoRegistro, de, meio, palavras).compute();
+                return esquerda + direita.join();
+            }
+
+            // Estado exclusivo desta tarefa: os registros são lidos direto do array, sem cópia
+            final DocumentoNormalizado documento = new DocumentoNormalizado(tamanhoRegistro);
+            int validos = 0;
+
+            for (int inicio = de; inicio < ate; inicio += BITS_POR_PALAVRA) {
+                final int quantidade = Math.min(BITS_POR_PALAVRA, ate - inicio);
+
+                long palavra = 0L;
+                for (int i = 0; i < quantidade; i++) {
+                    final int posicao = (inicio + i) * tamanhoRegistro;
+                    documento.normaliza(registros, posicao, posicao + tamanhoRegistro);
+                    if (ValidacaoEmLote.ehValido(validador, documento)) {
+                        palavra |= 1L << i;
+                    }
+                }
+
+                validos += Long.bitCount(palavra);
+
+                if (palavras != null) {
+                    palavras[inicio / BITS_POR_PALAVRA] = palavra;
+                }
+            }
+
+            return validos;
+        }
+    }
+}
@@ -0,0 +1,261 @@
+package br.com.concrete.canarinho.validator;
+
+/**
+ * Interface de validação de campos. Há basicamente duas formas de validação:
+ * <ul>
+ * <li>Uma {@link String} completa</li>
+ * <li>Uma {@link CharSequence} (ex.: o Editable de um campo Android) e um
+ * {@link br.com.concrete.canarinho.validator.Validador.ResultadoParcial}</li>
+ * </ul>
+ * No primeiro caso o retorno será: true ou false. No segundo caso, o resultado será sempre
+ * atualizado no objeto {@link br.com.concrete.canarinho.validator.Validador.ResultadoParcial} passado.
+ */
+public interface Validador {
+
+    /**
+     * Referência para o singleton de validação de CPF.
+     */
+    Validador CPF = ValidadorCPF.getInstance();
+
+    /**
+     * Referência para o singleton de validação de CNPJ.
+     */
+    Validador CNPJ = ValidadorCNPJ.getInstance();
+
+    /**
+     * Referência para o singleton de validação de boleto.
+     */
+    Validador BOLETO = ValidadorBoleto.getInstance();
+
+    /**
+     * Referência para o singleton de validação de telefone.
+     */
+    Validador TELEFONE = ValidadorTelefone.getInstance();
+
+    /**
+     * Referência para o singleton de validação de CEP.
+     */
+    Validador CEP = ValidadorCEP.getInstance();
+
+    /**
+     * Valida uma {@link String} completa.
+     *
+     * @param valor Valor a ser validado
+     * @return true se estiver válida e false caso contrário
+     */
+    boolean ehValido(String valor);
+
+    /**
+     * Valida uma {@link CharSequence} retornando o
+     * {@link br.com.concrete.canarinho.validator.Validador.ResultadoParcial}.
+     *
+     * @param valor            CharSequence (ex.: Editable)
+     * @param resultadoParcial Objeto com o estado da validação
+     * @return Objeto com o estado da validação atualizado
+     */
+    ResultadoParcial ehValido(CharSequence valor, ResultadoParcial resultadoParcial);
+
+    /**
+     * Value Object com o estado da validação.
+     * <p>
+     * O erro é representado de forma primitiva: um código ({@code ERRO_*}), o bloco e a posição do
+     * dígito que falhou. A mensagem só é montada quando alguém chama {@link #getMensagem()}, então
+     * a validação a cada tecla não manipula Strings.
+     */
+    class ResultadoParcial {
+
+        /**
+         * Nenhum erro.
+         */
+        public static final int SEM_ERRO = 0;
+
+        /**
+         * CPF com dígitos verificadores inválidos ou com mais dígitos que o permitido.
+         */
+        public static final int ERRO_CPF = 1;
+
+        /**
+         * CNPJ com dígitos verificadores inválidos ou com mais dígitos que o permitido.
+         */
+        public static final int ERRO_CNPJ = 2;
+
+        /**
+         * CEP com quantidade de dígitos inválida.
+         */
+        public static final int ERRO_CEP = 3;
+
+        /**
+         * Telefone com quantidade de dígitos inválida.
+         */
+        public static final int ERRO_TELEFONE = 4;
+
+        /**
+         * Bloco de boleto com dígito verificador inválido (veja {@link #getBloco()}).
+         */
+        public static final int ERRO_BLOCO_BOLETO = 5;
+
+        private static final String[] NOMES_DOS_BLOCOS = {"Primeiro", "Segundo", "Terceiro", "Quarto"};
+
+        private boolean valido;
+        private boolean parcialmenteValido = true;
+        private String mensagem;
+        private int codigoDeErro = SEM_ERRO;
+        private int bloco;
+        private int posicao = -1;
+
+        public boolean isValido() {
+            return valido;
+        }
+
+        public boolean isParcialmenteValido() {
+            return parcialmenteValido;
+        }
+
+        /**
+         * Mensagem de erro: a informada em {@link #mensagem(String)} ou, se não houver, a
+         * correspondente ao código de erro atual.
+         *
+         * @return Mensagem de erro ou null se não houver erro
+         */
+        public String getMensagem() {
+
+            if (mensagem != null) {
+                return mensagem;
+            }
+
+            switch (codigoDeErro) {
+                case ERRO_CPF:
+                    return "CPF inválido";
+                case ERRO_CNPJ:
+                    return "CNPJ inválido";
+                case ERRO_CEP:
+                    return "CEP inválido";
+                case ERRO_TELEFONE:
+                    return "Telefone inválido";
+                case ERRO_BLOCO_BOLETO:
+                    // Sem bloco, por exemplo quando registrado por erro(int)
+                    return bloco == 0 ? "Bloco inválido" : NOMES_DOS_BLOCOS[bloco - 1] + " bloco inválido";
+                default:
+                    return null;
+            }
+        }
+
+        /**
+         * Código do último erro encontrado ({@link #SEM_ERRO} se não houver).
+         *
+         * @return Uma das constantes {@code ERRO_*}
+         */
+        public int getCodigoDeErro() {
+            return codigoDeErro;
+        }
+
+        /**
+         * Bloco (de 1 a 4) em que o erro foi encontrado, para validações divididas em blocos como a
+         * de boleto.
+         *
+         * @return Índice do bloco ou 0 se o erro não for de um bloco
+         */
+        public int getBloco() {
+            return bloco;
+        }
+
+        /**
+         * Posição, entre os dígitos do valor, do dígito verificador que falhou.
+         *
+         * @return Posição começando em 0 ou -1 se não se aplicar
+         */
+        public int getPosicao() {
+            return posicao;
+        }
+
+        /**
+         * Ajusta a validação com o valor de "totalmente válido".
+         *
+         * @param valido Flag totalmenteValido
+         * @return Fluent Interface "this"
+         */
+        public ResultadoParcial totalmenteValido(boolean valido) {
+            this.valido = valido;
+            return this;
+        }
+
+        /**
+         * Ajusta a validação com o valor de "totalmente válido".
+         *
+         * @param parcialmenteValido Flag parcialmenteValido
+         * @return Fluent Interface "this"
+         */
+        public ResultadoParcial parcialmenteValido(boolean parcialmenteValido) {
+            this.parcialmenteValido = parcialmenteValido;
+            return this;
+        }
+
+        /**
+         * Ajusta a mensagem de erro. Tem precedência sobre a mensagem derivada do código de erro.
+         *
+         * @param mensagem Mensagem usada na apresentação do erro.
+         * @return Fluent Interface "this"
+         */
+        public ResultadoParcial mensagem(String mensagem) {
+            this.mensagem = mensagem;
+            return this;
+        }
+
+        /**
+         * Registra um erro que não está associado a um bloco ou posição.
+         *
+         * @param codigoDeErro Uma das constantes {@code ERRO_*}
+         * @return Fluent Interface "this"
+         */
+        public ResultadoParcial erro(int codigoDeErro) {
+            return erro(codigoDeErro, 0, -1);
+        }
+
+        /**
+         * Registra um erro com o bloco e a posição em que foi encontrado.
+         *
+         * @param codigoDeErro Uma das constantes {@code ERRO_*}
+         * @param bloco        Bloco (de 1 a 4) ou 0 se não se aplicar
+         * @param posicao      Posição do dígito verificador que falhou ou -1 se não se aplicar
+         * @return Fluent Interface "this"
+         * @throws IllegalArgumentException se o bloco não estiver entre 0 e 4
+         */
+        public ResultadoParcial erro(int codigoDeErro, int bloco, int posicao) {
+
+            if (bloco < 0 || bloco > NOMES_DOS_BLOCOS.length) {
+                throw new IllegalArgumentException("Bloco inválido: " + bloco);
+            }
+
+            this.codigoDeErro = codigoDeErro;
+            this.bloco = bloco;
+            this.posicao = posicao;
+            this.mensagem = null;
+            return this;
+        }
+
+        /**
+         * Copia o estado de outro resultado, por exemplo um calculado em outra thread.
+         *
+         * @param outro Resultado de origem
+         * @return Fluent Interface "this"
+         */
+        public ResultadoParcial copiaDe(ResultadoParcial outro) {
+            this.valido = outro.valido;
+            this.parcialmenteValido = outro.parcialmenteValido;
+            this.mensagem = outro.mensagem;
+            this.codigoDeErro = outro.codigoDeErro;
+            this.bloco = outro.bloco;
+            this.posicao = outro.posicao;
+            return this;
+        }
+
+        /**
+         * Limpa o erro (código, bloco, posição e mensagem).
+         *
+         * @return Fluent Interface "this"
+         */
+        public ResultadoParcial semErro() {
+            return erro(SEM_ERRO, 0, -1);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package br.com.concrete.canarinho.validator;
+
+import br.com.concrete.canarinho.DocumentoNormalizado;
+
+import java.util.BitSet;
+
+/**
+ * Implementação base de {@link Validador} com as versões genéricas de validação de documentos
+ * normalizados e em lote. Basta implementar {@link #ehValido(String)} e
+ * {@link #ehValido(CharSequence, ResultadoParcial)}; as demais operações podem ser sobrescritas
+ * quando houver um caminho mais rápido.
+ * <p>
+ * Estas operações não fazem parte de {@link Validador}: como métodos abstratos elas quebrariam os
+ * validadores já implementados pelas aplicações, e como métodos default a interface passaria a ser
+ * inicializada junto com suas implementações, das quais as constantes de {@link Validador}
+ * dependem (o que causaria um ciclo de inicialização entre as classes). Para validar com qualquer
+ * {@link Validador} use {@link ValidacaoEmLote}, que usa estas operações quando disponíveis.
+ */
+public abstract class ValidadorBase implements Validador {
+
+    /**
+     * Valida um documento cujos dígitos já foram extraídos. Útil para quem valida muitos valores
+     * e reutiliza o mesmo {@link DocumentoNormalizado}, evitando limpar o valor mais de uma vez.
+     *
+     * @param documento Dígitos do valor a ser validado
+     * @return true se estiver válido e false caso contrário
+     */
+    public boolean ehValido(DocumentoNormalizado documento) {
+        return ehValido(documento.toString());
+    }
+
+    /**
+     * Valida um lote de valores de uma só vez. O resultado de {@code valores[i]} é gravado no bit
+     * {@code i} do {@link BitSet} (posições nulas são consideradas inválidas). Tem o mesmo
+     * resultado que chamar {@link #ehValido(String)} para cada posição, mas permite que as
+     * implementações reaproveitem buffers entre os valores.
+     *
+     * @param valores   Valores a serem validados
+     * @param de        Primeira posição (inclusiva)
+     * @param ate       Última posição (exclusiva)
+     * @param resultado BitSet que receberá um bit por valor
+     */
+    public void validaLote(CharSequence[] valores, int de, int ate, BitSet resultado) {
+
+        for (int i = de; i < ate; i++) {
+            final CharSequence valor = valores[i];
+            resultado.set(i, valor != null && ehValido(valor.toString()));
+        }
+    }
+
+    /**
+     * Valida um lote de registros de tamanho fixo empacotados em um array de bytes ASCII. O
+     * registro {@code i} ocupa os bytes de {@code i * tamanhoRegistro} até
+     * {@code (i + 1) * tamanhoRegistro} e seu resultado é gravado no bit {@code i}. Cada registro é
+     * validado pelos seus dígitos, ou seja, espaços e outros caracteres de preenchimento são
+     * ignorados (assim como em {@link #ehValido(DocumentoNormalizado)}).
+     *
+     * @param registros       Registros empacotados
+     * @param tamanhoRegistro Tamanho, em bytes, de cada registro
+     * @param de              Primeiro registro (inclusivo)
+     * @param ate             Último registro (exclusivo)
+     * @param resultado       BitSet que receberá um bit por registro
+     */
+    public void validaLote(byte[] registros, int tamanhoRegistro, int de, int ate, BitSet resultado) {
+
+        if (tamanhoRegistro <= 0) {
+            throw new IllegalArgumentException("Tamanho do registro deve ser positivo");
+        }
+
+        final DocumentoNormalizado documento = new DocumentoNormalizado(tamanhoRegistro);
+
+        for (int i = de; i < ate; i++) {
+            final int inicio = i * tamanhoRegistro;
+            resultado.set(i, ehValido(documento.normaliza(registros, inicio, inicio + tamanhoRegistro)));
+        }
+    }
+}
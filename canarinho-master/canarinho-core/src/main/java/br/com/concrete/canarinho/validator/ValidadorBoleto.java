@@ -0,0 +1,309 @@
+package br.com.concrete.canarinho.validator;
+
+
+import br.com.concrete.canarinho.Builder;
+import br.com.concrete.canarinho.DigitoPara;
+import br.com.concrete.canarinho.Digitos;
+import br.com.concrete.canarinho.DocumentoNormalizado;
+
+/**
+ * Implementação de @{link Validador} para boleto.
+ * <p>
+ * Para validar um campo a cada tecla digitada use {@link #incremental()}, que só recalcula os
+ * blocos alterados desde a última validação.
+ * </p>
+ *
+ * @see Validador
+ */
+public final class ValidadorBoleto extends ValidadorBase {
+
+    /**
+     * Instância de módulo 10 para cálculo de digito verificador de boleto. Imutável e segura para
+     * uso concorrente.
+     */
+    public static final DigitoPara MOD_10 = new Builder.BuilderFinal()
+            .mod(10)
+            .comMultiplicadores(2, 1)
+            .somandoIndividualmente()
+            .trocandoPorSeEncontrar("0", 10)
+            .complementarAoModulo()
+            .build();
+
+    /**
+     * Instância de módulo 11 para cálculo de digito verificador de boleto. Imutável e segura para
+     * uso concorrente.
+     */
+    public static final DigitoPara MOD_11 = new Builder.BuilderFinal()
+            .trocandoPorSeEncontrar("0", 10, 11)
+            .complementarAoModulo()
+            .build();
+
+    // Maior quantidade de dígitos considerada (boleto de tributo)
+    private static final int TAMANHO_MAXIMO = 48;
+
+    private static final int TAMANHO_NORMAL = 47;
+
+    // A partir deste tamanho já se sabe qual módulo o tributo usa
+    private static final int TAMANHO_PARCIAL_TRIBUTO = 3;
+
+    // Fim (exclusivo) de cada bloco com dígito verificador; o início é o fim do bloco anterior. O
+    // último dígito de cada bloco é o verificador.
+    private static final int[] FIM_DOS_BLOCOS_NORMAL = {10, 21, 32};
+    private static final int[] FIM_DOS_BLOCOS_TRIBUTO = {12, 24, 36, 48};
+
+    // Buffer de dígitos por thread: a instância é compartilhada, mas validar não aloca após o aquecimento
+    private static final ThreadLocal<char[]> DIGITOS = new ThreadLocal<char[]>() {
+        @Override
+        protected char[] initialValue() {
+            return new char[TAMANHO_MAXIMO];
+        }
+    };
+
+    // No instance creation
+    private ValidadorBoleto() {
+    }
+
+    public static ValidadorBoleto getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Cria um validador incremental para ser usado por um único campo (ex.: um
+     * {@code TextWatcher}). Ele lembra quais blocos já foram conferidos para o valor
+     * anterior e, a cada chamada, recalcula apenas os blocos a partir do primeiro dígito alterado.
+     * <p>
+     * Não é thread-safe: cada campo deve ter a sua instância.
+     * </p>
+     *
+     * @return Novo validador com o estado zerado
+     */
+    public static Validador incremental() {
+        return new Incremental();
+    }
+
+    @Override
+    public boolean ehValido(String valor) {
+
+        if (valor == null) {
+            throw new IllegalArgumentException("Campos não podem ser nulos");
+        }
+
+        // Dígitos além do máximo são contados, mas não copiados: nenhum bloco chega até eles
+        final char[] digitos = DIGITOS.get();
+        return confere(digitos, Digitos.extrai(valor, 0, valor.length(), digitos, 0));
+    }
+
+    @Override
+    public boolean ehValido(DocumentoNormalizado documento) {
+        return confere(documento.getDigitos(), documento.length());
+    }
+
+    @Override
+    public ResultadoParcial ehValido(CharSequence valor, ResultadoParcial resultadoParcial) {
+
+        if (resultadoParcial == null || valor == null) {
+            throw new IllegalArgumentException("Campos não podem ser nulos");
+        }
+
+        final char[] digitos = DIGITOS.get();
+        final int tamanho = extraiDigitos(valor, digitos);
+
+        valida(digitos, tamanho, 0, resultadoParcial);
+        return resultadoParcial;
+    }
+
+    /**
+     * Copia os dígitos do valor para o buffer (no máximo {@link #TAMANHO_MAXIMO}), aceitando apenas
+     * espaços e pontos como separadores.
+     *
+     * @return Quantidade de dígitos do valor
+     */
+    private static int extraiDigitos(CharSequence valor, char[] digitos) {
+
+        int tamanho = 0;
+
+        for (int i = 0; i < valor.length(); i++) {
+            final char c = valor.charAt(i);
+
+            if (c >= '0' && c <= '9') {
+                if (tamanho < TAMANHO_MAXIMO) {
+                    digitos[tamanho] = c;
+                }
+                tamanho++;
+            } else if (!ehSeparador(c)) {
+                throw new IllegalArgumentException("Apenas números, '.' e espaços são válidos");
+            }
+        }
+
+        return tamanho;
+    }
+
+    // Mesmos separadores aceitos por [\s.]
+    private static boolean ehSeparador(char c) {
+        return c == '.' || c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * Valida os blocos a partir de {@code conferidos}, assumindo que os anteriores já foram
+     * conferidos para os mesmos dígitos.
+     *
+     * @return Quantidade de blocos conferidos com sucesso (contando os já conferidos)
+     */
+    private static int valida(char[] digitos, int tamanho, int conferidos, ResultadoParcial resultadoParcial) {
+
+        resultadoParcial.semErro().totalmenteValido(false);
+
+        final boolean tributo = ehTributo(digitos, tamanho);
+
+        if (tamanho == 0 || (tributo && tamanho < TAMANHO_PARCIAL_TRIBUTO)) {
+            resultadoParcial.parcialmenteValido(true);
+            return 0;
+        }
+
+        final int[] fimDosBlocos = blocos(digitos, tamanho);
+        final int bloco = confereBlocos(digitos, tamanho, conferidos, fimDosBlocos, modulo(digitos, tributo));
+
+        if (bloco < fimDosBlocos.length) {
+
+            final int fim = fimDosBlocos[bloco];
+
+            if (tamanho < fim) {
+                resultadoParcial.parcialmenteValido(true);
+            } else {
+                resultadoParcial
+                        .erro(ResultadoParcial.ERRO_BLOCO_BOLETO, bloco + 1, fim - 1)
+                        .parcialmenteValido(false);
+            }
+
+            return bloco;
+        }
+
+        resultadoParcial
+                .parcialmenteValido(true)
+                .totalmenteValido(tamanho >= (tributo ? TAMANHO_MAXIMO : TAMANHO_NORMAL));
+
+        return fimDosBlocos.length;
+    }
+
+    /**
+     * Mesmo resultado que {@link #valida(char[], int, int, ResultadoParcial)} seguido de
+     * {@link ResultadoParcial#isValido()}, sem precisar de um {@link ResultadoParcial}.
+     */
+    private static boolean confere(char[] digitos, int tamanho) {
+
+        final boolean tributo = ehTributo(digitos, tamanho);
+
+        if (tamanho < (tributo ? TAMANHO_MAXIMO : TAMANHO_NORMAL)) {
+            return false;
+        }
+
+        final int[] fimDosBlocos = blocos(digitos, tamanho);
+        return confereBlocos(digitos, tamanho, 0, fimDosBlocos, modulo(digitos, tributo)) == fimDosBlocos.length;
+    }
+
+    /**
+     * Confere os blocos a partir de {@code conferidos}.
+     *
+     * @return O primeiro bloco incompleto ou com dígito verificador errado, ou a quantidade de
+     * blocos se todos conferirem
+     */
+    private static int confereBlocos(char[] digitos, int tamanho, int conferidos, int[] fimDosBlocos, DigitoPara mod) {
+
+        for (int bloco = conferidos; bloco < fimDosBlocos.length; bloco++) {
+
+            final int fim = fimDosBlocos[bloco];
+            final int inicio = bloco == 0 ? 0 : fimDosBlocos[bloco - 1];
+
+            if (tamanho < fim || mod.calculaDigito(digitos, inicio, fim - 1) != digitos[fim - 1]) {
+                return bloco;
+            }
+        }
+
+        return fimDosBlocos.length;
+    }
+
+    private static boolean ehTributo(char[] digitos, int tamanho) {
+        return tamanho > 0 && digitos[0] == '8';
+    }
+
+    private static int[] blocos(char[] digitos, int tamanho) {
+        return ehTributo(digitos, tamanho) ? FIM_DOS_BLOCOS_TRIBUTO : FIM_DOS_BLOCOS_NORMAL;
+    }
+
+    // Tributos usam módulo 10 quando o terceiro dígito é 6 ou 7
+    private static DigitoPara modulo(char[] digitos, boolean tributo) {
+        return !tributo || digitos[2] == '6' || digitos[2] == '7' ? MOD_10 : MOD_11;
+    }
+
+    /**
+     * Validador com estado que reaproveita os blocos já conferidos para o prefixo inalterado.
+     */
+    private static final class Incremental extends ValidadorBase {
+
+        private final char[] digitos = new char[TAMANHO_MAXIMO];
+        private int tamanho;
+        private int conferidos;
+
+        @Override
+        public boolean ehValido(String valor) {
+            return INSTANCE.ehValido(valor);
+        }
+
+        @Override
+        public boolean ehValido(DocumentoNormalizado documento) {
+            return INSTANCE.ehValido(documento);
+        }
+
+        @Override
+        public ResultadoParcial ehValido(CharSequence valor, ResultadoParcial resultadoParcial) {
+
+            if (resultadoParcial == null || valor == null) {
+                throw new IllegalArgumentException("Campos não podem ser nulos");
+            }
+
+            final int tamanhoAnterior = tamanho;
+            final int conferidosAnteriores = conferidos;
+
+            // Caso a extração falhe no meio, o buffer não reflete mais nenhum valor
+            tamanho = 0;
+            conferidos = 0;
+
+            int primeiraDiferenca = -1;
+            int novoTamanho = 0;
+
+            for (int i = 0; i < valor.length(); i++) {
+                final char c = valor.charAt(i);
+
+                if (c >= '0' && c <= '9') {
+                    if (novoTamanho < TAMANHO_MAXIMO) {
+                        if (primeiraDiferenca < 0
+                                && (novoTamanho >= tamanhoAnterior || digitos[novoTamanho] != c)) {
+                            primeiraDiferenca = novoTamanho;
+                        }
+                        digitos[novoTamanho] = c;
+                    }
+                    novoTamanho++;
+                } else if (!ehSeparador(c)) {
+                    throw new IllegalArgumentException("Apenas números, '.' e espaços são válidos");
+                }
+            }
+
+            if (primeiraDiferenca < 0) {
+                primeiraDiferenca = Math.min(novoTamanho, tamanhoAnterior);
+            }
+
+            // Blocos que terminam antes da primeira diferença continuam conferidos
+            final int[] fimDosBlocos = blocos(digitos, novoTamanho);
+            int aproveitados = 0;
+            while (aproveitados < conferidosAnteriores && fimDosBlocos[aproveitados] <= primeiraDiferenca) {
+                aproveitados++;
+            }
+
+            tamanho = novoTamanho;
+            conferidos = valida(digitos, novoTamanho, aproveitados, resultadoParcial);
+            return resultadoParcial;
+        }
+    }
+
+    private static final ValidadorBoleto INSTANCE = new ValidadorBoleto();
+}
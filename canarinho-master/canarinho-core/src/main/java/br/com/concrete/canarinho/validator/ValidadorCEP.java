@@ -1,15 +1,16 @@
 package br.com.concrete.canarinho.validator;
 
-import android.text.Editable;
-
-import br.com.concrete.canarinho.formatador.Formatador;
+import br.com.concrete.canarinho.Digitos;
+import br.com.concrete.canarinho.DocumentoNormalizado;
 
 /**
  * Implementação de @{link Validador} para CEP (Código de endereçamento Postal).
  *
  * @see Validador
  */
-public final class ValidadorCEP implements Validador {
+public final class ValidadorCEP extends ValidadorBase {
+
+    private static final int TAMANHO_CEP = 8;
 
     // No instance creation
     private ValidadorCEP() {
@@ -22,32 +23,36 @@ public final class ValidadorCEP implements Validador {
     @Override
     public boolean ehValido(String valor) {
 
-        if (valor == null || valor.length() < 8) {
+        if (valor == null || valor.length() < TAMANHO_CEP) {
             return false;
         }
 
-        final String desformatado = Formatador.Padroes.PADRAO_SOMENTE_NUMEROS.matcher(valor).replaceAll("");
+        return Digitos.conta(valor) == TAMANHO_CEP;
+    }
 
-        return desformatado.length() == 8;
+    @Override
+    public boolean ehValido(DocumentoNormalizado documento) {
+        return documento.length() == TAMANHO_CEP;
     }
 
     @Override
-    public ResultadoParcial ehValido(Editable valor, ResultadoParcial resultadoParcial) {
+    public ResultadoParcial ehValido(CharSequence valor, ResultadoParcial resultadoParcial) {
 
         if (resultadoParcial == null || valor == null) {
             throw new IllegalArgumentException("Valores não podem ser nulos");
         }
 
-        final String desformatado = Formatador.Padroes.PADRAO_SOMENTE_NUMEROS.matcher(valor).replaceAll("");
+        final int quantidadeDeDigitos = Digitos.conta(valor);
 
-        if (!ehValido(desformatado)) {
+        if (quantidadeDeDigitos != TAMANHO_CEP) {
             return resultadoParcial
-                    .parcialmenteValido(desformatado.length() < 8)
-                    .mensagem("CEP inválido")
+                    .parcialmenteValido(quantidadeDeDigitos < TAMANHO_CEP)
+                    .erro(ResultadoParcial.ERRO_CEP)
                     .totalmenteValido(false);
         }
 
         return resultadoParcial
+                .semErro()
                 .parcialmenteValido(true)
                 .totalmenteValido(true);
     }
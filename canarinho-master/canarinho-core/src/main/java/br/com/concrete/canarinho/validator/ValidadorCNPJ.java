@@ -0,0 +1,170 @@
+package br.com.concrete.canarinho.validator;
+
+import br.com.concrete.canarinho.Digitos;
+import br.com.concrete.canarinho.DocumentoNormalizado;
+
+import java.util.BitSet;
+
+/**
+ * Implementação de @{link Validador} para CNPJ.
+ *
+ * @see Validador
+ */
+public final class ValidadorCNPJ extends ValidadorBase {
+
+    private static final int TAMANHO_CNPJ = 14;
+
+    // Pesos por posição (da esquerda para a direita) dos 12 primeiros dígitos para cada DV.
+    // No segundo DV, o primeiro DV entra com peso 2.
+    private static final int[] PESOS_PRIMEIRO_DV = {5, 4, 3, 2, 9, 8, 7, 6, 5, 4, 3, 2};
+    private static final int[] PESOS_SEGUNDO_DV = {6, 5, 4, 3, 2, 9, 8, 7, 6, 5, 4, 3};
+
+    // No instance creation
+    private ValidadorCNPJ() {
+    }
+
+    public static ValidadorCNPJ getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public boolean ehValido(String value) {
+
+        if (value == null || value.length() < TAMANHO_CNPJ) {
+            return false;
+        }
+
+        return confereDigitos(value, 0, value.length());
+    }
+
+    @Override
+    public ResultadoParcial ehValido(CharSequence valor, ResultadoParcial resultadoParcial) {
+
+        if (resultadoParcial == null || valor == null) {
+            throw new IllegalArgumentException("Valores não podem ser nulos");
+        }
+
+        final int quantidadeDeDigitos = Digitos.conta(valor);
+
+        return valida(quantidadeDeDigitos,
+                quantidadeDeDigitos == TAMANHO_CNPJ && confereDigitos(valor, 0, valor.length()), resultadoParcial);
+    }
+
+    @Override
+    public boolean ehValido(DocumentoNormalizado documento) {
+        return confereDigitos(documento, 0, documento.length());
+    }
+
+    @Override
+    public void validaLote(CharSequence[] valores, int de, int ate, BitSet resultado) {
+
+        for (int i = de; i < ate; i++) {
+            final CharSequence valor = valores[i];
+            resultado.set(i, valor != null
+                    && valor.length() >= TAMANHO_CNPJ
+                    && confereDigitos(valor, 0, valor.length()));
+        }
+    }
+
+    // Recebe a quantidade de dígitos e a conferência dos DVs já feitas por quem chama
+    ResultadoParcial valida(int quantidadeDeDigitos, boolean digitosConferem, ResultadoParcial resultadoParcial) {
+
+        if (!digitosConferem) {
+            return resultadoParcial
+                    .parcialmenteValido(quantidadeDeDigitos < TAMANHO_CNPJ)
+                    .erro(ResultadoParcial.ERRO_CNPJ)
+                    .totalmenteValido(false);
+        }
+
+        return resultadoParcial
+                .semErro()
+                .parcialmenteValido(true)
+                .totalmenteValido(true);
+    }
+
+    /**
+     * Valida um CNPJ (formatado ou não) numa única passada da esquerda para a direita, sem alocar
+     * objetos. Caracteres que não são dígitos são ignorados. As duas somas ponderadas são
+     * acumuladas juntas e o segundo DV é derivado da segunda soma mais o primeiro DV.
+     *
+     * @param valor  Sequência que contém o CNPJ
+     * @param inicio Posição inicial (inclusiva)
+     * @param fim    Posição final (exclusiva)
+     * @return true se houver exatamente 14 dígitos e os DVs conferirem
+     */
+    static boolean confereDigitos(CharSequence valor, int inicio, int fim) {
+
+        int quantidade = 0;
+        int somaPrimeiro = 0;
+        int somaSegundo = 0;
+        int primeiroDv = 0;
+        int segundoDv = 0;
+
+        for (int i = inicio; i < fim; i++) {
+
+            final char c = valor.charAt(i);
+
+            if (c < '0' || c > '9') {
+                continue;
+            }
+
+            if (quantidade == TAMANHO_CNPJ) {
+                return false;
+            }
+
+            final int digito = c - '0';
+
+            if (quantidade < PESOS_PRIMEIRO_DV.length) {
+                somaPrimeiro += digito * PESOS_PRIMEIRO_DV[quantidade];
+                somaSegundo += digito * PESOS_SEGUNDO_DV[quantidade];
+            } else if (quantidade == PESOS_PRIMEIRO_DV.length) {
+                primeiroDv = digito;
+            } else {
+                segundoDv = digito;
+            }
+
+            quantidade++;
+        }
+
+        if (quantidade != TAMANHO_CNPJ) {
+            return false;
+        }
+
+        final int dvCalculado = digitoVerificador(somaPrimeiro);
+
+        return dvCalculado == primeiroDv
+                && digitoVerificador(somaSegundo + 2 * dvCalculado) == segundoDv;
+    }
+
+    /**
+     * Mesma conferência de {@link #confereDigitos(CharSequence, int, int)} para os 14 dígitos de
+     * um CNPJ já extraídos em BCD (4 bits por dígito, o primeiro nos bits mais altos).
+     *
+     * @param digitos 14 dígitos em BCD
+     * @return true se os DVs conferirem
+     */
+    static boolean confereBcd(long digitos) {
+
+        int somaPrimeiro = 0;
+        int somaSegundo = 0;
+
+        for (int i = 0; i < PESOS_PRIMEIRO_DV.length; i++) {
+            final int digito = (int) (digitos >>> (52 - 4 * i)) & 0xF;
+            somaPrimeiro += digito * PESOS_PRIMEIRO_DV[i];
+            somaSegundo += digito * PESOS_SEGUNDO_DV[i];
+        }
+
+        final int dvCalculado = digitoVerificador(somaPrimeiro);
+
+        return dvCalculado == ((int) (digitos >>> 4) & 0xF)
+                && digitoVerificador(somaSegundo + 2 * dvCalculado) == ((int) digitos & 0xF);
+    }
+
+    // Complementar do módulo 11, trocando 10 e 11 por 0
+    private static int digitoVerificador(int soma) {
+        final int resultado = 11 - soma % 11;
+        return resultado >= 10 ? 0 : resultado;
+    }
+
+    private static final ValidadorCNPJ INSTANCE = new ValidadorCNPJ();
+}
\ No newline at end of file
@@ -0,0 +1,198 @@
+package br.com.concrete.canarinho.validator;
+
+import br.com.concrete.canarinho.Digitos;
+import br.com.concrete.canarinho.DocumentoNormalizado;
+
+import java.util.BitSet;
+
+/**
+ * Implementação de @{link Validador} para CPF.
+ *
+ * @see Validador
+ */
+public final class ValidadorCPF extends ValidadorBase {
+
+    private static final int TAMANHO_CPF = 11;
+
+    // Pesos por posição (da esquerda para a direita) dos 9 primeiros dígitos para cada DV.
+    // No segundo DV, o primeiro DV entra com peso 2.
+    private static final int[] PESOS_PRIMEIRO_DV = {10, 9, 8, 7, 6, 5, 4, 3, 2};
+    private static final int[] PESOS_SEGUNDO_DV = {11, 10, 9, 8, 7, 6, 5, 4, 3};
+
+    // Válido pelo cálculo, mas considerado inválido pela Receita Federal
+    private static final String SEQUENCIA_INVALIDA = "12345678909";
+
+    // Em BCD (4 bits por dígito): a sequência inválida e o fator que repete um dígito 11 vezes
+    private static final long SEQUENCIA_INVALIDA_BCD = 0x12345678909L;
+    private static final long REPETICAO_BCD = 0x11111111111L;
+
+    // No instance creation
+    private ValidadorCPF() {
+    }
+
+    static ValidadorCPF getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public boolean ehValido(String value) {
+
+        if (value == null || value.length() < TAMANHO_CPF) {
+            return false;
+        }
+
+        return confereDigitos(value, 0, value.length());
+    }
+
+    @Override
+    public ResultadoParcial ehValido(CharSequence valor, ResultadoParcial resultadoParcial) {
+
+        if (resultadoParcial == null || valor == null) {
+            throw new IllegalArgumentException("Valores não podem ser nulos");
+        }
+
+        final int quantidadeDeDigitos = Digitos.conta(valor);
+
+        return valida(quantidadeDeDigitos,
+                quantidadeDeDigitos == TAMANHO_CPF && confereDigitos(valor, 0, valor.length()), resultadoParcial);
+    }
+
+    @Override
+    public boolean ehValido(DocumentoNormalizado documento) {
+        return confereDigitos(documento, 0, documento.length());
+    }
+
+    @Override
+    public void validaLote(CharSequence[] valores, int de, int ate, BitSet resultado) {
+
+        for (int i = de; i < ate; i++) {
+            final CharSequence valor = valores[i];
+            resultado.set(i, valor != null
+                    && valor.length() >= TAMANHO_CPF
+                    && confereDigitos(valor, 0, valor.length()));
+        }
+    }
+
+    // Recebe a quantidade de dígitos e a conferência dos DVs já feitas por quem chama
+    ResultadoParcial valida(int quantidadeDeDigitos, boolean digitosConferem, ResultadoParcial resultadoParcial) {
+
+        if (!digitosConferem) {
+            return resultadoParcial
+                    .parcialmenteValido(quantidadeDeDigitos < TAMANHO_CPF)
+                    .erro(ResultadoParcial.ERRO_CPF)
+                    .totalmenteValido(false);
+        }
+
+        return resultadoParcial
+                .semErro()
+                .parcialmenteValido(true)
+                .totalmenteValido(true);
+    }
+
+    /**
+     * Valida um CPF (formatado ou não) numa única passada da esquerda para a direita, sem alocar
+     * objetos. Caracteres que não são dígitos são ignorados. As duas somas ponderadas são
+     * acumuladas juntas e o segundo DV é derivado da segunda soma mais o primeiro DV.
+     *
+     * <p>De acordo ao cálculo dos digitos verificadores, os CPFs abaixo são válidos, entretanto os
+     * mesmo são considerados inválidos pela Receita Federal: 00000000000, 11111111111, ...,
+     * 99999999999 e 12345678909.</p>
+     *
+     * @param valor  Sequência que contém o CPF
+     * @param inicio Posição inicial (inclusiva)
+     * @param fim    Posição final (exclusiva)
+     * @return true se houver exatamente 11 dígitos e os DVs conferirem
+     */
+    static boolean confereDigitos(CharSequence valor, int inicio, int fim) {
+
+        int quantidade = 0;
+        int somaPrimeiro = 0;
+        int somaSegundo = 0;
+        int primeiroDv = 0;
+        int segundoDv = 0;
+        char primeiroDigito = 0;
+        boolean repetido = true;
+        boolean sequencia = true;
+
+        for (int i = inicio; i < fim; i++) {
+
+            final char c = valor.charAt(i);
+
+            if (c < '0' || c > '9') {
+                continue;
+            }
+
+            if (quantidade == TAMANHO_CPF) {
+                return false;
+            }
+
+            final int digito = c - '0';
+
+            if (quantidade < PESOS_PRIMEIRO_DV.length) {
+                somaPrimeiro += digito * PESOS_PRIMEIRO_DV[quantidade];
+                somaSegundo += digito * PESOS_SEGUNDO_DV[quantidade];
+            } else if (quantidade == PESOS_PRIMEIRO_DV.length) {
+                primeiroDv = digito;
+            } else {
+                segundoDv = digito;
+            }
+
+            if (quantidade == 0) {
+                primeiroDigito = c;
+            } else if (c != primeiroDigito) {
+                repetido = false;
+            }
+
+            if (c != SEQUENCIA_INVALIDA.charAt(quantidade)) {
+                sequencia = false;
+            }
+
+            quantidade++;
+        }
+
+        if (quantidade != TAMANHO_CPF || repetido || sequencia) {
+            return false;
+        }
+
+        final int dvCalculado = digitoVerificador(somaPrimeiro);
+
+        return dvCalculado == primeiroDv
+                && digitoVerificador(somaSegundo + 2 * dvCalculado) == segundoDv;
+    }
+
+    /**
+     * Mesma conferência de {@link #confereDigitos(CharSequence, int, int)} para os 11 dígitos de
+     * um CPF já extraídos em BCD (4 bits por dígito, o primeiro nos bits mais altos).
+     *
+     * @param digitos 11 dígitos em BCD
+     * @return true se os DVs conferirem
+     */
+    static boolean confereBcd(long digitos) {
+
+        if (digitos == SEQUENCIA_INVALIDA_BCD || digitos == (digitos >>> 40) * REPETICAO_BCD) {
+            return false;
+        }
+
+        int somaPrimeiro = 0;
+        int somaSegundo = 0;
+
+        for (int i = 0; i < PESOS_PRIMEIRO_DV.length; i++) {
+            final int digito = (int) (digitos >>> (40 - 4 * i)) & 0xF;
+            somaPrimeiro += digito * PESOS_PRIMEIRO_DV[i];
+            somaSegundo += digito * PESOS_SEGUNDO_DV[i];
+        }
+
+        final int dvCalculado = digitoVerificador(somaPrimeiro);
+
+        return dvCalculado == ((int) (digitos >>> 4) & 0xF)
+                && digitoVerificador(somaSegundo + 2 * dvCalculado) == ((int) digitos & 0xF);
+    }
+
+    // Complementar do módulo 11, trocando 10 e 11 por 0
+    private static int digitoVerificador(int soma) {
+        final int resultado = 11 - soma % 11;
+        return resultado >= 10 ? 0 : resultado;
+    }
+
+    private static final ValidadorCPF INSTANCE = new ValidadorCPF();
+}
\ No newline at end of file
@@ -0,0 +1,130 @@
+package br.com.concrete.canarinho.validator;
+
+import br.com.concrete.canarinho.DocumentoNormalizado;
+
+import java.util.BitSet;
+
+/**
+ * Implementação de @{link Validador} para CPF ou CNPJ no mesmo campo. Até 11 dígitos o valor é
+ * tratado como CPF e, a partir daí, como CNPJ. O valor é percorrido uma única vez: os dígitos são
+ * contados e os 14 primeiros guardados em BCD num {@code long}, que o validador escolhido pela
+ * quantidade confere sem voltar ao valor. Nada é alocado por chamada.
+ *
+ * @see Validador
+ */
+public final class ValidadorCPFCNPJ extends ValidadorBase {
+
+    private static final int CPF_TAMANHO_EXCEDENTE = 12;
+    private static final int TAMANHO_CPF = 11;
+    private static final int TAMANHO_CNPJ = 14;
+
+    // Bits do resultado de extrai: a quantidade de dígitos fica acima dos 14 dígitos em BCD
+    private static final int DESLOCAMENTO_QUANTIDADE = 4 * TAMANHO_CNPJ;
+    private static final long MASCARA_BCD = (1L << DESLOCAMENTO_QUANTIDADE) - 1;
+    private static final int QUANTIDADE_MAXIMA = 0xFF;
+
+    // No instance creation
+    private ValidadorCPFCNPJ() {
+    }
+
+    public static ValidadorCPFCNPJ getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public boolean ehValido(final String valor) {
+        if (valor == null || (valor.length() != TAMANHO_CPF && valor.length() != TAMANHO_CNPJ)) {
+            return false;
+        }
+
+        final long extraido = extrai(valor);
+        final int quantidadeDeDigitos = quantidade(extraido);
+
+        if (quantidadeDeDigitos == TAMANHO_CPF) {
+            return ValidadorCPF.confereBcd(extraido & MASCARA_BCD);
+        }
+
+        return quantidadeDeDigitos == TAMANHO_CNPJ && ValidadorCNPJ.confereBcd(extraido & MASCARA_BCD);
+    }
+
+    @Override
+    public boolean ehValido(DocumentoNormalizado documento) {
+
+        if (ehCpf(documento.length())) {
+            return ValidadorCPF.getInstance().ehValido(documento);
+        }
+
+        return ValidadorCNPJ.getInstance().ehValido(documento);
+    }
+
+    @Override
+    public void validaLote(CharSequence[] valores, int de, int ate, BitSet resultado) {
+
+        // Um único buffer para o lote inteiro
+        final DocumentoNormalizado documento = new DocumentoNormalizado(TAMANHO_CNPJ);
+
+        for (int i = de; i < ate; i++) {
+            final CharSequence valor = valores[i];
+            resultado.set(i, valor != null
+                    && (valor.length() == TAMANHO_CPF || valor.length() == TAMANHO_CNPJ)
+                    && ehValido(documento.normaliza(valor)));
+        }
+    }
+
+    @Override
+    public ResultadoParcial ehValido(final CharSequence valor, final ResultadoParcial resultadoParcial) {
+        if (resultadoParcial == null || valor == null) {
+            throw new IllegalArgumentException("Valores não podem ser nulos");
+        }
+
+        final long extraido = extrai(valor);
+        final int quantidadeDeDigitos = quantidade(extraido);
+
+        if (ehCpf(quantidadeDeDigitos)) {
+            return ValidadorCPF.getInstance().valida(quantidadeDeDigitos,
+                    quantidadeDeDigitos == TAMANHO_CPF && ValidadorCPF.confereBcd(extraido & MASCARA_BCD),
+                    resultadoParcial);
+        }
+
+        return ValidadorCNPJ.getInstance().valida(quantidadeDeDigitos,
+                quantidadeDeDigitos == TAMANHO_CNPJ && ValidadorCNPJ.confereBcd(extraido & MASCARA_BCD),
+                resultadoParcial);
+    }
+
+    private boolean ehCpf(int quantidadeDeDigitos) {
+        return quantidadeDeDigitos < CPF_TAMANHO_EXCEDENTE;
+    }
+
+    // Numa única passada, conta os dígitos (até 255) e guarda os 14 primeiros em BCD, o último
+    // nos bits mais baixos; a quantidade vai nos 8 bits mais altos
+    private static long extrai(CharSequence valor) {
+
+        long digitos = 0;
+        int quantidade = 0;
+
+        for (int i = 0; i < valor.length(); i++) {
+
+            final char c = valor.charAt(i);
+
+            if (c < '0' || c > '9') {
+                continue;
+            }
+
+            if (quantidade < TAMANHO_CNPJ) {
+                digitos = digitos << 4 | (c - '0');
+            }
+
+            if (quantidade < QUANTIDADE_MAXIMA) {
+                quantidade++;
+            }
+        }
+
+        return (long) quantidade << DESLOCAMENTO_QUANTIDADE | digitos;
+    }
+
+    private static int quantidade(long extraido) {
+        return (int) (extraido >>> DESLOCAMENTO_QUANTIDADE);
+    }
+
+    private static final ValidadorCPFCNPJ INSTANCE = new ValidadorCPFCNPJ();
+}
\ No newline at end of file
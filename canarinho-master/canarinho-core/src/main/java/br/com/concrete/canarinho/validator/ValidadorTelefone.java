@@ -0,0 +1,57 @@
+package br.com.concrete.canarinho.validator;
+
+import br.com.concrete.canarinho.Digitos;
+import br.com.concrete.canarinho.DocumentoNormalizado;
+
+public final class ValidadorTelefone extends ValidadorBase {
+
+    // No instance creation
+    private ValidadorTelefone() {
+    }
+
+    public static ValidadorTelefone getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public boolean ehValido(String valor) {
+        if (valor == null || valor.length() < 10) {
+            return false;
+        }
+
+        return ehValido(Digitos.conta(valor));
+    }
+
+    @Override
+    public boolean ehValido(DocumentoNormalizado documento) {
+        return ehValido(documento.length());
+    }
+
+    @Override
+    public ResultadoParcial ehValido(CharSequence valor, ResultadoParcial resultadoParcial) {
+        if (resultadoParcial == null || valor == null) {
+            throw new IllegalArgumentException("Valores não podem ser nulos");
+        }
+
+        final int quantidadeDeDigitos = Digitos.conta(valor);
+
+        if (!ehValido(quantidadeDeDigitos)) {
+            return resultadoParcial
+                    .parcialmenteValido(quantidadeDeDigitos < 11)
+                    .erro(ResultadoParcial.ERRO_TELEFONE)
+                    .totalmenteValido(false);
+        }
+
+        return resultadoParcial
+                .semErro()
+                .parcialmenteValido(true)
+                .totalmenteValido(true);
+    }
+
+    // Telefones com 8 ou 9 dígitos mais o DDD
+    private boolean ehValido(int quantidadeDeDigitos) {
+        return quantidadeDeDigitos == 10 || quantidadeDeDigitos == 11;
+    }
+
+    private static final ValidadorTelefone INSTANCE = new ValidadorTelefone();
+}
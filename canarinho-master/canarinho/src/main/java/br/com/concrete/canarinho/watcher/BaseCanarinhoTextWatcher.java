@@ -1,32 +1,120 @@
 package br.com.concrete.canarinho.watcher;
 
+import android.os.Handler;
+import android.os.Looper;
 import android.text.Editable;
+import android.text.InputFilter;
 import android.text.Selection;
+import android.text.Spanned;
 import android.text.TextWatcher;
 
-import br.com.concrete.canarinho.formatador.Formatador;
+import br.com.concrete.canarinho.Digitos;
+import br.com.concrete.canarinho.DocumentoNormalizado;
+import br.com.concrete.canarinho.formatador.Mascara;
 import br.com.concrete.canarinho.validator.Validador;
 import br.com.concrete.canarinho.watcher.evento.EventoDeValidacao;
 
+import java.nio.CharBuffer;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+
 /**
  * Classe base para Watchers que possuem máscara e efetuam validação.
+ * <p>
+ * A alteração feita pelo usuário (início, removidos e inseridos) é capturada em
+ * {@link #beforeTextChanged(CharSequence, int, int, int)} e
+ * {@link #onTextChanged(CharSequence, int, int, int)}. Em
+ * {@link #aplicaMascara(Validador, Validador.ResultadoParcial, Editable, char[])} ela é traduzida
+ * para a posição entre os dígitos: só o trecho do Editable que mudou é substituído e o cursor
+ * continua onde o usuário está editando.
+ * </p>
+ * <p>
+ * Por padrão a validação roda na thread principal, logo após a formatação. Com
+ * {@link #setExecutorDeValidacao(Executor)} ela passa a rodar no executor informado: cada alteração
+ * recebe uma geração e apenas o resultado da geração mais recente é entregue ao
+ * {@link EventoDeValidacao}, na thread principal.
+ * </p>
+ * <p>
+ * Com {@link #setNotificaApenasTransicoes(boolean)} o último estado notificado (situação, código
+ * de erro e bloco) é guardado em campos primitivos e o {@link EventoDeValidacao} só é chamado
+ * quando esse estado muda. O valor em String só é montado quando um callback vai de fato rodar.
+ * </p>
+ * <p>
+ * Com {@link #comoFiltro()} a máscara também é aplicada por um {@link InputFilter}: a alteração já
+ * chega formatada ao Editable, em uma única mutação, e o watcher apenas posiciona o cursor e
+ * valida. Alterações que não podem ser expressas como a troca do trecho editado (como inserir no
+ * meio, quando os literais seguintes mudam de lugar) passam sem filtro e são formatadas pelo
+ * watcher, como no modo padrão.
+ * </p>
+ * <p>
+ * Com {@link #setInstrumentacao(InstrumentacaoDeLatencia)} o tempo gasto em cada alteração é
+ * registrado por etapa (máscara, validação e substituição no Editable). Sem instrumentação o
+ * relógio não é lido.
+ * </p>
  *
  * @see Validador
  */
 public abstract class BaseCanarinhoTextWatcher implements TextWatcher {
 
+    // Filtros de tamanho compartilhados por todos os watchers, por tamanho da máscara
+    private static final ConcurrentMap<Integer, InputFilter[]> FILTROS_DE_TAMANHO = new ConcurrentHashMap<>();
+
     private boolean mudancaInterna = false;
     private int tamanhoAnterior = 0;
     private EventoDeValidacao eventoDeValidacao;
 
+    // Reutilizado a cada digitação para extrair os dígitos sem regex
+    private final DocumentoNormalizado digitos = new DocumentoNormalizado();
+
+    // Valor formatado, reaproveitado enquanto couber a máscara
+    private char[] formatado = new char[0];
+    private CharBuffer textoFormatado = CharBuffer.wrap(formatado);
+
+    // Validação em segundo plano (opcional). A geração só é incrementada na thread principal
+    private final Object travaDaValidacao = new Object();
+    private Executor executorDeValidacao;
+    private Handler threadPrincipal;
+    private volatile int geracao;
+
+    // Último estado notificado, usado quando apenas transições são notificadas
+    private static final int NENHUM = -1;
+    private static final int INVALIDO = 0;
+    private static final int PARCIALMENTE_VALIDO = 1;
+    private static final int TOTALMENTE_VALIDO = 2;
+
+    private boolean notificaApenasTransicoes;
+    private int ultimoEstado = NENHUM;
+    private int ultimoCodigoDeErro;
+    private int ultimoBloco;
+    private String ultimaMensagemLivre;
+
+    // Formatação por InputFilter (opcional)
+    private boolean modoFiltro;
+    private FiltroDeMascara filtro;
+
+    // Medição de latência (opcional)
+    private InstrumentacaoDeLatencia instrumentacao;
+
+    // Alteração em curso, capturada antes do afterTextChanged
+    private boolean alteracaoCapturada;
+    private int fimDaAlteracao;
+    private boolean removeuApenasFormatacao;
+
     @Override
     public void beforeTextChanged(CharSequence s, int start, int count, int after) {
-        // Não faz nada aqui
+        if (!mudancaInterna) {
+            // Apagar só caracteres da máscara (ex.: o '.' de um CPF) apaga o dígito anterior
+            removeuApenasFormatacao = count > 0 && after == 0 && Digitos.conta(s, start, start + count) == 0;
+        }
     }
 
     @Override
     public void onTextChanged(CharSequence s, int start, int before, int count) {
-        // Não faz nada aqui
+        if (!mudancaInterna) {
+            fimDaAlteracao = start + count;
+            alteracaoCapturada = true;
+        }
     }
 
     public boolean isMudancaInterna() {
@@ -40,6 +128,122 @@ public abstract class BaseCanarinhoTextWatcher implements TextWatcher {
 
     public void setEventoDeValidacao(EventoDeValidacao eventoDeValidacao) {
         this.eventoDeValidacao = eventoDeValidacao;
+        this.ultimoEstado = NENHUM;
+    }
+
+    /**
+     * Define se o {@link EventoDeValidacao} será chamado a cada alteração (padrão) ou apenas quando
+     * o resultado da validação mudar: de parcialmente válido para inválido, de um erro para outro
+     * (código ou bloco diferentes), de parcialmente para totalmente válido e assim por diante.
+     * Evita, por exemplo, que o mesmo erro seja reaplicado a um {@code TextInputLayout} a cada
+     * caracter digitado.
+     *
+     * @param notificaApenasTransicoes true para notificar apenas as mudanças de estado
+     */
+    public void setNotificaApenasTransicoes(boolean notificaApenasTransicoes) {
+        this.notificaApenasTransicoes = notificaApenasTransicoes;
+        this.ultimoEstado = NENHUM;
+    }
+
+    /**
+     * Ativa o modo filtro e retorna o {@link InputFilter} que aplica a máscara deste watcher antes
+     * de a alteração ser gravada. O filtro deve ser o único do campo e o watcher continua
+     * necessário, para posicionar o cursor, validar e tratar as alterações que o filtro não formata:
+     * <pre>
+     * editText.setFilters(new InputFilter[]{watcher.comoFiltro()});
+     * editText.addTextChangedListener(watcher);
+     * </pre>
+     * No modo filtro o watcher não troca os filtros do Editable; o tamanho é limitado pela própria
+     * máscara.
+     *
+     * @return Filtro deste watcher
+     * @throws IllegalStateException se o watcher não informar a máscara em
+     *                               {@link #mascaraPara(CharSequence)}
+     */
+    public InputFilter comoFiltro() {
+
+        if (filtro == null) {
+            if (mascaraPara("0") == null) {
+                throw new IllegalStateException("Watcher não informa a máscara para o modo filtro");
+            }
+            filtro = new FiltroDeMascara();
+        }
+
+        modoFiltro = true;
+        return filtro;
+    }
+
+    /**
+     * Indica se o watcher está no modo filtro (veja {@link #comoFiltro()}). Nesse modo os watchers
+     * não devem chamar {@link Editable#setFilters(InputFilter[])}.
+     *
+     * @return true se a máscara também é aplicada por um {@link InputFilter}
+     */
+    public boolean isModoFiltro() {
+        return modoFiltro;
+    }
+
+    /**
+     * Máscara que o watcher aplica a um valor. Usada pelo filtro de {@link #comoFiltro()} e, em
+     * {@link #aplicaMascara(Validador, Validador.ResultadoParcial, Editable, Mascara)}, para escolher
+     * de novo a máscara quando apagar a formatação descarta um dígito. A implementação padrão
+     * retorna null, indicando que o watcher não suporta o modo filtro.
+     *
+     * @param valor Valor com ao menos um dígito, formatado ou não
+     * @return Máscara do valor ou null
+     */
+    protected Mascara mascaraPara(CharSequence valor) {
+        return null;
+    }
+
+    /**
+     * Tamanho máximo do campo no modo filtro, o mesmo do {@link InputFilter.LengthFilter} que o
+     * watcher aplica no modo padrão. Por padrão é o tamanho da máscara do valor atual.
+     *
+     * @param valor Valor atual do campo (pode estar vazio)
+     * @return Quantidade máxima de caracteres
+     */
+    protected int tamanhoMaximo(CharSequence valor) {
+        return mascaraPara(valor).length();
+    }
+
+    /**
+     * Ativa a validação em segundo plano. A formatação continua síncrona; a validação de cada
+     * alteração é enviada ao executor e os callbacks de {@link EventoDeValidacao} são entregues na
+     * thread principal apenas para o valor mais recente. Validações de um mesmo watcher nunca rodam
+     * ao mesmo tempo, então validadores com estado (como {@code ValidadorBoleto.incremental()})
+     * continuam seguros.
+     *
+     * @param executor Executor das validações ou null para validar na thread principal
+     */
+    public void setExecutorDeValidacao(Executor executor) {
+        this.executorDeValidacao = executor;
+        this.threadPrincipal = executor == null ? null : new Handler(Looper.getMainLooper());
+        descartaValidacoesPendentes();
+    }
+
+    /**
+     * Ativa a medição de latência: a cada alteração, o tempo gasto aplicando a máscara, em
+     * {@link #efetuaValidacao(Validador, Validador.ResultadoParcial, Editable)} e substituindo o
+     * texto do Editable é registrado nos histogramas da instrumentação.
+     *
+     * @param instrumentacao Instrumentação (pode ser compartilhada) ou null para desativar
+     */
+    public void setInstrumentacao(InstrumentacaoDeLatencia instrumentacao) {
+        this.instrumentacao = instrumentacao;
+    }
+
+    public InstrumentacaoDeLatencia getInstrumentacao() {
+        return instrumentacao;
+    }
+
+    /**
+     * Utilitário para implementações de Watcher customizadas.
+     * Descarta os resultados de validações em segundo plano ainda não entregues, por exemplo
+     * quando o watcher ajusta o {@link Validador.ResultadoParcial} diretamente.
+     */
+    protected void descartaValidacoesPendentes() {
+        geracao++;
     }
 
     /**
@@ -67,6 +271,9 @@ public abstract class BaseCanarinhoTextWatcher implements TextWatcher {
     protected void atualizaTexto(Validador validador, Validador.ResultadoParcial resultadoParcial,
                                  Editable s, StringBuilder builder) {
 
+        final InstrumentacaoDeLatencia medicao = instrumentacao;
+        final long inicio = medicao == null ? 0 : System.nanoTime();
+
         tamanhoAnterior = builder.length();
         mudancaInterna = true;
         s.replace(0, s.length(), builder, 0, builder.length());
@@ -76,12 +283,128 @@ public abstract class BaseCanarinhoTextWatcher implements TextWatcher {
             Selection.setSelection(s, builder.length());
         }
 
+        if (medicao != null) {
+            medicao.getSubstituicao().registra(System.nanoTime() - inicio);
+        }
+
+        efetuaValidacao(validador, resultadoParcial, s);
+        mudancaInterna = false;
+    }
+
+    /**
+     * Utilitário para implementações de Watcher customizadas.
+     * Filtro que limita o Editable ao tamanho da máscara. A mesma instância é devolvida para todas
+     * as máscaras de mesmo tamanho, então pode ser comparada por referência com
+     * {@link Editable#getFilters()}.
+     *
+     * @param mascara Máscara do Watcher
+     * @return Filtro compartilhado (não deve ser alterado)
+     */
+    protected static InputFilter[] filtroDeTamanho(Mascara mascara) {
+
+        final Integer tamanho = mascara.length();
+        final InputFilter[] existente = FILTROS_DE_TAMANHO.get(tamanho);
+        if (existente != null) {
+            return existente;
+        }
+
+        final InputFilter[] novo = new InputFilter[]{new InputFilter.LengthFilter(tamanho)};
+        final InputFilter[] concorrente = FILTROS_DE_TAMANHO.putIfAbsent(tamanho, novo);
+
+        return concorrente == null ? novo : concorrente;
+    }
+
+    /**
+     * Utilitário para implementações de Watcher customizadas.
+     * Mesmo que {@link #aplicaMascara(Validador, Validador.ResultadoParcial, Editable, Mascara)},
+     * usando a máscara compartilhada do modelo informado.
+     *
+     * @param validador        Validador utilizado para verificar o input
+     * @param resultadoParcial Objeto de validação
+     * @param s                Editable em uso
+     * @param mascara          máscara do Watcher
+     */
+    protected void aplicaMascara(Validador validador, Validador.ResultadoParcial resultadoParcial,
+                                 Editable s, char[] mascara) {
+        aplicaMascara(validador, resultadoParcial, s, Mascara.compartilhada(String.valueOf(mascara)));
+    }
+
+    /**
+     * Utilitário para implementações de Watcher customizadas.
+     * Aplica a máscara aos dígitos do Editable levando em conta a última alteração: apenas o
+     * trecho que mudou é substituído e o cursor fica logo após o último dígito inserido (ou no
+     * ponto da remoção). Apagar apenas caracteres da máscara apaga também o dígito anterior a
+     * eles. Sem uma alteração capturada, o cursor vai para o fim do conteúdo.
+     *
+     * @param validador        Validador utilizado para verificar o input
+     * @param resultadoParcial Objeto de validação
+     * @param s                Editable em uso
+     * @param mascara          máscara compilada do Watcher
+     */
+    protected void aplicaMascara(Validador validador, Validador.ResultadoParcial resultadoParcial,
+                                 Editable s, Mascara mascara) {
+
+        final InstrumentacaoDeLatencia medicao = instrumentacao;
+        final long inicio = medicao == null ? 0 : System.nanoTime();
+
+        final DocumentoNormalizado documento = digitos.normaliza(s);
+
+        // Posição do cursor entre os dígitos
+        int cursor = documento.length();
+        Mascara aplicada = mascara;
+
+        if (alteracaoCapturada) {
+            cursor = Digitos.conta(s, 0, Math.min(fimDaAlteracao, s.length()));
+            if (removeuApenasFormatacao && cursor > 0) {
+                documento.descarta(--cursor);
+
+                // Sem o dígito o valor pode trocar de máscara (ex.: de CNPJ para CPF)
+                final Mascara semODigito = documento.length() == 0 ? null : mascaraPara(documento);
+                if (semODigito != null) {
+                    aplicada = semODigito;
+                }
+            }
+        }
+
+        alteracaoCapturada = false;
+        removeuApenasFormatacao = false;
+
+        garanteEspaco(aplicada);
+
+        // Os literais seguintes ao último dígito são incluídos, como em carregarMascara
+        final int tamanho = aplicada.formataParcial(documento, -1, formatado, 0);
+        final int escritos = aplicada.digitosAntes(tamanho);
+
+        // Editando no fim: o cursor fica depois dos literais, como na digitação
+        final int posicaoDoCursor = cursor >= escritos
+                ? tamanho
+                : cursor == 0 ? 0 : aplicada.posicaoDoDigito(cursor - 1) + 1;
+
+        final long inicioDaSubstituicao = medicao == null ? 0 : System.nanoTime();
+        if (medicao != null) {
+            medicao.getMascara().registra(inicioDaSubstituicao - inicio);
+        }
+
+        tamanhoAnterior = tamanho;
+        mudancaInterna = true;
+
+        substituiDiferenca(s, tamanho);
+
+        if (ehIgual(s, tamanho)) {
+            Selection.setSelection(s, posicaoDoCursor);
+        }
+
+        if (medicao != null) {
+            medicao.getSubstituicao().registra(System.nanoTime() - inicioDaSubstituicao);
+        }
+
         efetuaValidacao(validador, resultadoParcial, s);
         mudancaInterna = false;
     }
 
     /**
-     * Método que efetua a validação em si.
+     * Método que efetua a validação em si. Com um executor de validação configurado, apenas
+     * agenda a validação de uma cópia do valor.
      *
      * @param validador        Validador utilizado para verificar o input
      * @param resultadoParcial Objeto de validação
@@ -94,22 +417,126 @@ public abstract class BaseCanarinhoTextWatcher implements TextWatcher {
             return;
         }
 
-        if (eventoDeValidacao == null) {
-            validador.ehValido(s.toString());
-            return;
+        final InstrumentacaoDeLatencia medicao = instrumentacao;
+        final long inicio = medicao == null ? 0 : System.nanoTime();
+
+        if (executorDeValidacao != null) {
+            validaEmSegundoPlano(validador, resultadoParcial, s.toString());
+        } else {
+            validador.ehValido(s, resultadoParcial);
+            notificaValidacao(resultadoParcial, s);
         }
 
-        validador.ehValido(s, resultadoParcial);
+        if (medicao != null) {
+            medicao.getValidacao().registra(System.nanoTime() - inicio);
+        }
+    }
+
+    /**
+     * Repassa o resultado da validação ao {@link EventoDeValidacao}. Sempre chamado na thread
+     * principal.
+     *
+     * @param resultadoParcial Resultado da validação
+     * @param valorAtual       Valor validado
+     */
+    protected void notificaValidacao(Validador.ResultadoParcial resultadoParcial, CharSequence valorAtual) {
+
+        if (eventoDeValidacao == null || !mudouDeEstado(resultadoParcial)) {
+            return;
+        }
 
         if (!resultadoParcial.isParcialmenteValido()) {
-            eventoDeValidacao.invalido(s.toString(), resultadoParcial.getMensagem());
+            eventoDeValidacao.invalido(valorAtual.toString(), resultadoParcial.getMensagem());
         } else if (!resultadoParcial.isValido()) {
-            eventoDeValidacao.parcialmenteValido(s.toString());
+            eventoDeValidacao.parcialmenteValido(valorAtual.toString());
         } else {
-            eventoDeValidacao.totalmenteValido(s.toString());
+            eventoDeValidacao.totalmenteValido(valorAtual.toString());
         }
     }
 
+    /**
+     * Utilitário para implementações de Watcher customizadas.
+     * Registra o estado do resultado e informa se o {@link EventoDeValidacao} deve ser chamado:
+     * sempre, no modo padrão, ou apenas quando o estado for diferente do último notificado, com
+     * {@link #setNotificaApenasTransicoes(boolean)}.
+     *
+     * @param resultadoParcial Resultado que será notificado
+     * @return true se os callbacks devem ser chamados
+     */
+    protected boolean mudouDeEstado(Validador.ResultadoParcial resultadoParcial) {
+
+        final int estado = !resultadoParcial.isParcialmenteValido()
+                ? INVALIDO
+                : resultadoParcial.isValido() ? TOTALMENTE_VALIDO : PARCIALMENTE_VALIDO;
+
+        // Código e bloco distinguem um erro de outro. Validadores customizados podem informar só a
+        // mensagem: nesse caso ela é comparada por referência, sem montar nenhuma String
+        final int codigoDeErro = estado == INVALIDO ? resultadoParcial.getCodigoDeErro() : 0;
+        final int bloco = estado == INVALIDO ? resultadoParcial.getBloco() : 0;
+        final String mensagemLivre = estado == INVALIDO && codigoDeErro == Validador.ResultadoParcial.SEM_ERRO
+                ? resultadoParcial.getMensagem()
+                : null;
+
+        if (notificaApenasTransicoes && estado == ultimoEstado && codigoDeErro == ultimoCodigoDeErro
+                && bloco == ultimoBloco && mensagemLivre == ultimaMensagemLivre) {
+            return false;
+        }
+
+        ultimoEstado = estado;
+        ultimoCodigoDeErro = codigoDeErro;
+        ultimoBloco = bloco;
+        ultimaMensagemLivre = mensagemLivre;
+        return true;
+    }
+
+    private void validaEmSegundoPlano(final Validador validador, final Validador.ResultadoParcial resultadoParcial,
+                                      final String valor) {
+
+        final int geracaoDoValor = ++geracao;
+        final Handler principal = threadPrincipal;
+
+        executorDeValidacao.execute(new Runnable() {
+            @Override
+            public void run() {
+
+                // O texto já mudou: nem vale a pena validar
+                if (geracaoDoValor != geracao) {
+                    return;
+                }
+
+                final Validador.ResultadoParcial resultado = new Validador.ResultadoParcial();
+                RuntimeException falha = null;
+
+                synchronized (travaDaValidacao) {
+                    try {
+                        validador.ehValido(valor, resultado);
+                    } catch (RuntimeException e) {
+                        falha = e;
+                    }
+                }
+
+                final RuntimeException falhaDaValidacao = falha;
+                principal.post(new Runnable() {
+                    @Override
+                    public void run() {
+
+                        if (geracaoDoValor != geracao) {
+                            return;
+                        }
+
+                        // Mesmo comportamento da validação síncrona: a falha chega à thread principal
+                        if (falhaDaValidacao != null) {
+                            throw falhaDaValidacao;
+                        }
+
+                        resultadoParcial.copiaDe(resultado);
+                        notificaValidacao(resultadoParcial, valor);
+                    }
+                });
+            }
+        });
+    }
+
     /**
      * Implementação genérica para adição ou remoção de caracter.
      *
@@ -118,71 +545,213 @@ public abstract class BaseCanarinhoTextWatcher implements TextWatcher {
      * @return Builder com o valor final
      */
     protected StringBuilder trataAdicaoRemocaoDeCaracter(Editable s, char[] mascara) {
-        return isApagouCaracter(s)
+        return trataAdicaoRemocaoDeCaracter(s, Mascara.compartilhada(String.valueOf(mascara)));
+    }
+
+    /**
+     * Implementação genérica para adição ou remoção de caracter.
+     *
+     * @param s       Editable em uso
+     * @param mascara máscara compilada do Watcher
+     * @return Builder com o valor final
+     */
+    protected StringBuilder trataAdicaoRemocaoDeCaracter(Editable s, Mascara mascara) {
+
+        final InstrumentacaoDeLatencia medicao = instrumentacao;
+        final long inicio = medicao == null ? 0 : System.nanoTime();
+
+        final StringBuilder builder = isApagouCaracter(s)
                 ? trataRemocaoDeCaracter(s, mascara)
                 : trataAdicaoDeCaracter(s, mascara);
+
+        if (medicao != null) {
+            medicao.getMascara().registra(System.nanoTime() - inicio);
+        }
+
+        return builder;
     }
 
-    private StringBuilder trataAdicaoDeCaracter(Editable s, char[] mascara) {
-        return carregarMascara(s.toString(), mascara);
+    private StringBuilder trataAdicaoDeCaracter(Editable s, Mascara mascara) {
+        return carregarMascara(s, mascara);
     }
 
-    // Só é chamado após uma deleção, portanto, é seguro chamar mascara[s.length()]
-    private StringBuilder trataRemocaoDeCaracter(Editable s, char[] mascara) {
+    // Só é chamado após uma deleção, portanto, é seguro consultar a posição s.length()
+    private StringBuilder trataRemocaoDeCaracter(Editable s, Mascara mascara) {
         final StringBuilder builder = new StringBuilder(s);
 
         // Obtém a posição do último caracter excluído
-        final int posicaoUltimoCaracter = mascara.length > s.length() ? s.length() : mascara.length - 1;
+        final int posicaoUltimoCaracter = mascara.length() > s.length() ? s.length() : mascara.length() - 1;
 
         // Verifica se o último caracter que foi excluído fazia parte da máscara
-        final boolean ultimoCaracterEraMascara = mascara[posicaoUltimoCaracter] != '#';
+        final boolean ultimoCaracterEraMascara = !mascara.ehPosicaoDeDigito(posicaoUltimoCaracter);
 
         // Se o último caracter excluído fazia parte da máscara,
         // deve excluir até o primeiro caracter que não faz parte da máscara
         if (ultimoCaracterEraMascara) {
             boolean encontrouCaracterValido = false;
             while (builder.length() > 0 && !encontrouCaracterValido) {
-                encontrouCaracterValido = mascara[builder.length() - 1] == '#';
+                encontrouCaracterValido = mascara.ehPosicaoDeDigito(builder.length() - 1);
                 builder.deleteCharAt(builder.length() - 1);
             }
         }
 
         // Caso haja mais de um caracter de formatação (da máscara) faz um loop
         // até chegar em um caracter que não seja de formatação
-        while (builder.length() > 0 && mascara[builder.length() - 1] != '#') {
+        while (builder.length() > 0 && !mascara.ehPosicaoDeDigito(builder.length() - 1)) {
             builder.deleteCharAt(builder.length() - 1);
         }
 
-        return carregarMascara(builder.toString(), mascara);
+        return carregarMascara(builder, mascara);
     }
 
-    private StringBuilder carregarMascara(String s, char[] mascara) {
-        final StringBuilder builder = new StringBuilder();
-        final String str = Formatador.Padroes.PADRAO_SOMENTE_NUMEROS.matcher(s).replaceAll("");
+    private StringBuilder carregarMascara(CharSequence s, Mascara mascara) {
+        garanteEspaco(mascara);
 
         // Só carregará a máscara se existir algum valor informado
-        if (str.length() > 0) {
-            int j = 0; // Acompanha a posição nos dígitos
+        final int tamanho = mascara.formataParcial(digitos.normaliza(s), -1, formatado, 0);
+        return new StringBuilder(tamanho).append(formatado, 0, tamanho);
+    }
 
-            // É recomendado não usar enhanced for em Android
-            for (int i = 0; i < mascara.length; i++) {
+    private void garanteEspaco(Mascara mascara) {
+        if (formatado.length < mascara.length()) {
+            formatado = new char[mascara.length()];
+            textoFormatado = CharBuffer.wrap(formatado);
+        }
+    }
 
-                final char charMascara = mascara[i];
+    // Substitui apenas o trecho entre o prefixo e o sufixo em comum com o valor formatado
+    private void substituiDiferenca(Editable s, int tamanho) {
 
-                if (charMascara != '#') { // '#' -> caracter de formatação
-                    builder.append(charMascara);
-                    continue;
-                }
+        final int tamanhoAtual = s.length();
+        final int menor = Math.min(tamanhoAtual, tamanho);
 
-                if (j >= str.length()) {
-                    break;
-                }
+        int prefixo = 0;
+        while (prefixo < menor && s.charAt(prefixo) == formatado[prefixo]) {
+            prefixo++;
+        }
+
+        int sufixo = 0;
+        while (sufixo < menor - prefixo && s.charAt(tamanhoAtual - 1 - sufixo) == formatado[tamanho - 1 - sufixo]) {
+            sufixo++;
+        }
 
-                builder.append(str.charAt(j));
-                j++;
+        if (prefixo == tamanhoAtual && prefixo == tamanho) {
+            return;
+        }
+
+        textoFormatado.clear();
+        textoFormatado.limit(tamanho);
+        s.replace(prefixo, tamanhoAtual - sufixo, textoFormatado, prefixo, tamanho - sufixo);
+    }
+
+    private boolean ehIgual(Editable s, int tamanho) {
+
+        if (s.length() != tamanho) {
+            return false;
+        }
+
+        for (int i = 0; i < tamanho; i++) {
+            if (s.charAt(i) != formatado[i]) {
+                return false;
             }
         }
 
-        return builder;
+        return true;
+    }
+    /*
+     * Monta o valor resultante da alteração (início do destino + origem + fim do destino), aplica a
+     * máscara e, se o resultado mantiver intactos o início e o fim do destino, devolve apenas o
+     * trecho que substitui a alteração. Caso contrário a alteração passa como veio (limitada ao
+     * tamanho máximo) e o watcher formata o Editable no afterTextChanged.
+     */
+    private final class FiltroDeMascara implements InputFilter {
+
+        // Comporta o boleto de arrecadação (48 dígitos) e cresce caso o valor tenha mais dígitos
+        private char[] digitosDoValor = new char[64];
+        private CharBuffer valor = CharBuffer.wrap(digitosDoValor);
+        private char[] resultado = new char[0];
+
+        @Override
+        public CharSequence filter(CharSequence source, int start, int end,
+                                   Spanned dest, int dstart, int dend) {
+
+            if (mudancaInterna) {
+                return null;
+            }
+
+            // Apagar só a formatação apaga o dígito anterior, fora do trecho alterado: o watcher
+            // descarta o dígito e escolhe a máscara pelos que sobram
+            final boolean remocao = start == end;
+            if (remocao && Digitos.conta(dest, dstart, dend) == 0) {
+                return null;
+            }
+
+            // Mesmo limite do LengthFilter do modo padrão
+            final int restante = tamanhoMaximo(dest) - (dest.length() - (dend - dstart));
+            if (!remocao && restante <= 0) {
+                return "";
+            }
+
+            final int fim = Math.min(end, start + Math.max(restante, 0));
+            final CharSequence semAlteracao = fim == end ? null : source.subSequence(start, fim);
+
+            final int quantidade = extraiDigitos(source, start, fim, dest, dstart, dend);
+
+            if (quantidade == 0) {
+                return semAlteracao;
+            }
+
+            // Raro: máscaras com mais dígitos que o buffer atual
+            if (quantidade > digitosDoValor.length) {
+                digitosDoValor = new char[quantidade];
+                valor = CharBuffer.wrap(digitosDoValor);
+                extraiDigitos(source, start, fim, dest, dstart, dend);
+            }
+
+            valor.clear();
+            valor.limit(quantidade);
+
+            final Mascara mascara = mascaraPara(valor);
+            if (resultado.length < mascara.length()) {
+                resultado = new char[mascara.length()];
+            }
+
+            final int tamanho = mascara.formataParcial(valor, -1, resultado, 0);
+            final int sufixo = dest.length() - dend;
+
+            if (tamanho < dstart + sufixo
+                    || !mesmosCaracteres(dest, 0, resultado, 0, dstart)
+                    || !mesmosCaracteres(dest, dend, resultado, tamanho - sufixo, sufixo)) {
+                return semAlteracao;
+            }
+
+            final int tamanhoDaTroca = tamanho - sufixo - dstart;
+            if (tamanhoDaTroca == fim - start && mesmosCaracteres(source, start, resultado, dstart, tamanhoDaTroca)) {
+                return semAlteracao;
+            }
+
+            return new String(resultado, dstart, tamanhoDaTroca);
+        }
+
+        // Dígitos do início do destino, da origem e do fim do destino; conta todos, mas só copia os que cabem
+        private int extraiDigitos(CharSequence source, int start, int fim, Spanned dest, int dstart, int dend) {
+            int quantidade = Digitos.extrai(dest, 0, dstart, digitosDoValor, 0);
+            quantidade += Digitos.extrai(source, start, fim, digitosDoValor, limita(quantidade));
+            quantidade += Digitos.extrai(dest, dend, dest.length(), digitosDoValor, limita(quantidade));
+            return quantidade;
+        }
+
+        private int limita(int quantidade) {
+            return Math.min(quantidade, digitosDoValor.length);
+        }
+
+        private boolean mesmosCaracteres(CharSequence texto, int inicio, char[] outro, int inicioOutro, int tamanho) {
+            for (int i = 0; i < tamanho; i++) {
+                if (texto.charAt(inicio + i) != outro[inicioOutro + i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
     }
 }
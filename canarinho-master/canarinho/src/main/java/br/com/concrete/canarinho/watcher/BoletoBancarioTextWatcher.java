@@ -3,6 +3,7 @@ package br.com.concrete.canarinho.watcher;
 import android.text.Editable;
 import android.text.InputFilter;
 
+import br.com.concrete.canarinho.formatador.Mascara;
 import br.com.concrete.canarinho.validator.Validador;
 import br.com.concrete.canarinho.validator.ValidadorBoleto;
 import br.com.concrete.canarinho.watcher.evento.EventoDeValidacao;
@@ -17,16 +18,20 @@ import java.util.Arrays;
  */
 public final class BoletoBancarioTextWatcher extends BaseCanarinhoTextWatcher {
 
-    private static final char[] BOLETO_NORMAL = "#####.##### #####.###### #####.###### # ##############".toCharArray();
-    private static final char[] BOLETO_TRIBUTO = "############ ############ ############ ############".toCharArray();
-    private static final InputFilter[] FILTRO_TRIBUTO = new InputFilter[]{
-        new InputFilter.LengthFilter(BOLETO_TRIBUTO.length)};
-    private static final InputFilter[] FILTRO_NORMAL = new InputFilter[]{
-        new InputFilter.LengthFilter(BOLETO_NORMAL.length)};
+    private static final Mascara BOLETO_NORMAL =
+            Mascara.compartilhada("#####.##### #####.###### #####.###### # ##############");
+    private static final Mascara BOLETO_TRIBUTO =
+            Mascara.compartilhada("############ ############ ############ ############");
+    private static final InputFilter[] FILTRO_TRIBUTO = filtroDeTamanho(BOLETO_TRIBUTO);
+    private static final InputFilter[] FILTRO_NORMAL = filtroDeTamanho(BOLETO_NORMAL);
 
-    private final Validador validador = ValidadorBoleto.getInstance();
+    // Cada campo tem o seu validador incremental: só os blocos alterados são reconferidos
+    private final Validador validador = ValidadorBoleto.incremental();
     private final Validador.ResultadoParcial resultadoParcial = new Validador.ResultadoParcial();
 
+    // Estado notificado quando o campo é esvaziado: parcialmente válido, sem erro
+    private final Validador.ResultadoParcial campoVazio = new Validador.ResultadoParcial();
+
     /**
      * TODO Javadoc pendente.
      *
@@ -48,8 +53,9 @@ public final class BoletoBancarioTextWatcher extends BaseCanarinhoTextWatcher {
 
         // Trata o caso em que tudo é apagado em lote
         if (s.length() < 3) {
-            resultadoParcial.mensagem(null).parcialmenteValido(false).totalmenteValido(false);
-            if (getEventoDeValidacao() != null) {
+            descartaValidacoesPendentes();
+            resultadoParcial.semErro().parcialmenteValido(false).totalmenteValido(false);
+            if (getEventoDeValidacao() != null && mudouDeEstado(campoVazio)) {
                 getEventoDeValidacao().parcialmenteValido("");
             }
         }
@@ -60,12 +66,15 @@ public final class BoletoBancarioTextWatcher extends BaseCanarinhoTextWatcher {
         }
 
         final boolean tributo = ehTributo(s);
-        final char[] mascara = tributo ? BOLETO_TRIBUTO : BOLETO_NORMAL;
         verificaFiltro(s, tributo);
 
-        // Trata deleção e adição de forma diferente (só formata em adições)
-        final StringBuilder builder = trataAdicaoRemocaoDeCaracter(s, mascara);
-        atualizaTexto(validador, resultadoParcial, s, builder);
+        // Aplica só a alteração do usuário, mantendo o cursor onde ele está editando
+        aplicaMascara(validador, resultadoParcial, s, mascaraPara(s));
+    }
+
+    @Override
+    protected Mascara mascaraPara(CharSequence valor) {
+        return ehTributo(valor) ? BOLETO_TRIBUTO : BOLETO_NORMAL;
     }
 
     public Validador.ResultadoParcial getResultadoParcial() {
@@ -73,39 +82,27 @@ public final class BoletoBancarioTextWatcher extends BaseCanarinhoTextWatcher {
     }
 
     @Override
-    protected void efetuaValidacao(Validador validador, Validador.ResultadoParcial resultadoParcial, Editable s) {
-
-        validador.ehValido(s, resultadoParcial);
+    protected void notificaValidacao(Validador.ResultadoParcial resultadoParcial, CharSequence valor) {
 
         final EventoDeValidacao callbackErros = getEventoDeValidacao();
 
-        if (callbackErros == null) {
+        if (callbackErros == null || !mudouDeEstado(resultadoParcial)) {
             return;
         }
 
-        final String valorAtual = s.toString();
+        final String valorAtual = valor.toString();
         if (!resultadoParcial.isParcialmenteValido()) {
 
-            final String mensagem = resultadoParcial.getMensagem();
-            callbackErros.invalido(valorAtual, mensagem);
+            // A mensagem só é montada aqui, quando há um erro a reportar
+            callbackErros.invalido(valorAtual, resultadoParcial.getMensagem());
 
             if (callbackErros instanceof EventoDeValidacaoDeBoleto) {
 
-                final int bloco;
-
-                if (mensagem.startsWith("Primeiro")) {
-                    bloco = 1;
-                } else if (mensagem.startsWith("Segundo")) {
-                    bloco = 2;
-                } else if (mensagem.startsWith("Terceiro")) {
-                    bloco = 3;
-                } else if (mensagem.startsWith("Quarto")) {
-                    bloco = 4;
-                } else {
+                if (resultadoParcial.getCodigoDeErro() != Validador.ResultadoParcial.ERRO_BLOCO_BOLETO) {
                     throw new IllegalArgumentException("Valor não reconhecido para bloco");
                 }
 
-                ((EventoDeValidacaoDeBoleto) callbackErros).invalido(valorAtual, bloco);
+                ((EventoDeValidacaoDeBoleto) callbackErros).invalido(valorAtual, resultadoParcial.getBloco());
             }
 
         } else if (!resultadoParcial.isValido()) {
@@ -116,6 +113,11 @@ public final class BoletoBancarioTextWatcher extends BaseCanarinhoTextWatcher {
     }
 
     private void verificaFiltro(final Editable s, final boolean tributo) {
+
+        if (isModoFiltro()) {
+            return;
+        }
+
         // Filtro de tamanho
         if (tributo && !Arrays.equals(s.getFilters(), FILTRO_TRIBUTO)) {
             s.setFilters(FILTRO_TRIBUTO);
@@ -125,7 +127,7 @@ public final class BoletoBancarioTextWatcher extends BaseCanarinhoTextWatcher {
     }
 
     // Boletos iniciados com 8 são tributos ou de concessionárias
-    private boolean ehTributo(Editable e) {
-        return e.charAt(0) == '8';
+    private boolean ehTributo(CharSequence e) {
+        return e.length() > 0 && e.charAt(0) == '8';
     }
 }
@@ -3,6 +3,7 @@ package br.com.concrete.canarinho.watcher;
 import android.text.Editable;
 import android.text.InputFilter;
 
+import br.com.concrete.canarinho.formatador.Mascara;
 import br.com.concrete.canarinho.validator.Validador;
 import br.com.concrete.canarinho.validator.ValidadorCEP;
 import br.com.concrete.canarinho.watcher.evento.EventoDeValidacao;
@@ -14,10 +15,9 @@ import br.com.concrete.canarinho.watcher.evento.EventoDeValidacao;
  */
 public final class CEPTextWatcher extends BaseCanarinhoTextWatcher {
 
-    private static final char[] CEP_DIGITOS = "#####-###".toCharArray();
+    private static final Mascara CEP_DIGITOS = Mascara.compartilhada("#####-###");
 
-    private static final InputFilter[] FILTRO_OITO_DIGITOS = new InputFilter[]{
-        new InputFilter.LengthFilter(CEP_DIGITOS.length)};
+    private static final InputFilter[] FILTRO_OITO_DIGITOS = filtroDeTamanho(CEP_DIGITOS);
 
     private final Validador validador = ValidadorCEP.getInstance();
     private final Validador.ResultadoParcial resultadoParcial = new Validador.ResultadoParcial();
@@ -38,10 +38,15 @@ public final class CEPTextWatcher extends BaseCanarinhoTextWatcher {
             return;
         }
 
-        s.setFilters(FILTRO_OITO_DIGITOS);
+        if (!isModoFiltro()) {
+            s.setFilters(FILTRO_OITO_DIGITOS);
+        }
 
-        final StringBuilder builder = trataAdicaoRemocaoDeCaracter(s, CEP_DIGITOS);
+        aplicaMascara(validador, resultadoParcial, s, CEP_DIGITOS);
+    }
 
-        atualizaTexto(validador, resultadoParcial, s, builder);
+    @Override
+    protected Mascara mascaraPara(CharSequence valor) {
+        return CEP_DIGITOS;
     }
 }
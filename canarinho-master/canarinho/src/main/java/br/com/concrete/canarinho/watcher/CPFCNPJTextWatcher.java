@@ -3,7 +3,8 @@ package br.com.concrete.canarinho.watcher;
 import android.text.Editable;
 import android.text.InputFilter;
 
-import br.com.concrete.canarinho.formatador.Formatador;
+import br.com.concrete.canarinho.Digitos;
+import br.com.concrete.canarinho.formatador.Mascara;
 import br.com.concrete.canarinho.validator.Validador;
 import br.com.concrete.canarinho.validator.ValidadorCPFCNPJ;
 import br.com.concrete.canarinho.watcher.evento.EventoDeValidacao;
@@ -16,9 +17,9 @@ import br.com.concrete.canarinho.watcher.evento.EventoDeValidacao;
  */
 public class CPFCNPJTextWatcher extends BaseCanarinhoTextWatcher {
 
-    private static final char[] CPF = "###.###.###-##".toCharArray();
-    private static final char[] CNPJ = "##.###.###/####-##".toCharArray();
-    private static final InputFilter[] FILTRO_CPF_CNPJ = new InputFilter[]{new InputFilter.LengthFilter(CNPJ.length)};
+    private static final Mascara CPF = Mascara.compartilhada("###.###.###-##");
+    private static final Mascara CNPJ = Mascara.compartilhada("##.###.###/####-##");
+    private static final InputFilter[] FILTRO_CPF_CNPJ = filtroDeTamanho(CNPJ);
 
     private final Validador validador = ValidadorCPFCNPJ.getInstance();
     private final Validador.ResultadoParcial resultadoParcial = new Validador.ResultadoParcial();
@@ -45,15 +46,25 @@ public class CPFCNPJTextWatcher extends BaseCanarinhoTextWatcher {
             return;
         }
 
-        s.setFilters(FILTRO_CPF_CNPJ);
+        if (!isModoFiltro()) {
+            s.setFilters(FILTRO_CPF_CNPJ);
+        }
+
+        aplicaMascara(validador, resultadoParcial, s, mascaraPara(s));
+    }
 
-        final char[] mascara = ehCpf(s) ? CPF : CNPJ;
-        final StringBuilder builder = trataAdicaoRemocaoDeCaracter(s, mascara);
-        atualizaTexto(validador, resultadoParcial, s, builder);
+    @Override
+    protected Mascara mascaraPara(CharSequence valor) {
+        return ehCpf(valor) ? CPF : CNPJ;
+    }
+
+    @Override
+    protected int tamanhoMaximo(CharSequence valor) {
+        return CNPJ.length();
     }
 
     // Verifica se o valor informado é cpf
-    private boolean ehCpf(Editable e) {
-        return Formatador.Padroes.PADRAO_SOMENTE_NUMEROS.matcher(e).replaceAll("").length() < 12;
+    private boolean ehCpf(CharSequence e) {
+        return Digitos.conta(e) < 12;
     }
 }
\ No newline at end of file
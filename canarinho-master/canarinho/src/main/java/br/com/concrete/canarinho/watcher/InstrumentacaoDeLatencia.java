@@ -0,0 +1,75 @@
+package br.com.concrete.canarinho.watcher;
+
+import br.com.concrete.canarinho.HistogramaDeLatencia;
+import br.com.concrete.canarinho.watcher.evento.OuvinteDeLatencia;
+
+/**
+ * Latências medidas pelos watchers a cada alteração, em nanossegundos, separadas por etapa:
+ * <ul>
+ * <li>{@link #MASCARA}: extração dos dígitos e aplicação da máscara (ou do valor monetário);</li>
+ * <li>{@link #VALIDACAO}: {@link BaseCanarinhoTextWatcher#efetuaValidacao}, incluindo os callbacks
+ * de validação (com validação em segundo plano, apenas o agendamento);</li>
+ * <li>{@link #SUBSTITUICAO}: substituição do texto no Editable e posicionamento do cursor.</li>
+ * </ul>
+ * <p>
+ * A instrumentação é opcional: sem ela ({@code setInstrumentacao(null)}, o padrão) os watchers nem
+ * leem o relógio. Os histogramas não usam travas, então uma mesma instância pode ser compartilhada
+ * por todos os watchers de um formulário.
+ * </p>
+ *
+ * @see BaseCanarinhoTextWatcher#setInstrumentacao(InstrumentacaoDeLatencia)
+ * @see ValorMonetarioWatcher#setInstrumentacao(InstrumentacaoDeLatencia)
+ */
+public final class InstrumentacaoDeLatencia {
+
+    /**
+     * Etapa de aplicação da máscara.
+     */
+    public static final String MASCARA = "mascara";
+
+    /**
+     * Etapa de validação.
+     */
+    public static final String VALIDACAO = "validacao";
+
+    /**
+     * Etapa de substituição do texto no Editable.
+     */
+    public static final String SUBSTITUICAO = "substituicao";
+
+    private final HistogramaDeLatencia mascara = new HistogramaDeLatencia();
+    private final HistogramaDeLatencia validacao = new HistogramaDeLatencia();
+    private final HistogramaDeLatencia substituicao = new HistogramaDeLatencia();
+
+    public HistogramaDeLatencia getMascara() {
+        return mascara;
+    }
+
+    public HistogramaDeLatencia getValidacao() {
+        return validacao;
+    }
+
+    public HistogramaDeLatencia getSubstituicao() {
+        return substituicao;
+    }
+
+    /**
+     * Entrega o histograma de cada etapa ao ouvinte, na ordem máscara, validação e substituição.
+     *
+     * @param ouvinte Quem vai ler os percentis
+     */
+    public void exporta(OuvinteDeLatencia ouvinte) {
+        ouvinte.latencia(MASCARA, mascara);
+        ouvinte.latencia(VALIDACAO, validacao);
+        ouvinte.latencia(SUBSTITUICAO, substituicao);
+    }
+
+    /**
+     * Descarta as medições de todas as etapas.
+     */
+    public void zera() {
+        mascara.zera();
+        validacao.zera();
+        substituicao.zera();
+    }
+}
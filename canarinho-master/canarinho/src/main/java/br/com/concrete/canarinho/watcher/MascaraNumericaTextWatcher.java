@@ -3,10 +3,12 @@ package br.com.concrete.canarinho.watcher;
 import android.text.Editable;
 import android.text.InputFilter;
 
+import br.com.concrete.canarinho.formatador.Mascara;
 import br.com.concrete.canarinho.validator.Validador;
 import br.com.concrete.canarinho.watcher.evento.EventoDeValidacao;
 
 import java.util.Arrays;
+import java.util.concurrent.Executor;
 
 /**
  * Máscara c/ validação genérica para campos numéricos.
@@ -17,7 +19,7 @@ public final class MascaraNumericaTextWatcher extends BaseCanarinhoTextWatcher {
 
     private final Validador.ResultadoParcial resultadoParcial = new Validador.ResultadoParcial();
     private final Validador validador;
-    private final char[] mascara;
+    private final Mascara mascara;
     private final InputFilter[] filtroNumerico;
 
     /**
@@ -30,13 +32,18 @@ public final class MascaraNumericaTextWatcher extends BaseCanarinhoTextWatcher {
     }
 
     private MascaraNumericaTextWatcher(Builder builder) {
-        this.mascara = builder.mascara.toCharArray();
+        this.mascara = Mascara.compartilhada(builder.mascara);
         this.validador = builder.validador;
-
-        final int length = mascara.length;
-        this.filtroNumerico = new InputFilter[]{new InputFilter.LengthFilter(length)};
+        this.filtroNumerico = filtroDeTamanho(mascara);
 
         setEventoDeValidacao(builder.eventoDeValidacao);
+
+        setNotificaApenasTransicoes(builder.notificaApenasTransicoes);
+        setInstrumentacao(builder.instrumentacao);
+
+        if (builder.executorDeValidacao != null) {
+            setExecutorDeValidacao(builder.executorDeValidacao);
+        }
     }
 
     @Override
@@ -48,13 +55,16 @@ public final class MascaraNumericaTextWatcher extends BaseCanarinhoTextWatcher {
         }
 
         // Filtro de tamanho
-        if (!Arrays.equals(s.getFilters(), filtroNumerico)) {
+        if (!isModoFiltro() && !Arrays.equals(s.getFilters(), filtroNumerico)) {
             s.setFilters(filtroNumerico);
         }
 
-        final StringBuilder builder = trataAdicaoRemocaoDeCaracter(s, mascara);
+        aplicaMascara(validador, resultadoParcial, s, mascara);
+    }
 
-        atualizaTexto(validador, resultadoParcial, s, builder);
+    @Override
+    protected Mascara mascaraPara(CharSequence valor) {
+        return mascara;
     }
 
     /**
@@ -65,10 +75,13 @@ public final class MascaraNumericaTextWatcher extends BaseCanarinhoTextWatcher {
         private Validador validador;
         private EventoDeValidacao eventoDeValidacao;
         private String mascara;
+        private Executor executorDeValidacao;
+        private boolean notificaApenasTransicoes;
+        private InstrumentacaoDeLatencia instrumentacao;
 
         /**
          * O validador que será usado. Será chamada a implementação de
-         * {@link Validador#ehValido(Editable, Validador.ResultadoParcial)}
+         * {@link Validador#ehValido(CharSequence, Validador.ResultadoParcial)}
          *
          * @param validador Implementação de {@link Validador}
          * @return this para interface fluente
@@ -90,6 +103,43 @@ public final class MascaraNumericaTextWatcher extends BaseCanarinhoTextWatcher {
             return this;
         }
 
+        /**
+         * O callback de validação só será chamado quando o resultado mudar (ex.: de parcialmente
+         * válido para inválido), e não a cada caracter digitado.
+         *
+         * @return this para interface fluente
+         * @see BaseCanarinhoTextWatcher#setNotificaApenasTransicoes(boolean)
+         */
+        public Builder comNotificacaoApenasDeTransicoes() {
+            this.notificaApenasTransicoes = true;
+            return this;
+        }
+
+        /**
+         * A validação será feita no executor informado, fora da thread principal. A formatação
+         * continua síncrona e o callback de validação só é chamado para o valor mais recente.
+         *
+         * @param executor Executor das validações
+         * @return this para interface fluente
+         * @see BaseCanarinhoTextWatcher#setExecutorDeValidacao(Executor)
+         */
+        public Builder comValidacaoEmSegundoPlano(Executor executor) {
+            this.executorDeValidacao = executor;
+            return this;
+        }
+
+        /**
+         * O tempo gasto em cada alteração será registrado na instrumentação informada.
+         *
+         * @param instrumentacao Histogramas de latência, que podem ser compartilhados
+         * @return this para interface fluente
+         * @see BaseCanarinhoTextWatcher#setInstrumentacao(InstrumentacaoDeLatencia)
+         */
+        public Builder comInstrumentacao(InstrumentacaoDeLatencia instrumentacao) {
+            this.instrumentacao = instrumentacao;
+            return this;
+        }
+
         /**
          * A máscara só pode conter os caracteres '#' no lugar dos números. Assim, a máscara
          * '#####-##' irá aceitar apenas números no lugar de '#'. Ao digitar, o usuário irá ver:
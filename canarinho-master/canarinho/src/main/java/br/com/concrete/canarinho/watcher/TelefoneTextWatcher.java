@@ -3,7 +3,8 @@ package br.com.concrete.canarinho.watcher;
 import android.text.Editable;
 import android.text.InputFilter;
 
-import br.com.concrete.canarinho.formatador.Formatador;
+import br.com.concrete.canarinho.Digitos;
+import br.com.concrete.canarinho.formatador.Mascara;
 import br.com.concrete.canarinho.validator.Validador;
 import br.com.concrete.canarinho.validator.ValidadorTelefone;
 import br.com.concrete.canarinho.watcher.evento.EventoDeValidacao;
@@ -16,10 +17,9 @@ import br.com.concrete.canarinho.watcher.evento.EventoDeValidacao;
  */
 public final class TelefoneTextWatcher extends BaseCanarinhoTextWatcher {
 
-    private static final char[] TELEFONE_OITO_DIGITOS = "(##) ####-####".toCharArray();
-    private static final char[] TELEFONE_NOVE_DIGITOS = "(##) #####-####".toCharArray();
-    private static final InputFilter[] FILTRO_NOVE_DIGITOS = new InputFilter[]{
-        new InputFilter.LengthFilter(TELEFONE_NOVE_DIGITOS.length)};
+    private static final Mascara TELEFONE_OITO_DIGITOS = Mascara.compartilhada("(##) ####-####");
+    private static final Mascara TELEFONE_NOVE_DIGITOS = Mascara.compartilhada("(##) #####-####");
+    private static final InputFilter[] FILTRO_NOVE_DIGITOS = filtroDeTamanho(TELEFONE_NOVE_DIGITOS);
 
     private final Validador validador = ValidadorTelefone.getInstance();
     private final Validador.ResultadoParcial resultadoParcial = new Validador.ResultadoParcial();
@@ -40,16 +40,25 @@ public final class TelefoneTextWatcher extends BaseCanarinhoTextWatcher {
             return;
         }
 
-        s.setFilters(FILTRO_NOVE_DIGITOS);
+        if (!isModoFiltro()) {
+            s.setFilters(FILTRO_NOVE_DIGITOS);
+        }
+
+        aplicaMascara(validador, resultadoParcial, s, mascaraPara(s));
+    }
 
-        final char[] mascara = ehNoveDigitos(s) ? TELEFONE_NOVE_DIGITOS : TELEFONE_OITO_DIGITOS;
-        final StringBuilder builder = trataAdicaoRemocaoDeCaracter(s, mascara);
+    @Override
+    protected Mascara mascaraPara(CharSequence valor) {
+        return ehNoveDigitos(valor) ? TELEFONE_NOVE_DIGITOS : TELEFONE_OITO_DIGITOS;
+    }
 
-        atualizaTexto(validador, resultadoParcial, s, builder);
+    @Override
+    protected int tamanhoMaximo(CharSequence valor) {
+        return TELEFONE_NOVE_DIGITOS.length();
     }
 
     // Verifica se o telefone possui 9 dígitos
-    private boolean ehNoveDigitos(Editable e) {
-        return Formatador.Padroes.PADRAO_SOMENTE_NUMEROS.matcher(e).replaceAll("").length() > 10;
+    private boolean ehNoveDigitos(CharSequence e) {
+        return Digitos.conta(e) > 10;
     }
 }
@@ -5,20 +5,49 @@ import android.text.InputFilter;
 import android.text.Selection;
 import android.text.TextWatcher;
 
-import br.com.concrete.canarinho.formatador.Formatador;
+import br.com.concrete.canarinho.formatador.FormatadorValor;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
+import java.nio.CharBuffer;
 
 /**
  * TextWatcher para valores monetários.
+ * <p>
+ * O valor é mantido em centavos: um dígito digitado no fim vira {@code centavos * 10 + digito} e
+ * apagar o último caracter vira {@code centavos / 10}. Qualquer outra alteração (colar no meio,
+ * apagar em lote, texto trocado pela aplicação) relê todos os dígitos do campo. O texto formatado
+ * é escrito em um array reaproveitado e apenas o trecho que mudou é substituído no Editable.
+ * </p>
+ * <p>
+ * Com {@link #setInstrumentacao(InstrumentacaoDeLatencia)} o tempo gasto calculando e formatando
+ * o valor e substituindo o texto do Editable é registrado a cada alteração. Este watcher não
+ * valida, então a etapa de validação não recebe medições.
+ * </p>
  */
 public class ValorMonetarioWatcher implements TextWatcher {
 
+    private static final InputFilter[] SEM_FILTROS = new InputFilter[0];
+
+    // Comporta o maior valor formatado: "R$ -92.233.720.368.547.758,08"
+    private static final int TAMANHO_MAXIMO = 32;
+
     private final boolean mantemZerosAoLimpar;
-    private final Formatador formatador;
+    private final FormatadorValor formatador;
     private boolean mudancaInterna;
 
+    private final char[] formatado = new char[TAMANHO_MAXIMO];
+    private final CharBuffer textoFormatado = CharBuffer.wrap(formatado);
+    private int tamanhoFormatado;
+    private long centavos;
+
+    // Alteração em curso, capturada antes do afterTextChanged
+    private boolean textoEraOFormatado;
+    private int inicioDaAlteracao;
+    private int removidos;
+    private int inseridos;
+
+    // Medição de latência (opcional)
+    private InstrumentacaoDeLatencia instrumentacao;
+
     /**
      * Constrói uma instância sem símbolo de Real (R$).
      */
@@ -33,13 +62,40 @@ public class ValorMonetarioWatcher implements TextWatcher {
      * @param mantemZerosAoLimpar Sempre que não houver números (apagar em lote) manter zeros
      */
     ValorMonetarioWatcher(boolean comSimboloReal, boolean mantemZerosAoLimpar) {
-        this.formatador = comSimboloReal
-                ? Formatador.VALOR_COM_SIMBOLO
-                : Formatador.VALOR;
+        this.formatador = FormatadorValor.getInstance(comSimboloReal);
         this.mantemZerosAoLimpar = mantemZerosAoLimpar;
     }
 
-   
+    /**
+     * Ativa a medição de latência do cálculo e da formatação do valor e da substituição do texto.
+     *
+     * @param instrumentacao Instrumentação (pode ser compartilhada) ou null para desativar
+     * @see InstrumentacaoDeLatencia
+     */
+    public void setInstrumentacao(InstrumentacaoDeLatencia instrumentacao) {
+        this.instrumentacao = instrumentacao;
+    }
+
+    public InstrumentacaoDeLatencia getInstrumentacao() {
+        return instrumentacao;
+    }
+
+    @Override
+    public void beforeTextChanged(CharSequence s, int start, int count, int after) {
+        if (!mudancaInterna) {
+            textoEraOFormatado = ehTextoFormatado(s);
+        }
+    }
+
+    @Override
+    public void onTextChanged(CharSequence s, int start, int before, int count) {
+        if (!mudancaInterna) {
+            inicioDaAlteracao = start;
+            removidos = before;
+            inseridos = count;
+        }
+    }
+
     @Override
     public void afterTextChanged(Editable s) {
 
@@ -47,44 +103,147 @@ public class ValorMonetarioWatcher implements TextWatcher {
             return;
         }
 
-        final String somenteNumeros = Formatador.Padroes.PADRAO_SOMENTE_NUMEROS
-                .matcher(s.toString())
-                .replaceAll("");
+        final InstrumentacaoDeLatencia medicao = instrumentacao;
+        final long inicio = medicao == null ? 0 : System.nanoTime();
+
+        final boolean acumulou = textoEraOFormatado && acumulaAlteracao(s);
+        textoEraOFormatado = false;
+
+        // afterTextChanged também é chamado ao rotacionar o dispositivo, quando o campo pode estar
+        // vazio: a releitura só escreve se houver dígitos ou se os zeros devem ser mantidos
+        if (acumulou || releDigitos(s)) {
+            atualizaTexto(s, medicao, inicio);
+        }
+    }
+
+    // Digitar no fim ou apagar o último caracter do texto que este watcher escreveu
+    private boolean acumulaAlteracao(Editable s) {
+
+        if (removidos == 0 && inicioDaAlteracao == tamanhoFormatado
+                && tamanhoFormatado + inseridos == s.length()) {
 
-        // afterTextChanged é chamado ao rotacionar o dispositivo,
-        // essa condição evita que ao rotacionar a tela com o campo vazio ocorra NumberFormatException
-        if (somenteNumeros.length() == 0) {
-            if (mantemZerosAoLimpar) {
-                atualizaTexto(s, formatador.formata("000"));
+            for (int i = inicioDaAlteracao; i < s.length(); i++) {
+                acumula(s.charAt(i));
             }
-            return;
+            return true;
+        }
+
+        if (removidos == 1 && inseridos == 0 && inicioDaAlteracao == tamanhoFormatado - 1) {
+            centavos /= 10;
+            return true;
+        }
+
+        return false;
+    }
+
+    // Relê todos os dígitos do campo; retorna false se não houver nada a escrever
+    private boolean releDigitos(Editable s) {
+
+        final long anterior = centavos;
+        boolean temDigitos = false;
+        centavos = 0;
+
+        for (int i = 0; i < s.length(); i++) {
+            temDigitos |= acumula(s.charAt(i));
+        }
+
+        if (!temDigitos && !mantemZerosAoLimpar) {
+            centavos = anterior;
+            return false;
+        }
+
+        return true;
+    }
+
+    // Dígitos que não cabem mais em um long são ignorados
+    private boolean acumula(char c) {
+
+        if (c < '0' || c > '9') {
+            return false;
         }
 
-        final BigDecimal resultado = new BigDecimal(somenteNumeros)
-                .divide(new BigDecimal(100))
-                .setScale(2, RoundingMode.HALF_DOWN);
+        final int digito = c - '0';
+        if (centavos <= (Long.MAX_VALUE - digito) / 10) {
+            centavos = centavos * 10 + digito;
+        }
 
-        atualizaTexto(s, formatador.formata(resultado.toPlainString()));
+        return true;
     }
 
-    private void atualizaTexto(Editable editable, String valor) {
+    private void atualizaTexto(Editable editable, InstrumentacaoDeLatencia medicao, long inicio) {
         mudancaInterna = true;
 
+        tamanhoFormatado = formatador.formata(centavos, formatado, 0);
+
+        final long inicioDaSubstituicao = medicao == null ? 0 : System.nanoTime();
+        if (medicao != null) {
+            medicao.getMascara().registra(inicioDaSubstituicao - inicio);
+        }
+
         final InputFilter[] oldFilters = editable.getFilters();
+        if (oldFilters.length > 0) {
+            editable.setFilters(SEM_FILTROS);
+        }
 
-        editable.setFilters(new InputFilter[] {});
-        editable.replace(0, editable.length(), valor);
+        substituiDiferenca(editable);
 
-        editable.setFilters(oldFilters);
+        if (oldFilters.length > 0) {
+            editable.setFilters(oldFilters);
+        }
 
-        if (valor.equals(editable.toString())) {
+        if (ehTextoFormatado(editable)) {
             // TODO: estudar implantar a manutenção da posição do cursor
-            Selection.setSelection(editable, valor.length());
+            Selection.setSelection(editable, tamanhoFormatado);
+        }
+
+        if (medicao != null) {
+            medicao.getSubstituicao().registra(System.nanoTime() - inicioDaSubstituicao);
         }
 
         mudancaInterna = false;
     }
 
+    // Substitui apenas o trecho entre o prefixo e o sufixo em comum com o novo texto
+    private void substituiDiferenca(Editable editable) {
+
+        final int tamanhoAtual = editable.length();
+        final int menor = Math.min(tamanhoAtual, tamanhoFormatado);
+
+        int prefixo = 0;
+        while (prefixo < menor && editable.charAt(prefixo) == formatado[prefixo]) {
+            prefixo++;
+        }
+
+        int sufixo = 0;
+        while (sufixo < menor - prefixo
+                && editable.charAt(tamanhoAtual - 1 - sufixo) == formatado[tamanhoFormatado - 1 - sufixo]) {
+            sufixo++;
+        }
+
+        if (prefixo == tamanhoAtual && prefixo == tamanhoFormatado) {
+            return;
+        }
+
+        textoFormatado.clear();
+        textoFormatado.limit(tamanhoFormatado);
+        editable.replace(prefixo, tamanhoAtual - sufixo, textoFormatado, prefixo, tamanhoFormatado - sufixo);
+    }
+
+    private boolean ehTextoFormatado(CharSequence s) {
+
+        if (s.length() != tamanhoFormatado || tamanhoFormatado == 0) {
+            return false;
+        }
+
+        for (int i = 0; i < tamanhoFormatado; i++) {
+            if (s.charAt(i) != formatado[i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
     /**
      * Builder para facilitar a construção de instâncias de {@link ValorMonetarioWatcher}.
      */
@@ -92,6 +251,7 @@ public class ValorMonetarioWatcher implements TextWatcher {
 
         private boolean mantemZerosAoLimpar;
         private boolean simboloReal;
+        private InstrumentacaoDeLatencia instrumentacao;
 
         /**
          * Manterá os zeros ao limpar o campo.
@@ -113,13 +273,27 @@ public class ValorMonetarioWatcher implements TextWatcher {
             return this;
         }
 
+        /**
+         * O tempo gasto em cada alteração será registrado na instrumentação informada.
+         *
+         * @param instrumentacao Histogramas de latência, que podem ser compartilhados
+         * @return this Fluent interface
+         * @see ValorMonetarioWatcher#setInstrumentacao(InstrumentacaoDeLatencia)
+         */
+        public Builder comInstrumentacao(InstrumentacaoDeLatencia instrumentacao) {
+            this.instrumentacao = instrumentacao;
+            return this;
+        }
+
         /**
          * Constrói a instância.
          *
          * @return Watcher para ser usado
          */
         public ValorMonetarioWatcher build() {
-            return new ValorMonetarioWatcher(simboloReal, mantemZerosAoLimpar);
+            final ValorMonetarioWatcher watcher = new ValorMonetarioWatcher(simboloReal, mantemZerosAoLimpar);
+            watcher.setInstrumentacao(instrumentacao);
+            return watcher;
         }
     }
 }
@@ -0,0 +1,21 @@
+package br.com.concrete.canarinho.watcher.evento;
+
+import br.com.concrete.canarinho.HistogramaDeLatencia;
+
+/**
+ * Interface para exportar as latências medidas por uma
+ * {@link br.com.concrete.canarinho.watcher.InstrumentacaoDeLatencia}, por exemplo para um log ou
+ * uma ferramenta de métricas da aplicação.
+ */
+public interface OuvinteDeLatencia {
+
+    /**
+     * Invocado uma vez para cada etapa medida.
+     *
+     * @param etapa      Nome da etapa (veja as constantes de
+     *                   {@link br.com.concrete.canarinho.watcher.InstrumentacaoDeLatencia})
+     * @param histograma Medições da etapa, em nanossegundos. Use
+     *                   {@link HistogramaDeLatencia#percentil(double)} para obter os percentis.
+     */
+    void latencia(String etapa, HistogramaDeLatencia histograma);
+}
@@ -1,13 +1,45 @@
 package br.com.concrete.canarinho.sample.ui.fragment;
 
+import android.text.Editable;
+import android.text.TextWatcher;
+import android.widget.TextView;
+
 import androidx.fragment.app.Fragment;
+import br.com.concrete.canarinho.sample.ui.model.ResumoDeLatencia;
 import br.com.concrete.canarinho.sample.ui.model.Watchers;
+import br.com.concrete.canarinho.watcher.InstrumentacaoDeLatencia;
 
 public abstract class BaseWatcherFragment extends Fragment {
 
     protected Watchers model;
 
+    // Latências medidas pelo watcher do fragment
+    protected final InstrumentacaoDeLatencia instrumentacao = new InstrumentacaoDeLatencia();
+
     public void setModel(Watchers model) {
         this.model = model;
     }
+
+    /**
+     * Watcher que exibe os percentis de latência após cada alteração. Deve ser adicionado depois
+     * do watcher instrumentado, para que a alteração já tenha sido medida.
+     */
+    protected TextWatcher exibeLatencias(final TextView destino) {
+        final ResumoDeLatencia resumo = new ResumoDeLatencia();
+
+        return new TextWatcher() {
+            @Override
+            public void beforeTextChanged(CharSequence s, int start, int count, int after) {
+            }
+
+            @Override
+            public void onTextChanged(CharSequence s, int start, int before, int count) {
+            }
+
+            @Override
+            public void afterTextChanged(Editable s) {
+                destino.setText(resumo.resume(instrumentacao));
+            }
+        };
+    }
 }
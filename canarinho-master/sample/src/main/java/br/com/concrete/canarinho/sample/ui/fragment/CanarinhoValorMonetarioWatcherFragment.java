@@ -22,6 +22,7 @@ public class CanarinhoValorMonetarioWatcherFragment extends BaseWatcherFragment
     private TextView watcherTitle;
     private TextInputLayout watcherInputLayout;
     private TextWatcher currentWatcher;
+    private TextWatcher latencyWatcher;
 
     @Nullable
     @Override
@@ -31,6 +32,7 @@ public class CanarinhoValorMonetarioWatcherFragment extends BaseWatcherFragment
         watcherTitle = layout.findViewById(R.id.watcher_title);
         watcherInputLayout = layout.findViewById(R.id.edit_input_layout);
         watcherEdit = layout.findViewById(R.id.edit_text);
+        latencyWatcher = exibeLatencias((TextView) layout.findViewById(R.id.watcher_latencias));
         setModel(Watchers.VALOR_MONETARIO);
         bind(model);
         return layout;
@@ -44,12 +46,16 @@ public class CanarinhoValorMonetarioWatcherFragment extends BaseWatcherFragment
         if (currentWatcher != null) {
             watcherEdit.removeTextChangedListener(currentWatcher);
         }
+        watcherEdit.removeTextChangedListener(latencyWatcher);
+        instrumentacao.zera();
 
         currentWatcher = new ValorMonetarioWatcher.Builder()
                 .comMantemZerosAoLimpar()
                 .comSimboloReal()
+                .comInstrumentacao(instrumentacao)
                 .build();
         watcherEdit.addTextChangedListener(currentWatcher);
+        watcherEdit.addTextChangedListener(latencyWatcher);
 
         return this;
     }
@@ -14,6 +14,7 @@ import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import br.com.concrete.canarinho.sample.R;
 import br.com.concrete.canarinho.sample.ui.model.Watchers;
+import br.com.concrete.canarinho.watcher.BaseCanarinhoTextWatcher;
 
 public class WatcherFragment extends BaseWatcherFragment {
 
@@ -21,6 +22,7 @@ public class WatcherFragment extends BaseWatcherFragment {
     private TextView watcherTitle;
     private TextInputLayout watcherInputLayout;
     private TextWatcher currentWatcher;
+    private TextWatcher latencyWatcher;
 
     public static WatcherFragment newInstance(Watchers model) {
         final WatcherFragment watcherFragment = new WatcherFragment();
@@ -37,6 +39,7 @@ public class WatcherFragment extends BaseWatcherFragment {
         watcherTitle = layout.findViewById(R.id.watcher_title);
         watcherInputLayout = layout.findViewById(R.id.edit_input_layout);
         watcherEdit = layout.findViewById(R.id.edit_text);
+        latencyWatcher = exibeLatencias((TextView) layout.findViewById(R.id.watcher_latencias));
         bind(model);
         return layout;
     }
@@ -46,11 +49,18 @@ public class WatcherFragment extends BaseWatcherFragment {
         if (currentWatcher != null) {
             watcherEdit.removeTextChangedListener(currentWatcher);
         }
+        watcherEdit.removeTextChangedListener(latencyWatcher);
 
         currentWatcher = model.setupWatcher(watcherInputLayout);
+        if (currentWatcher instanceof BaseCanarinhoTextWatcher) {
+            ((BaseCanarinhoTextWatcher) currentWatcher).setInstrumentacao(instrumentacao);
+        }
+        instrumentacao.zera();
+
         watcherTitle.setText(model.getTitle());
         watcherEdit.setHint(model.getHint());
         watcherEdit.addTextChangedListener(currentWatcher);
+        watcherEdit.addTextChangedListener(latencyWatcher);
         return this;
     }
 }
@@ -0,0 +1,40 @@
+package br.com.concrete.canarinho.sample.ui.model;
+
+import java.util.Locale;
+
+import br.com.concrete.canarinho.HistogramaDeLatencia;
+import br.com.concrete.canarinho.watcher.InstrumentacaoDeLatencia;
+import br.com.concrete.canarinho.watcher.evento.OuvinteDeLatencia;
+
+/**
+ * Exporta os percentis de uma {@link InstrumentacaoDeLatencia} em um texto de uma linha por etapa.
+ */
+public class ResumoDeLatencia implements OuvinteDeLatencia {
+
+    private final StringBuilder resumo = new StringBuilder();
+
+    public String resume(InstrumentacaoDeLatencia instrumentacao) {
+        resumo.setLength(0);
+        instrumentacao.exporta(this);
+        return resumo.toString().trim();
+    }
+
+    @Override
+    public void latencia(String etapa, HistogramaDeLatencia histograma) {
+
+        if (histograma.getQuantidade() == 0) {
+            return;
+        }
+
+        resumo.append(String.format(Locale.getDefault(), "%s: p50 %.1f µs · p99 %.1f µs · máx %.1f µs (%d)%n",
+                etapa,
+                microssegundos(histograma.percentil(50)),
+                microssegundos(histograma.percentil(99)),
+                microssegundos(histograma.getMaximo()),
+                histograma.getQuantidade()));
+    }
+
+    private static double microssegundos(long nanos) {
+        return nanos / 1000.0;
+    }
+}
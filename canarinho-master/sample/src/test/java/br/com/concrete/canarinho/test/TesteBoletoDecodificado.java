@@ -0,0 +1,113 @@
+package br.com.concrete.canarinho.test;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+
+import br.com.concrete.canarinho.boleto.BoletoDecodificado;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.CoreMatchers.is;
+
+@RunWith(AndroidJUnit4.class)
+public class TesteBoletoDecodificado {
+
+    // Dias desde 01/01/1970
+    private static final long DIA_23_06_2015 = 16609L;
+    private static final long DIA_03_07_2000 = 11141L;
+    private static final long DIA_22_02_2025 = 20141L;
+    private static final long DIA_01_03_2025 = 20148L;
+
+    private final BoletoDecodificado boleto = new BoletoDecodificado();
+
+    @Test
+    public void consegueDecodificarLinhaDigitavelBancaria() {
+        boleto.decodifica("23790.12301 60000.000053 25000.456704 9 64680000013580");
+
+        assertThat(boleto.isValido(), is(true));
+        assertThat(boleto.ehTributo(), is(false));
+        assertThat(boleto.getBanco(), is(237));
+        assertThat(boleto.getMoeda(), is(9));
+        assertThat(boleto.getDigitoGeral(), is(9));
+        assertThat(boleto.getFatorDeVencimento(), is(6468));
+        assertThat(boleto.getVencimento(DIA_23_06_2015), is(DIA_23_06_2015));
+        assertThat(boleto.getValorEmCentavos(), is(13580L));
+
+        final char[] codigo = new char[44];
+        boleto.copiaCodigoDeBarras(codigo, 0);
+        assertThat(new String(codigo), is("23799646800000135800123060000000052500045670"));
+
+        final char[] campoLivre = new char[25];
+        assertThat(boleto.copiaCampoLivre(campoLivre, 0), is(25));
+        assertThat(new String(campoLivre), is("0123060000000052500045670"));
+    }
+
+    @Test
+    public void codigoDeBarrasELinhaDigitavelSaoEquivalentes() {
+        boleto.decodifica("23799646800000135800123060000000052500045670");
+
+        assertThat(boleto.isValido(), is(true));
+        assertThat(boleto.getBlocoInvalido(), is(0));
+        assertThat(boleto.getBanco(), is(237));
+        assertThat(boleto.getValorEmCentavos(), is(13580L));
+    }
+
+    @Test
+    public void detectaDigitosVerificadoresInvalidos() {
+        // DV do segundo campo alterado
+        boleto.decodifica("23790.12301 60000.000054 25000.456704 9 64680000013580");
+        assertThat(boleto.isValido(), is(false));
+        assertThat(boleto.getBlocoInvalido(), is(2));
+        assertThat(boleto.isDigitoGeralValido(), is(true));
+
+        // DV geral alterado
+        boleto.decodifica("23790.12301 60000.000053 25000.456704 8 64680000013580");
+        assertThat(boleto.isValido(), is(false));
+        assertThat(boleto.getBlocoInvalido(), is(0));
+        assertThat(boleto.isDigitoGeralValido(), is(false));
+
+        boleto.decodifica("2379012301");
+        assertThat(boleto.isReconhecido(), is(false));
+        assertThat(boleto.isValido(), is(false));
+    }
+
+    @Test
+    public void consideraViradaDoFatorDeVencimentoEm2025() {
+        // Fator 1000 e valor zerado
+        boleto.decodifica("23791" + "1000" + "0000000000" + "0123060000000052500045670");
+
+        assertThat(boleto.getFatorDeVencimento(), is(1000));
+        assertThat(boleto.getVencimento(DIA_03_07_2000), is(DIA_03_07_2000));
+        assertThat(boleto.getVencimento(DIA_01_03_2025), is(DIA_22_02_2025));
+        assertThat(boleto.getValorEmCentavos(), is(0L));
+    }
+
+    @Test
+    public void consegueDecodificarArrecadacao() {
+        boleto.decodifica("848600000015 523301622010 506101307129 620012111220");
+
+        assertThat(boleto.isValido(), is(true));
+        assertThat(boleto.ehTributo(), is(true));
+        assertThat(boleto.getSegmento(), is(4));
+        assertThat(boleto.getIdentificadorDeValor(), is(8));
+        assertThat(boleto.isValorEfetivo(), is(true));
+        assertThat(boleto.getDigitoGeral(), is(6));
+        assertThat(boleto.getValorEmCentavos(), is(15233L));
+        assertThat(boleto.getIdentificacaoDaEmpresa(), is(162L));
+
+        // Módulo 10
+        boleto.decodifica("836600000019 078800481000 998854924516 001265611135");
+        assertThat(boleto.isValido(), is(true));
+        assertThat(boleto.getValorEmCentavos(), is(10788L));
+        assertThat(boleto.getIdentificacaoDaEmpresa(), is(48L));
+
+        // Quarto bloco com DV alterado
+        boleto.decodifica("848600000015 523301622010 506101307129 620012111221");
+        assertThat(boleto.getBlocoInvalido(), is(4));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void naoLeCamposBancariosDeArrecadacao() {
+        boleto.decodifica("848600000015 523301622010 506101307129 620012111220").getBanco();
+    }
+}
@@ -0,0 +1,119 @@
+package br.com.concrete.canarinho.test;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+
+import br.com.concrete.canarinho.cli.CanarinhoCli;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.CoreMatchers.is;
+
+@RunWith(AndroidJUnit4.class)
+public class TesteCanarinhoCli {
+
+    private static final Charset ASCII = Charset.forName("US-ASCII");
+
+    @Rule
+    public TemporaryFolder pasta = new TemporaryFolder();
+
+    private File entrada;
+    private File saida;
+    private File status;
+    private PrintStream descarte;
+
+    @Before
+    public void setUp() throws IOException {
+        entrada = pasta.newFile("entrada.txt");
+        saida = new File(pasta.getRoot(), "saida.txt");
+        status = new File(pasta.getRoot(), "status.bin");
+        descarte = new PrintStream(new ByteArrayOutputStream());
+    }
+
+    @Test
+    public void consegueFormatarEDesformatarColunasDeArquivoDelimitado() throws IOException {
+        escreve("nome;cpf;cnpj\n"
+                + "Ana;54558626266;50.713.534/0001-33\n"
+                + "Beto;545.586.262-67;77135038000104\r\n"
+                + "Caio;545.586.262-66\n");
+
+        final int retorno = CanarinhoCli.executa(descarte, descarte,
+                "--entrada", entrada.getPath(), "--saida", saida.getPath(), "--status", status.getPath(),
+                "--cabecalho", "--coluna", "CNPJ:3:desformata", "--coluna", "CPF:2:formata");
+
+        assertThat(retorno, is(1));
+        assertThat(le(saida), is("nome;cpf;cnpj\n"
+                + "Ana;545.586.262-66;50713534000133\n"
+                + "Beto;545.586.262-67;77135038000104\r\n"
+                + "Caio;545.586.262-66\n"));
+
+        // Bit 0: CNPJ (primeira coluna declarada), bit 1: CPF
+        assertThat(Files.readAllBytes(status.toPath()), is(new byte[]{0, 2, 1}));
+    }
+
+    @Test
+    public void consegueReescreverColunasDeTamanhoFixo() throws IOException {
+        escreve("00154558626266   X\n"
+                + "002545.586.262-67X\n");
+
+        final int retorno = CanarinhoCli.executa(descarte, descarte,
+                "--entrada", entrada.getPath(), "--saida", saida.getPath(),
+                "--posicao", "CPF:4:14:FORMATA");
+
+        assertThat(retorno, is(1));
+        assertThat(le(saida), is("001545.586.262-66X\n"
+                + "002545.586.262-67X\n"));
+    }
+
+    @Test
+    public void resultadoNaoDependeDaDivisaoEmBlocos() throws IOException {
+        final StringBuilder conteudo = new StringBuilder();
+        for (int i = 0; i < 500; i++) {
+            conteudo.append(i).append(';').append(i % 3 == 0 ? "545.586.262-67" : "54558626266").append('\n');
+        }
+        escreve(conteudo.toString());
+
+        final File saidaEmBlocos = new File(pasta.getRoot(), "blocos.txt");
+        final File statusEmBlocos = new File(pasta.getRoot(), "blocos.bin");
+
+        CanarinhoCli.executa(descarte, descarte,
+                "--entrada", entrada.getPath(), "--saida", saida.getPath(), "--status", status.getPath(),
+                "--threads", "1", "--coluna", "CPF:2:FORMATA");
+
+        CanarinhoCli.executa(descarte, descarte,
+                "--entrada", entrada.getPath(), "--saida", saidaEmBlocos.getPath(),
+                "--status", statusEmBlocos.getPath(),
+                "--threads", "3", "--tamanho-bloco", "100", "--coluna", "CPF:2:FORMATA");
+
+        assertThat(le(saidaEmBlocos), is(le(saida)));
+        assertThat(Files.readAllBytes(statusEmBlocos.toPath()), is(Files.readAllBytes(status.toPath())));
+        assertThat(Files.readAllBytes(status.toPath()).length, is(500));
+    }
+
+    @Test
+    public void retornaErroParaArgumentosInvalidos() {
+        assertThat(CanarinhoCli.executa(descarte, descarte, "--entrada", "x.csv"), is(2));
+        assertThat(CanarinhoCli.executa(descarte, descarte,
+                "--entrada", "x.csv", "--status", "x.bin", "--coluna", "RG:1"), is(2));
+        assertThat(CanarinhoCli.executa(descarte, descarte,
+                "--entrada", "x.csv", "--status", "x.bin", "--coluna", "CPF:1:FORMATA"), is(2));
+    }
+
+    private void escreve(String conteudo) throws IOException {
+        Files.write(entrada.toPath(), conteudo.getBytes(ASCII));
+    }
+
+    private static String le(File arquivo) throws IOException {
+        return new String(Files.readAllBytes(arquivo.toPath()), ASCII);
+    }
+}
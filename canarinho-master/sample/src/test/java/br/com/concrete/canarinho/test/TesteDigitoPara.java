@@ -0,0 +1,77 @@
+package br.com.concrete.canarinho.test;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+
+import br.com.concrete.canarinho.Builder;
+import br.com.concrete.canarinho.DigitoPara;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.fail;
+
+@RunWith(AndroidJUnit4.class)
+public class TesteDigitoPara {
+
+    private static final DigitoPara MOD_11 = new Builder.BuilderFinal()
+            .comMultiplicadoresDeAte(2, 7)
+            .complementarAoModulo()
+            .build();
+
+    private static final DigitoPara MOD_11_COM_SUBSTITUICAO = new Builder.BuilderFinal()
+            .comMultiplicadoresDeAte(2, 11)
+            .complementarAoModulo()
+            .trocandoPorSeEncontrar("0", 10, 11)
+            .build();
+
+    @Test
+    public void consegueCalcularExemploDaDocumentacao() {
+        assertThat(MOD_11.calcula("0000039104766"), is("9"));
+        assertThat(MOD_11.calculaDigito("0000039104766", 0, 13), is('9'));
+        assertThat(MOD_11.calculaDigito("0000039104766".toCharArray(), 0, 13), is('9'));
+        assertThat(MOD_11.calculaResultado("0000039104766", 0, 13), is(9));
+    }
+
+    @Test
+    public void consegueCalcularSobreTrechoDaSequencia() {
+        // Mesmo bloco do exemplo cercado por lixo
+        assertThat(MOD_11.calculaDigito("xx0000039104766yy", 2, 15), is('9'));
+        assertThat(MOD_11.calculaDigito("xx0000039104766yy".toCharArray(), 2, 15), is('9'));
+    }
+
+    @Test
+    public void consegueAplicarSubstituicoes() {
+        // CPF 545.586.262-66
+        assertThat(MOD_11_COM_SUBSTITUICAO.calcula("545586262"), is("6"));
+        assertThat(MOD_11_COM_SUBSTITUICAO.calcula("5455862626"), is("6"));
+
+        // Resultado 11 (soma múltipla de 11) deve ser substituído por 0
+        assertThat(MOD_11_COM_SUBSTITUICAO.calculaResultado("000000000", 0, 9), is(11));
+        assertThat(MOD_11_COM_SUBSTITUICAO.calcula("000000000"), is("0"));
+        assertThat(MOD_11_COM_SUBSTITUICAO.calculaDigito("000000000", 0, 9), is('0'));
+    }
+
+    @Test
+    public void rejeitaTrechosComCaracteresQueNaoSaoDigitos() {
+        for (String trecho : new String[]{"1.", ".", "--", " "}) {
+            try {
+                MOD_11_COM_SUBSTITUICAO.calcula(trecho);
+                fail("calcula(\"" + trecho + "\") deveria lançar IllegalArgumentException");
+            } catch (IllegalArgumentException esperada) {
+                // ok
+            }
+
+            try {
+                MOD_11.calculaDigito(trecho.toCharArray(), 0, trecho.length());
+                fail("calculaDigito(\"" + trecho + "\") deveria lançar IllegalArgumentException");
+            } catch (IllegalArgumentException esperada) {
+                // ok
+            }
+        }
+
+        // Os caracteres fora do bloco continuam ignorados
+        assertThat(MOD_11.calcula(""), is("11"));
+        assertThat(MOD_11.calculaDigito(" 0000039104766.", 1, 14), is('9'));
+    }
+}
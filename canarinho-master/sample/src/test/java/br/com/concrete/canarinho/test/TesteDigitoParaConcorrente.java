@@ -0,0 +1,78 @@
+package br.com.concrete.canarinho.test;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+
+import br.com.concrete.canarinho.validator.Validador;
+import br.com.concrete.canarinho.validator.ValidadorBoleto;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.CoreMatchers.is;
+
+/**
+ * Teste no estilo jcstress: vários "atores" disputam as mesmas instâncias compartilhadas e o
+ * "árbitro" confere que nenhum resultado foi corrompido pela concorrência.
+ */
+@RunWith(AndroidJUnit4.class)
+public class TesteDigitoParaConcorrente {
+
+    private static final int ATORES = 8;
+    private static final int ITERACOES = 20000;
+
+    @Test
+    public void instanciasCompartilhadasNaoCorrompemResultados() throws InterruptedException {
+
+        final CountDownLatch largada = new CountDownLatch(1);
+        final CountDownLatch chegada = new CountDownLatch(ATORES);
+        final AtomicInteger falhas = new AtomicInteger();
+
+        for (int i = 0; i < ATORES; i++) {
+            final int ator = i;
+            new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        largada.await();
+                        for (int j = 0; j < ITERACOES; j++) {
+                            if (!confere(ator + j)) {
+                                falhas.incrementAndGet();
+                            }
+                        }
+                    } catch (InterruptedException e) {
+                        falhas.incrementAndGet();
+                    } finally {
+                        chegada.countDown();
+                    }
+                }
+            }).start();
+        }
+
+        largada.countDown();
+
+        assertThat(chegada.await(1, TimeUnit.MINUTES), is(true));
+        assertThat(falhas.get(), is(0));
+    }
+
+    // Alterna entre entradas de tamanhos diferentes para maximizar a interferência
+    private static boolean confere(int rodada) {
+        switch (rodada % 4) {
+            case 0:
+                return ValidadorBoleto.MOD_10.calcula("001905009").equals("5")
+                        && Validador.CPF.ehValido("545.586.262-66");
+            case 1:
+                return ValidadorBoleto.MOD_11.calcula("0019373700000001000500940144816060680935031").equals("3")
+                        && !Validador.CPF.ehValido("545.111.262-66");
+            case 2:
+                return Validador.CNPJ.ehValido("50.713.534/0001-33")
+                        && Validador.BOLETO.ehValido("23790.12301 60000.000053 25000.456704 9 64680000013580");
+            default:
+                return !Validador.CNPJ.ehValido("50.713.111/0001-33")
+                        && ValidadorBoleto.MOD_10.calculaDigito("4014481606", 0, 10) == '9';
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package br.com.concrete.canarinho.test;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+
+import br.com.concrete.canarinho.Digitos;
+import br.com.concrete.canarinho.DocumentoNormalizado;
+import br.com.concrete.canarinho.validator.ValidacaoEmLote;
+import br.com.concrete.canarinho.validator.Validador;
+import br.com.concrete.canarinho.validator.ValidadorCPFCNPJ;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.CoreMatchers.is;
+
+@RunWith(AndroidJUnit4.class)
+public class TesteDocumentoNormalizado {
+
+    @Test
+    public void consegueContarEExtrairDigitos() {
+        assertThat(Digitos.conta("545.586.262-66"), is(11));
+        assertThat(Digitos.conta(""), is(0));
+        assertThat(Digitos.conta("abc"), is(0));
+
+        final char[] chars = new char[13];
+        assertThat(Digitos.extrai("545.586.262-66", 0, 14, chars, 2), is(11));
+        assertThat(new String(chars, 2, 11), is("54558626266"));
+
+        final byte[] bytes = new byte[11];
+        assertThat(Digitos.extrai("(11) 98765-4321", 0, 15, bytes, 0), is(11));
+        assertThat(bytes[0], is((byte) '1'));
+        assertThat(bytes[10], is((byte) '1'));
+    }
+
+    @Test
+    public void contaDigitosQueNaoCabemNoDestino() {
+        final char[] destino = new char[4];
+        assertThat(Digitos.extrai("12.345-678", 0, 10, destino, 0), is(8));
+        assertThat(new String(destino), is("1234"));
+    }
+
+    @Test
+    public void consegueReutilizarOHandle() {
+        final DocumentoNormalizado documento = new DocumentoNormalizado(4);
+
+        assertThat(documento.normaliza("50.713.534/0001-33").toString(), is("50713534000133"));
+        assertThat(documento.length(), is(14));
+
+        assertThat(documento.normaliza("22640-100").toString(), is("22640100"));
+        assertThat(documento.length(), is(8));
+        assertThat(documento.charAt(7), is('0'));
+    }
+
+    @Test
+    public void consegueDescartarUmDigito() {
+        final DocumentoNormalizado documento = new DocumentoNormalizado().normaliza("08.639.208/4318");
+
+        assertThat(documento.descarta(11).toString(), is("08639208431"));
+        assertThat(documento.descarta(0).toString(), is("8639208431"));
+        assertThat(documento.descarta(9).toString(), is("863920843"));
+        assertThat(documento.length(), is(9));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void naoDescartaForaDoDocumento() {
+        new DocumentoNormalizado().normaliza("123").descarta(3);
+    }
+
+    @Test
+    public void validadoresAceitamOHandle() {
+        final DocumentoNormalizado documento = new DocumentoNormalizado();
+
+        assertThat(ValidacaoEmLote.ehValido(Validador.CPF, documento.normaliza("545.586.262-66")), is(true));
+        assertThat(ValidacaoEmLote.ehValido(Validador.CPF, documento.normaliza("545.111.262-66")), is(false));
+        assertThat(ValidacaoEmLote.ehValido(Validador.CNPJ, documento.normaliza("50.713.534/0001-33")), is(true));
+        assertThat(ValidacaoEmLote.ehValido(Validador.CEP, documento.normaliza("22640-100")), is(true));
+        assertThat(ValidacaoEmLote.ehValido(Validador.TELEFONE, documento.normaliza("(11) 98765-4321")), is(true));
+        assertThat(ValidacaoEmLote.ehValido(Validador.BOLETO,
+                documento.normaliza("23790.12301 60000.000053 25000.456704 9 64680000013580")), is(true));
+
+        final Validador cpfCnpj = ValidadorCPFCNPJ.getInstance();
+        assertThat(ValidacaoEmLote.ehValido(cpfCnpj, documento.normaliza("545.586.262-66")), is(true));
+        assertThat(ValidacaoEmLote.ehValido(cpfCnpj, documento.normaliza("50.713.534/0001-33")), is(true));
+        assertThat(ValidacaoEmLote.ehValido(cpfCnpj, documento.normaliza("50.713.111/0001-33")), is(false));
+    }
+
+    @Test
+    public void validadorCompostoAtualizaResultadoParcial() {
+        final Validador cpfCnpj = ValidadorCPFCNPJ.getInstance();
+        final Validador.ResultadoParcial resultado = new Validador.ResultadoParcial();
+
+        cpfCnpj.ehValido("545.586.26", resultado);
+        assertThat(resultado.isParcialmenteValido(), is(true));
+        assertThat(resultado.isValido(), is(false));
+
+        cpfCnpj.ehValido("545.586.262-66", resultado);
+        assertThat(resultado.isValido(), is(true));
+
+        cpfCnpj.ehValido("50.713.111/0001-33", resultado);
+        assertThat(resultado.isParcialmenteValido(), is(false));
+        assertThat(resultado.getMensagem(), is("CNPJ inválido"));
+    }
+}
@@ -6,6 +6,8 @@ import androidx.test.ext.junit.runners.AndroidJUnit4;
 
 import br.com.concrete.canarinho.formatador.Formatador;
 
+import java.io.IOException;
+
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.fail;
@@ -35,6 +37,27 @@ public class TesteFormatadorCPF {
         assertThrowsFormat("       047.486.777-32      ");
     }
 
+    @Test
+    public void consegueFormatarSemCriarStrings() throws IOException {
+
+        final char[] buffer = new char[16];
+        assertThat(Formatador.CPF.formata("54558626266", buffer, 1), is(14));
+        assertThat(new String(buffer, 1, 14), is("545.586.262-66"));
+        assertThat(Formatador.CPF.desformata("545.586.262-66", buffer, 0), is(11));
+        assertThat(new String(buffer, 0, 11), is("54558626266"));
+
+        final StringBuilder destino = new StringBuilder();
+        Formatador.CPF.formata("02072483387", destino);
+        Formatador.CPF.desformata("020.724.833-87", destino.append(' '));
+        assertThat(destino.toString(), is("020.724.833-87 02072483387"));
+
+        try {
+            Formatador.CPF.formata("54558626266", new char[14], 1);
+            fail("Should have thrown!!!");
+        } catch (IllegalArgumentException e) {
+        }
+    }
+
     @Test
     public void consegueDesformatarCPF() {
 
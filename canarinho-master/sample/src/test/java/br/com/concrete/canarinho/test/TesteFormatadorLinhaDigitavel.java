@@ -5,6 +5,11 @@ import org.junit.runner.RunWith;
 import androidx.test.ext.junit.runners.AndroidJUnit4;
 
 import br.com.concrete.canarinho.formatador.Formatador;
+import br.com.concrete.canarinho.formatador.FormatadorLinhaDigitavel;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.BitSet;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -38,4 +43,40 @@ public class TesteFormatadorLinhaDigitavel {
         assertThat(Formatador.LINHA_DIGITAVEL.podeSerFormatado("8123456789081234567890812345678908123456"), is(false));
         assertThat(Formatador.LINHA_DIGITAVEL.podeSerFormatado("23790.1230 60000.00005 25000.45670 9 64680000013580"), is(true));
     }
+
+    @Test
+    public void consegueConverterEmBuffers() throws IOException {
+        final FormatadorLinhaDigitavel formatador = FormatadorLinhaDigitavel.getInstance();
+
+        final char[] buffer = new char[60];
+        assertThat(formatador.desformata("23790.12301 60000.000053 25000.456704 9 64680000013580", buffer, 5), is(44));
+        assertThat(new String(buffer, 5, 44), is("23799646800000135800123060000000052500045670"));
+
+        final StringBuilder linha = new StringBuilder("linha: ");
+        formatador.formata(new String(buffer, 5, 44), linha);
+        assertThat(linha.toString(), is("linha: 23790123016000000005325000456704964680000013580"));
+    }
+
+    @Test
+    public void consegueConverterRegistrosDeTamanhoFixo() {
+        final Charset ascii = Charset.forName("US-ASCII");
+        final byte[] registros = ("23799646800000135800123060000000052500045670\n"
+                + "2379964680000013580012306000000005250004567 \n"
+                + "84860000001523301622015061013071262001211122\n").getBytes(ascii);
+
+        final byte[] linhas = new byte[3 * 48];
+        final BitSet convertidos = new BitSet();
+        FormatadorLinhaDigitavel.getInstance().formataLote(registros, 45, 0, 3, linhas, 48, convertidos);
+
+        assertThat(new String(linhas, ascii), is("23790123016000000005325000456704964680000013580 "
+                + "                                                "
+                + "848600000015523301622010506101307129620012111220"));
+        assertThat(convertidos.toString(), is("{0, 2}"));
+
+        final byte[] codigos = new byte[3 * 44];
+        FormatadorLinhaDigitavel.getInstance().desformataLote(linhas, 48, 0, 3, codigos, 44, convertidos);
+        assertThat(new String(codigos, 0, 44, ascii), is("23799646800000135800123060000000052500045670"));
+        assertThat(new String(codigos, 88, 44, ascii), is("84860000001523301622015061013071262001211122"));
+        assertThat(convertidos.toString(), is("{0, 2}"));
+    }
 }
@@ -5,6 +5,9 @@ import org.junit.runner.RunWith;
 import androidx.test.ext.junit.runners.AndroidJUnit4;
 
 import br.com.concrete.canarinho.formatador.Formatador;
+import br.com.concrete.canarinho.formatador.FormatadorValor;
+
+import java.io.IOException;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.CoreMatchers.is;
@@ -85,4 +88,78 @@ public class TesteFormatadorValor {
         } catch (IllegalArgumentException e) {
         }
     }
+
+    @Test
+    public void consegueFormatarEmArrayEAppendable() throws IOException {
+
+        final char[] buffer = new char[20];
+        final int tamanho = Formatador.VALOR_COM_SIMBOLO.formata("-1234567.895", buffer, 2);
+        assertThat(new String(buffer, 2, tamanho), is("R$ -1.234.567,90"));
+
+        final StringBuilder destino = new StringBuilder("Total: ");
+        Formatador.VALOR.formata("0.005", destino);
+        assertThat(destino.toString(), is("Total: 0,00"));
+
+        try {
+            Formatador.VALOR.formata("1000", new char[7], 0);
+            fail("Should have thrown!!!");
+        } catch (IllegalArgumentException e) {
+        }
+    }
+
+    @Test
+    public void consegueDesformatarEmArrayEAppendable() throws IOException {
+
+        final char[] buffer = new char[20];
+        final int tamanho = Formatador.VALOR_COM_SIMBOLO.desformata("R$ -001.234,50", buffer, 1);
+        assertThat(new String(buffer, 1, tamanho), is("-1234.50"));
+
+        final StringBuilder destino = new StringBuilder();
+        Formatador.VALOR.desformata(",5", destino);
+        assertThat(destino.toString(), is("0.5"));
+
+        destino.setLength(0);
+        Formatador.VALOR.desformata("-0,00", destino);
+        destino.append(' ');
+        Formatador.VALOR_COM_SIMBOLO.desformata("R$ -0.001,01", destino);
+        assertThat(destino.toString(), is("0.00 -1.01"));
+
+        // Valor inválido não deixa nada escrito no destino
+        destino.setLength(0);
+        try {
+            Formatador.VALOR.desformata("1,2,3", destino);
+            fail("Should have thrown!!!");
+        } catch (IllegalArgumentException e) {
+            assertThat(destino.length(), is(0));
+        }
+    }
+
+    @Test
+    public void consegueFormatarCentavos() {
+
+        final FormatadorValor valor = FormatadorValor.getInstance(false);
+        assertThat(valor.formata(0L), is("0,00"));
+        assertThat(valor.formata(-5L), is("-0,05"));
+        assertThat(valor.formata(123456L), is("1.234,56"));
+        assertThat(valor.formata(Long.MIN_VALUE), is("-92.233.720.368.547.758,08"));
+        assertThat(FormatadorValor.getInstance(true).formata(100000L), is("R$ 1.000,00"));
+    }
+
+    @Test
+    public void consegueLerCentavos() {
+
+        final FormatadorValor valor = FormatadorValor.getInstance(true);
+        assertThat(valor.centavos("1234.565"), is(123456L));
+        assertThat(valor.centavos("1234.575"), is(123458L));
+        assertThat(valor.centavos("-0.5e1"), is(-500L));
+        assertThat(valor.centavosDoFormatado("R$ 1.234,56"), is(123456L));
+        assertThat(valor.centavosDoFormatado("-0,125"), is(-12L));
+        assertThat(valor.centavosDoFormatado("92.233.720.368.547.758,07"), is(Long.MAX_VALUE));
+
+        try {
+            valor.centavosDoFormatado("92.233.720.368.547.758,08");
+            fail("Should have thrown!!!");
+        } catch (IllegalArgumentException e) {
+        }
+    }
 }
@@ -0,0 +1,77 @@
+package br.com.concrete.canarinho.test;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+
+import br.com.concrete.canarinho.formatador.Formatador;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.CoreMatchers.is;
+
+/**
+ * Teste no estilo jcstress para os formatadores de valor: com um DecimalFormat compartilhado, o
+ * texto de um ator vazava para o resultado de outro.
+ */
+@RunWith(AndroidJUnit4.class)
+public class TesteFormatadorValorConcorrente {
+
+    private static final int ATORES = 8;
+    private static final int ITERACOES = 20000;
+
+    @Test
+    public void instanciasCompartilhadasNaoCorrompemResultados() throws InterruptedException {
+
+        final CountDownLatch largada = new CountDownLatch(1);
+        final CountDownLatch chegada = new CountDownLatch(ATORES);
+        final AtomicInteger falhas = new AtomicInteger();
+
+        for (int i = 0; i < ATORES; i++) {
+            final int ator = i;
+            new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        largada.await();
+                        for (int j = 0; j < ITERACOES; j++) {
+                            if (!confere(ator + j)) {
+                                falhas.incrementAndGet();
+                            }
+                        }
+                    } catch (InterruptedException e) {
+                        falhas.incrementAndGet();
+                    } finally {
+                        chegada.countDown();
+                    }
+                }
+            }).start();
+        }
+
+        largada.countDown();
+
+        assertThat(chegada.await(1, TimeUnit.MINUTES), is(true));
+        assertThat(falhas.get(), is(0));
+    }
+
+    // Alterna entre valores de tamanhos diferentes para maximizar a interferência
+    private static boolean confere(int rodada) {
+        switch (rodada % 4) {
+            case 0:
+                return Formatador.VALOR.formata("1234567.891").equals("1.234.567,89")
+                        && Formatador.VALOR.desformata("1.234,50").equals("1234.50");
+            case 1:
+                return Formatador.VALOR_COM_SIMBOLO.formata("0.1").equals("R$ 0,10")
+                        && Formatador.VALOR_COM_SIMBOLO.desformata("R$ 0,10").equals("0.10");
+            case 2:
+                return Formatador.VALOR.formata("-98765432109.875").equals("-98.765.432.109,88")
+                        && Formatador.VALOR.desformata("-98.765.432.109,88").equals("-98765432109.88");
+            default:
+                return Formatador.VALOR_COM_SIMBOLO.formata("7").equals("R$ 7,00")
+                        && Formatador.VALOR.formata("0.005").equals("0,00");
+        }
+    }
+}
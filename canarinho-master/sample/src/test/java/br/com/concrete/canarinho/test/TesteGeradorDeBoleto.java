@@ -0,0 +1,92 @@
+package br.com.concrete.canarinho.test;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+
+import br.com.concrete.canarinho.boleto.BoletoDecodificado;
+import br.com.concrete.canarinho.boleto.GeradorDeBoleto;
+import br.com.concrete.canarinho.validator.Validador;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.CoreMatchers.is;
+
+@RunWith(AndroidJUnit4.class)
+public class TesteGeradorDeBoleto {
+
+    // Dias desde 01/01/1970
+    private static final long DIA_23_06_2015 = 16609L;
+
+    private final char[] codigo = new char[44];
+    private final char[] linha = new char[48];
+
+    @Test
+    public void consegueGerarBoletoBancario() {
+        final int tamanhoCodigo = GeradorDeBoleto.codigoBancario(237, GeradorDeBoleto.MOEDA_REAL, DIA_23_06_2015,
+                13580L, "0123060000000052500045670", codigo, 0);
+        final int tamanhoLinha = GeradorDeBoleto.linhaDigitavel(codigo, 0, linha, 0);
+
+        assertThat(tamanhoCodigo, is(44));
+        assertThat(tamanhoLinha, is(47));
+        assertThat(new String(codigo), is("23799646800000135800123060000000052500045670"));
+        assertThat(new String(linha, 0, tamanhoLinha), is("23790123016000000005325000456704964680000013580"));
+    }
+
+    @Test
+    public void consegueGerarBoletoDeArrecadacao() {
+        // Módulo 11 (identificador 8) e módulo 10 (identificador 6)
+        for (int identificador : new int[]{8, 6}) {
+            GeradorDeBoleto.codigoDeArrecadacao(4, identificador, 1523L, 3016L, "2201506101307126200121112",
+                    codigo, 0);
+            final int tamanhoLinha = GeradorDeBoleto.linhaDigitavel(codigo, 0, linha, 0);
+            final String valor = new String(linha, 0, tamanhoLinha);
+
+            assertThat(tamanhoLinha, is(48));
+            assertThat(Validador.BOLETO.ehValido(valor), is(true));
+
+            final BoletoDecodificado boleto = new BoletoDecodificado().decodifica(valor);
+            assertThat(boleto.isValido(), is(true));
+            assertThat(boleto.getSegmento(), is(4));
+            assertThat(boleto.getIdentificadorDeValor(), is(identificador));
+            assertThat(boleto.getValorEmCentavos(), is(1523L));
+            assertThat(boleto.getIdentificacaoDaEmpresa(), is(3016L));
+        }
+    }
+
+    @Test
+    public void usaCnpjNoSegmento6ESemVencimento() {
+        GeradorDeBoleto.codigoDeArrecadacao(6, 9, 99999999999L, 12345678L, "000000000000000000001", codigo, 0);
+        final BoletoDecodificado tributo = new BoletoDecodificado().decodifica(new String(codigo));
+        assertThat(tributo.isValido(), is(true));
+        assertThat(tributo.getIdentificacaoDaEmpresa(), is(12345678L));
+        assertThat(tributo.getValorEmCentavos(), is(99999999999L));
+
+        // Buffer compartilhado, escrevendo a partir de uma posição intermediária
+        final char[] buffer = new char[100];
+        GeradorDeBoleto.codigoBancario(1, 9, BoletoDecodificado.SEM_VENCIMENTO, 0L, "0000000000000000000000000",
+                buffer, 10);
+        final int tamanhoLinha = GeradorDeBoleto.linhaDigitavel(buffer, 10, buffer, 53);
+
+        final BoletoDecodificado bancario = new BoletoDecodificado().decodifica(new String(buffer, 53, tamanhoLinha));
+        assertThat(bancario.isValido(), is(true));
+        assertThat(bancario.getBanco(), is(1));
+        assertThat(bancario.getVencimento(DIA_23_06_2015), is(BoletoDecodificado.SEM_VENCIMENTO));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void naoAceitaCampoLivreComLetras() {
+        GeradorDeBoleto.codigoBancario(237, 9, DIA_23_06_2015, 100L, "012306000000005250004567A", codigo, 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void naoAceitaValorMaiorQueOLayout() {
+        GeradorDeBoleto.codigoBancario(237, 9, DIA_23_06_2015, 10000000000L, "0123060000000052500045670",
+                codigo, 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void naoAceitaDestinoPequeno() {
+        GeradorDeBoleto.codigoBancario(237, 9, DIA_23_06_2015, 100L, "0123060000000052500045670",
+                new char[43], 0);
+    }
+}
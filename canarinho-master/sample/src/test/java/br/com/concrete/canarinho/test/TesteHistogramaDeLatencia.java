@@ -0,0 +1,86 @@
+package br.com.concrete.canarinho.test;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+
+import java.util.concurrent.CountDownLatch;
+
+import br.com.concrete.canarinho.HistogramaDeLatencia;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@RunWith(AndroidJUnit4.class)
+public class TesteHistogramaDeLatencia {
+
+    @Test
+    public void valoresPequenosSaoExatos() {
+        final HistogramaDeLatencia histograma = new HistogramaDeLatencia();
+        assertThat(histograma.percentil(50), is(0L));
+
+        for (int i = 1; i <= 10; i++) {
+            histograma.registra(i);
+        }
+
+        assertThat(histograma.getQuantidade(), is(10L));
+        assertThat(histograma.percentil(0), is(1L));
+        assertThat(histograma.percentil(50), is(5L));
+        assertThat(histograma.percentil(90), is(9L));
+        assertThat(histograma.percentil(100), is(10L));
+    }
+
+    @Test
+    public void percentisTemErroRelativoLimitado() {
+        final HistogramaDeLatencia histograma = new HistogramaDeLatencia();
+        for (long nanos = 1000; nanos <= 100000; nanos += 1000) {
+            histograma.registra(nanos);
+        }
+
+        final long mediana = histograma.percentil(50);
+        assertThat(mediana >= 50000 && mediana <= 50000 * 1.125, is(true));
+
+        final long p99 = histograma.percentil(99);
+        assertThat(p99 >= 99000 && p99 <= 99000 * 1.125, is(true));
+
+        // Nunca acima do máximo registrado
+        assertThat(histograma.percentil(100), is(100000L));
+        assertThat(histograma.getMaximo(), is(100000L));
+
+        histograma.registra(Long.MAX_VALUE);
+        assertThat(histograma.percentil(100), is(Long.MAX_VALUE));
+
+        histograma.zera();
+        assertThat(histograma.getQuantidade(), is(0L));
+        assertThat(histograma.getMaximo(), is(0L));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void percentualForaDoIntervalo() {
+        new HistogramaDeLatencia().percentil(100.1);
+    }
+
+    @Test
+    public void registrosConcorrentesNaoSePerdem() throws InterruptedException {
+        final HistogramaDeLatencia histograma = new HistogramaDeLatencia();
+        final int threads = 4;
+        final CountDownLatch fim = new CountDownLatch(threads);
+
+        for (int t = 0; t < threads; t++) {
+            final int inicio = t;
+            new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    for (int i = 0; i < 10000; i++) {
+                        histograma.registra(inicio * 10000 + i);
+                    }
+                    fim.countDown();
+                }
+            }).start();
+        }
+
+        fim.await();
+        assertThat(histograma.getQuantidade(), is(40000L));
+        assertThat(histograma.getMaximo(), is(39999L));
+    }
+}
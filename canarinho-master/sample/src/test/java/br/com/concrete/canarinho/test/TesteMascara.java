@@ -0,0 +1,94 @@
+package br.com.concrete.canarinho.test;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+
+import br.com.concrete.canarinho.formatador.Mascara;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.CoreMatchers.is;
+
+@RunWith(AndroidJUnit4.class)
+public class TesteMascara {
+
+    private final Mascara cpf = Mascara.compila("###.###.###-##");
+
+    @Test
+    public void consegueFormatarEDesformatar() {
+        assertThat(cpf.length(), is(14));
+        assertThat(cpf.getQuantidadeDeDigitos(), is(11));
+        assertThat(cpf.formata("54558626266"), is("545.586.262-66"));
+        assertThat(cpf.desformata("545.586.262-66"), is("54558626266"));
+
+        final char[] buffer = new char[20];
+        assertThat(cpf.formata("54558626266", buffer, 3), is(14));
+        assertThat(new String(buffer, 3, 14), is("545.586.262-66"));
+        assertThat(cpf.desformata("545.586.262-66", buffer, 0), is(11));
+        assertThat(new String(buffer, 0, 11), is("54558626266"));
+    }
+
+    @Test
+    public void consegueVerificarValores() {
+        assertThat(cpf.estaFormatado("545.586.262-66"), is(true));
+        assertThat(cpf.estaFormatado("545.586.262.66"), is(false));
+        assertThat(cpf.estaFormatado("545.586.262-6"), is(false));
+        assertThat(cpf.estaFormatado("545.586.26a-66"), is(false));
+        assertThat(cpf.podeSerFormatado("54558626266"), is(true));
+        assertThat(cpf.podeSerFormatado("5455862626"), is(false));
+        assertThat(cpf.podeSerFormatado("5455862626a"), is(false));
+    }
+
+    @Test
+    public void espacoAceitaQualquerEspacoEmBranco() {
+        final Mascara telefone = Mascara.compila("(##) ####-####");
+
+        assertThat(telefone.estaFormatado("(11) 2345-6789"), is(true));
+        assertThat(telefone.estaFormatado("(11)\t2345-6789"), is(true));
+        assertThat(telefone.estaFormatado("(11)_2345-6789"), is(false));
+        assertThat(telefone.formata("1123456789"), is("(11) 2345-6789"));
+    }
+
+    @Test
+    public void mascarasCompartilhadasSaoAMesmaInstancia() {
+        assertThat(Mascara.compartilhada("###.###.###-##") == Mascara.compartilhada("###.###.###-##"), is(true));
+        assertThat(Mascara.compartilhada("###.###.###-##") == cpf, is(false));
+    }
+
+    @Test
+    public void consegueMapearPosicoesEDigitos() {
+        assertThat(cpf.posicaoDoDigito(0), is(0));
+        assertThat(cpf.posicaoDoDigito(3), is(4));
+        assertThat(cpf.posicaoDoDigito(10), is(13));
+        assertThat(cpf.digitosAntes(3), is(3));
+        assertThat(cpf.digitosAntes(4), is(3));
+        assertThat(cpf.digitosAntes(14), is(11));
+        assertThat(cpf.ehPosicaoDeDigito(3), is(false));
+        assertThat(cpf.ehPosicaoDeDigito(4), is(true));
+        assertThat(cpf.tamanhoParcial(0), is(0));
+        assertThat(cpf.tamanhoParcial(3), is(4));
+        assertThat(cpf.tamanhoParcial(11), is(14));
+    }
+
+    @Test
+    public void consegueFormatarValoresIncompletos() {
+        final char[] buffer = new char[14];
+
+        assertThat(new String(buffer, 0, cpf.formataParcial("", -1, buffer, 0)), is(""));
+        assertThat(new String(buffer, 0, cpf.formataParcial("1234", -1, buffer, 0)), is("123.4"));
+        assertThat(new String(buffer, 0, cpf.formataParcial("123", -1, buffer, 0)), is("123."));
+        assertThat(new String(buffer, 0, cpf.formataParcial("1234", 2, buffer, 0)), is("124."));
+        assertThat(new String(buffer, 0, cpf.formataParcial("5455862626612", -1, buffer, 0)),
+                is("545.586.262-66"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void naoAceitaMascaraSemDigitos() {
+        Mascara.compila("...-..");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void naoFormataValorIncompleto() {
+        cpf.formata("5455862626");
+    }
+}
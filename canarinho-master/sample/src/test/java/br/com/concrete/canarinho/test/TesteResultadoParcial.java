@@ -0,0 +1,83 @@
+package br.com.concrete.canarinho.test;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+
+import br.com.concrete.canarinho.validator.Validador;
+import br.com.concrete.canarinho.validator.Validador.ResultadoParcial;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+
+@RunWith(AndroidJUnit4.class)
+public class TesteResultadoParcial {
+
+    @Test
+    public void informaBlocoEPosicaoDoErroDeBoleto() {
+        final ResultadoParcial resultado = new ResultadoParcial();
+
+        // Dígito verificador do segundo bloco alterado de 3 para 4
+        Validador.BOLETO.ehValido("23790.12301 60000.000054 25000.456704 9 64680000013580", resultado);
+
+        assertThat(resultado.isParcialmenteValido(), is(false));
+        assertThat(resultado.getCodigoDeErro(), is(ResultadoParcial.ERRO_BLOCO_BOLETO));
+        assertThat(resultado.getBloco(), is(2));
+        assertThat(resultado.getPosicao(), is(20));
+        assertThat(resultado.getMensagem(), is("Segundo bloco inválido"));
+    }
+
+    @Test
+    public void informaBlocoDeErroDeTributo() {
+        final ResultadoParcial resultado = new ResultadoParcial();
+
+        // Dígito verificador do quarto bloco alterado de 0 para 1
+        Validador.BOLETO.ehValido("848600000015 523301622010 506101307129 620012111221", resultado);
+
+        assertThat(resultado.getCodigoDeErro(), is(ResultadoParcial.ERRO_BLOCO_BOLETO));
+        assertThat(resultado.getBloco(), is(4));
+        assertThat(resultado.getPosicao(), is(47));
+        assertThat(resultado.getMensagem(), is("Quarto bloco inválido"));
+    }
+
+    @Test
+    public void limpaErroQuandoValorVoltaASerValido() {
+        final ResultadoParcial resultado = new ResultadoParcial();
+
+        Validador.CPF.ehValido("545.586.262-67", resultado);
+        assertThat(resultado.getCodigoDeErro(), is(ResultadoParcial.ERRO_CPF));
+        assertThat(resultado.getBloco(), is(0));
+        assertThat(resultado.getPosicao(), is(-1));
+        assertThat(resultado.getMensagem(), is("CPF inválido"));
+
+        Validador.CPF.ehValido("545.586.262-66", resultado);
+        assertThat(resultado.isValido(), is(true));
+        assertThat(resultado.getCodigoDeErro(), is(ResultadoParcial.SEM_ERRO));
+        assertThat(resultado.getMensagem(), is(nullValue()));
+    }
+
+    @Test
+    public void mensagemCustomizadaTemPrecedencia() {
+        final ResultadoParcial resultado = new ResultadoParcial()
+                .erro(ResultadoParcial.ERRO_CEP)
+                .mensagem("Digite um CEP válido");
+
+        assertThat(resultado.getMensagem(), is("Digite um CEP válido"));
+        assertThat(new ResultadoParcial().erro(ResultadoParcial.ERRO_CEP).getMensagem(), is("CEP inválido"));
+        assertThat(new ResultadoParcial().erro(ResultadoParcial.ERRO_TELEFONE).getMensagem(),
+                is("Telefone inválido"));
+        assertThat(new ResultadoParcial().erro(ResultadoParcial.ERRO_CNPJ).getMensagem(), is("CNPJ inválido"));
+    }
+
+    @Test
+    public void erroDeBoletoSemBlocoTemMensagemGenerica() {
+        assertThat(new ResultadoParcial().erro(ResultadoParcial.ERRO_BLOCO_BOLETO).getMensagem(),
+                is("Bloco inválido"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void naoAceitaBlocoForaDoBoleto() {
+        new ResultadoParcial().erro(ResultadoParcial.ERRO_BLOCO_BOLETO, 5, 47);
+    }
+}
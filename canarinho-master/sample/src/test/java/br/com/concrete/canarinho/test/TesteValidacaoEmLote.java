@@ -0,0 +1,113 @@
+package br.com.concrete.canarinho.test;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+
+import br.com.concrete.canarinho.DocumentoNormalizado;
+import br.com.concrete.canarinho.validator.ValidacaoEmLote;
+import br.com.concrete.canarinho.validator.Validador;
+import br.com.concrete.canarinho.validator.ValidadorCPFCNPJ;
+
+import java.nio.charset.Charset;
+import java.util.BitSet;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.CoreMatchers.is;
+
+@RunWith(AndroidJUnit4.class)
+public class TesteValidacaoEmLote {
+
+    private static final CharSequence[] CPFS = {
+            "545.586.262-66",
+            "54111626266",
+            null,
+            new StringBuilder("02072483387"),
+            "047.111.777-32",
+            "11111111111"
+    };
+
+    @Test
+    public void consegueValidarLoteDeCharSequences() {
+        final BitSet resultado = new BitSet();
+        ValidacaoEmLote.valida(Validador.CPF, CPFS, 0, CPFS.length, resultado);
+
+        assertThat(resultado.get(0), is(true));
+        assertThat(resultado.get(1), is(false));
+        assertThat(resultado.get(2), is(false));
+        assertThat(resultado.get(3), is(true));
+        assertThat(resultado.get(4), is(false));
+        assertThat(resultado.get(5), is(false));
+        assertThat(resultado.cardinality(), is(2));
+    }
+
+    @Test
+    public void validaApenasOIntervaloInformado() {
+        final BitSet resultado = new BitSet();
+        resultado.set(0);
+
+        ValidacaoEmLote.valida(Validador.CPF, CPFS, 1, 4, resultado);
+
+        // Posição 0 fora do intervalo permanece como estava
+        assertThat(resultado.get(0), is(true));
+        assertThat(resultado.get(3), is(true));
+        assertThat(resultado.cardinality(), is(2));
+    }
+
+    @Test
+    public void consegueValidarRegistrosDeTamanhoFixo() {
+        // Registros de 18 bytes, preenchidos com espaços
+        final byte[] registros = ("50.713.534/0001-33"
+                + "50.713.111/0001-33"
+                + "77135038000104    ").getBytes(Charset.forName("US-ASCII"));
+
+        final BitSet resultado = new BitSet();
+        ValidacaoEmLote.valida(Validador.CNPJ, registros, 18, 0, 3, resultado);
+
+        assertThat(resultado.get(0), is(true));
+        assertThat(resultado.get(1), is(false));
+        assertThat(resultado.get(2), is(true));
+
+        final BitSet composto = new BitSet();
+        ValidacaoEmLote.valida(ValidadorCPFCNPJ.getInstance(), registros, 18, 0, 3, composto);
+        assertThat(composto, is(resultado));
+    }
+
+    @Test
+    public void implementacaoPadraoMantemSemanticaDeEhValido() {
+        final CharSequence[] ceps = {"22640-100", "2264010", "22640100"};
+        final BitSet resultado = new BitSet();
+
+        ValidacaoEmLote.valida(Validador.CEP, ceps, 0, ceps.length, resultado);
+
+        for (int i = 0; i < ceps.length; i++) {
+            assertThat(resultado.get(i), is(Validador.CEP.ehValido(ceps[i].toString())));
+        }
+    }
+
+    @Test
+    public void validadorQueNaoEstendeABaseEhValidadoValorAValor() {
+        // Validador de aplicação que implementa apenas a interface
+        final Validador somentePares = new Validador() {
+            @Override
+            public boolean ehValido(String valor) {
+                return !valor.isEmpty() && (valor.charAt(valor.length() - 1) - '0') % 2 == 0;
+            }
+
+            @Override
+            public ResultadoParcial ehValido(CharSequence valor, ResultadoParcial resultadoParcial) {
+                return resultadoParcial.totalmenteValido(ehValido(valor.toString()));
+            }
+        };
+
+        final BitSet valores = new BitSet();
+        ValidacaoEmLote.valida(somentePares, new CharSequence[]{"12", null, "13", "4"}, 0, 4, valores);
+        assertThat(valores.toString(), is("{0, 3}"));
+
+        final BitSet registros = new BitSet();
+        ValidacaoEmLote.valida(somentePares, "1-2 3-3 4-8 ".getBytes(Charset.forName("US-ASCII")), 4, 0, 3, registros);
+        assertThat(registros.toString(), is("{0, 2}"));
+
+        assertThat(ValidacaoEmLote.ehValido(somentePares, new DocumentoNormalizado().normaliza("5-6")), is(true));
+    }
+}
@@ -0,0 +1,102 @@
+package br.com.concrete.canarinho.test;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+
+import br.com.concrete.canarinho.validator.ValidacaoEmLote;
+import br.com.concrete.canarinho.validator.ValidacaoParalela;
+import br.com.concrete.canarinho.validator.Validador;
+
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.CoreMatchers.is;
+
+@RunWith(AndroidJUnit4.class)
+public class TesteValidacaoParalela {
+
+    // Tamanho que força várias divisões e um último bloco incompleto
+    private static final int QUANTIDADE = 50003;
+
+    private static final String[] AMOSTRAS = {
+            "545.586.262-66",
+            "54558626266",
+            "545.586.262-67",
+            "111.111.111-11",
+            "02072483387",
+            "123"
+    };
+
+    private ForkJoinPool pool;
+    private String[] valores;
+
+    @Before
+    public void setUp() {
+        pool = new ForkJoinPool(4);
+
+        final Random random = new Random(7);
+        valores = new String[QUANTIDADE];
+        for (int i = 0; i < QUANTIDADE; i++) {
+            valores[i] = AMOSTRAS[random.nextInt(AMOSTRAS.length)];
+        }
+    }
+
+    @After
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    public void resultadoIgualAoDaValidacaoSequencial() {
+        final BitSet esperado = new BitSet();
+        for (int i = 0; i < QUANTIDADE; i++) {
+            esperado.set(i, Validador.CPF.ehValido(valores[i]));
+        }
+
+        final ValidacaoParalela validacao = new ValidacaoParalela(Validador.CPF, pool);
+
+        assertThat(validacao.valida(valores), is(esperado));
+        assertThat(validacao.valida(Arrays.asList(valores)), is(esperado));
+        assertThat(validacao.contaValidos(valores), is(esperado.cardinality()));
+    }
+
+    @Test
+    public void consegueValidarRegistrosDeTamanhoFixo() {
+        final StringBuilder builder = new StringBuilder();
+        for (String valor : valores) {
+            builder.append(valor);
+            for (int i = valor.length(); i < 14; i++) {
+                builder.append(' ');
+            }
+        }
+        final byte[] registros = builder.toString().getBytes(Charset.forName("US-ASCII"));
+
+        final BitSet esperado = new BitSet();
+        ValidacaoEmLote.valida(Validador.CPF, registros, 14, 0, QUANTIDADE, esperado);
+
+        final ValidacaoParalela validacao = new ValidacaoParalela(Validador.CPF, pool);
+
+        assertThat(validacao.valida(registros, 14), is(esperado));
+        assertThat(validacao.contaValidos(registros, 14), is(esperado.cardinality()));
+    }
+
+    @Test
+    public void loteVazioNaoTemValidos() {
+        final ValidacaoParalela validacao = new ValidacaoParalela(Validador.CNPJ);
+
+        assertThat(validacao.valida(new String[0]).isEmpty(), is(true));
+        assertThat(validacao.contaValidos(new byte[0], 18), is(0));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void naoAceitaRegistrosIncompletos() {
+        new ValidacaoParalela(Validador.CPF, pool).valida(new byte[15], 14);
+    }
+}
@@ -0,0 +1,84 @@
+package br.com.concrete.canarinho.test;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+
+import br.com.concrete.canarinho.validator.Validador;
+import br.com.concrete.canarinho.validator.Validador.ResultadoParcial;
+import br.com.concrete.canarinho.validator.ValidadorBoleto;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.CoreMatchers.is;
+
+@RunWith(AndroidJUnit4.class)
+public class TesteValidadorBoletoIncremental {
+
+    private static final String[] BOLETOS = {
+            "23790.12301 60000.000053 25000.456704 9 64680000013580",
+            "00199.38414 90480.002550 84666.970219 4 64290000007726",
+            "848600000015 523301622010 506101307129 620012111220",
+            "836600000019 078800481000 998854924516 001265611135",
+            "23790.12301 60000.000054 25000.456704 9 64680000013580"
+    };
+
+    private final Validador incremental = ValidadorBoleto.incremental();
+
+    @Test
+    public void digitacaoTemMesmoResultadoQueValidacaoCompleta() {
+        for (String boleto : BOLETOS) {
+            // Digita caractere a caractere e depois apaga tudo
+            for (int i = 0; i <= boleto.length(); i++) {
+                confere(boleto.substring(0, i));
+            }
+            for (int i = boleto.length(); i >= 0; i--) {
+                confere(boleto.substring(0, i));
+            }
+        }
+    }
+
+    @Test
+    public void reconfereBlocoAlteradoNoMeioDoValor() {
+        final String valido = "23790123016000000005325000456704964680000013580";
+        confere(valido);
+
+        // Altera um dígito do primeiro bloco mantendo o tamanho
+        final String alterado = "23791123016000000005325000456704964680000013580";
+        final ResultadoParcial resultado = confere(alterado);
+        assertThat(resultado.getBloco(), is(1));
+
+        // Volta ao valor original
+        assertThat(confere(valido).isValido(), is(true));
+
+        // Troca o boleto inteiro por um tributo (tabela de blocos diferente)
+        assertThat(confere("848600000015523301622010506101307129620012111220").isValido(), is(true));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void naoAceitaLetras() {
+        incremental.ehValido("23790.1230a", new ResultadoParcial());
+    }
+
+    @Test
+    public void continuaFuncionandoAposValorInvalido() {
+        try {
+            incremental.ehValido("2379x", new ResultadoParcial());
+        } catch (IllegalArgumentException e) {
+            // Esperado
+        }
+
+        assertThat(confere(BOLETOS[0]).isValido(), is(true));
+    }
+
+    private ResultadoParcial confere(String valor) {
+        final ResultadoParcial esperado = Validador.BOLETO.ehValido(valor, new ResultadoParcial());
+        final ResultadoParcial obtido = incremental.ehValido(valor, new ResultadoParcial());
+
+        assertThat(valor, obtido.isValido(), is(esperado.isValido()));
+        assertThat(valor, obtido.isParcialmenteValido(), is(esperado.isParcialmenteValido()));
+        assertThat(valor, obtido.getCodigoDeErro(), is(esperado.getCodigoDeErro()));
+        assertThat(valor, obtido.getBloco(), is(esperado.getBloco()));
+        assertThat(valor, obtido.getPosicao(), is(esperado.getPosicao()));
+        return obtido;
+    }
+}
@@ -5,6 +5,7 @@ import org.junit.runner.RunWith;
 import androidx.test.ext.junit.runners.AndroidJUnit4;
 
 import br.com.concrete.canarinho.validator.Validador;
+import br.com.concrete.canarinho.validator.ValidadorCPFCNPJ;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.CoreMatchers.is;
@@ -58,6 +59,35 @@ public class TesteValidadores {
         assertThat(Validador.CNPJ.ehValido("77135031110104"), is(false));
     }
 
+    @Test
+    public void consegueValidarCPFOuCNPJ() {
+        final Validador cpfCnpj = ValidadorCPFCNPJ.getInstance();
+
+        assertThat(cpfCnpj.ehValido("545.586.262-66"), is(true));
+        assertThat(cpfCnpj.ehValido("54558626266"), is(true));
+        assertThat(cpfCnpj.ehValido("50713534000133"), is(true));
+
+        // Repetições, a sequência recusada pela Receita e quantidades que não são de CPF nem CNPJ
+        assertThat(cpfCnpj.ehValido("111.111.111-11"), is(false));
+        assertThat(cpfCnpj.ehValido("12345678909"), is(false));
+        assertThat(cpfCnpj.ehValido("5071353400013"), is(false));
+        assertThat(cpfCnpj.ehValido("545.586.262/66"), is(true));
+        assertThat(cpfCnpj.ehValido("5455862626612"), is(false));
+
+        final Validador.ResultadoParcial resultado = new Validador.ResultadoParcial();
+
+        cpfCnpj.ehValido("50.713.534/0001-3", resultado);
+        assertThat(resultado.isParcialmenteValido(), is(true));
+        assertThat(resultado.isValido(), is(false));
+
+        cpfCnpj.ehValido("50.713.534/0001-33", resultado);
+        assertThat(resultado.isValido(), is(true));
+
+        cpfCnpj.ehValido("50.713.534/0001-330", resultado);
+        assertThat(resultado.isParcialmenteValido(), is(false));
+        assertThat(resultado.getMensagem(), is("CNPJ inválido"));
+    }
+
     @Test
     public void consegueValidarBoletoNormal() {
 
@@ -0,0 +1,168 @@
+package br.com.concrete.canarinho.test.watcher;
+
+import android.app.Activity;
+import android.text.Editable;
+import android.text.InputFilter;
+import android.text.TextWatcher;
+import android.widget.EditText;
+
+import com.google.android.material.textfield.TextInputLayout;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import org.robolectric.android.controller.ActivityController;
+
+import br.com.concrete.canarinho.watcher.BaseCanarinhoTextWatcher;
+import br.com.concrete.canarinho.watcher.CPFCNPJTextWatcher;
+import br.com.concrete.canarinho.watcher.MascaraNumericaTextWatcher;
+import br.com.concrete.canarinho.watcher.TelefoneTextWatcher;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.robolectric.Robolectric.buildActivity;
+
+@RunWith(AndroidJUnit4.class)
+public class FormatacaoPorFiltroTest {
+
+    private Activity activity;
+    private EditText editText;
+    private int alteracoes;
+
+    @Before
+    public void setUp() {
+        final ActivityController<Activity> activityController = buildActivity(Activity.class);
+        activity = activityController.create().get();
+        activityController.start().resume().visible();
+
+        TextInputLayout textInputLayout;
+        activity.setContentView(textInputLayout = new TextInputLayout(activity));
+        textInputLayout.addView(editText = new EditText(activity));
+
+        final CPFCNPJTextWatcher watcher = new CPFCNPJTextWatcher();
+        editText.setFilters(new InputFilter[]{watcher.comoFiltro()});
+        editText.addTextChangedListener(watcher);
+        editText.addTextChangedListener(new TextWatcher() {
+            @Override
+            public void beforeTextChanged(CharSequence s, int start, int count, int after) {
+            }
+
+            @Override
+            public void onTextChanged(CharSequence s, int start, int before, int count) {
+                alteracoes++;
+            }
+
+            @Override
+            public void afterTextChanged(Editable s) {
+            }
+        });
+    }
+
+    @Test
+    public void typing_changesTheTextOncePerKey() {
+        for (char c : "12345678909".toCharArray()) {
+            editText.append(String.valueOf(c));
+        }
+
+        assertThat(editText.getText().toString(), is("123.456.789-09"));
+        assertThat(editText.getSelectionStart(), is(14));
+        assertThat(alteracoes, is(11));
+    }
+
+    @Test
+    public void typing_inAFullFieldIsIgnored() {
+        editText.append("12345678901234");
+        assertThat(editText.getText().toString(), is("12.345.678/9012-34"));
+
+        alteracoes = 0;
+        editText.append("5");
+        assertThat(editText.getText().toString(), is("12.345.678/9012-34"));
+        assertThat(alteracoes, is(0));
+    }
+
+    @Test
+    public void typing_inTheMiddleIsFormattedByTheWatcher() {
+        editText.append("1234567");
+
+        editText.setSelection(1);
+        editText.getText().insert(1, "9");
+        assertThat(editText.getText().toString(), is("192.345.67"));
+        assertThat(editText.getSelectionStart(), is(2));
+    }
+
+    @Test
+    public void deleting_aSeparatorAtTheCnpjBoundary_switchesToTheCpfMask() {
+        for (char c : "086392084318".toCharArray()) {
+            editText.append(String.valueOf(c));
+        }
+        assertThat(editText.getText().toString(), is("08.639.208/4318-"));
+
+        editText.getText().delete(15, 16);
+        assertThat(editText.getText().toString(), is("086.392.084-31"));
+        assertThat(editText.getSelectionStart(), is(14));
+
+        editText.append("8");
+        editText.getText().delete(10, 11);
+        assertThat(editText.getText().toString(), is("086.392.043-18"));
+        assertThat(editText.getSelectionStart(), is(9));
+    }
+
+    @Test
+    public void deleting_aSeparatorAtTheNineDigitBoundary_switchesToTheEightDigitMask() {
+        final EditText campo = new EditText(activity);
+        final TelefoneTextWatcher watcher = new TelefoneTextWatcher(null);
+        campo.setFilters(new InputFilter[]{watcher.comoFiltro()});
+        campo.addTextChangedListener(watcher);
+
+        for (char c : "28465665610".toCharArray()) {
+            campo.append(String.valueOf(c));
+        }
+        assertThat(campo.getText().toString(), is("(28) 46566-5610"));
+
+        campo.getText().delete(10, 11);
+        assertThat(campo.getText().toString(), is("(28) 4656-5610"));
+        assertThat(campo.getSelectionStart(), is(9));
+
+        campo.getText().insert(9, "6");
+        assertThat(campo.getText().toString(), is("(28) 46566-5610"));
+
+        campo.getText().delete(3, 4);
+        assertThat(campo.getText().toString(), is("(24) 6566-5610"));
+        assertThat(campo.getSelectionStart(), is(2));
+    }
+
+    @Test
+    public void typing_withAMaskLongerThan64Digits_keepsEveryDigit() {
+        final StringBuilder mascara = new StringBuilder();
+        final StringBuilder esperado = new StringBuilder();
+        for (int i = 0; i < 70; i++) {
+            if (i > 0 && i % 5 == 0) {
+                mascara.append('.');
+                esperado.append('.');
+            }
+            mascara.append('#');
+            esperado.append((char) ('0' + i % 10));
+        }
+
+        final EditText campo = new EditText(activity);
+        final MascaraNumericaTextWatcher watcher = new MascaraNumericaTextWatcher(mascara.toString());
+        campo.setFilters(new InputFilter[]{watcher.comoFiltro()});
+        campo.addTextChangedListener(watcher);
+
+        for (int i = 0; i < 70; i++) {
+            campo.append(String.valueOf((char) ('0' + i % 10)));
+        }
+
+        assertThat(campo.getText().toString(), is(esperado.toString()));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void comoFiltro_withoutAMask_throws() {
+        new BaseCanarinhoTextWatcher() {
+            @Override
+            public void afterTextChanged(Editable s) {
+            }
+        }.comoFiltro();
+    }
+}
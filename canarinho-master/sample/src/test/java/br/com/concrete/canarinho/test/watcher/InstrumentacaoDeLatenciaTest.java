@@ -0,0 +1,98 @@
+package br.com.concrete.canarinho.test.watcher;
+
+import android.app.Activity;
+import android.widget.EditText;
+
+import com.google.android.material.textfield.TextInputLayout;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import org.robolectric.android.controller.ActivityController;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import br.com.concrete.canarinho.HistogramaDeLatencia;
+import br.com.concrete.canarinho.validator.Validador;
+import br.com.concrete.canarinho.watcher.InstrumentacaoDeLatencia;
+import br.com.concrete.canarinho.watcher.MascaraNumericaTextWatcher;
+import br.com.concrete.canarinho.watcher.ValorMonetarioWatcher;
+import br.com.concrete.canarinho.watcher.evento.OuvinteDeLatencia;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.robolectric.Robolectric.buildActivity;
+
+@RunWith(AndroidJUnit4.class)
+public class InstrumentacaoDeLatenciaTest {
+
+    private final InstrumentacaoDeLatencia instrumentacao = new InstrumentacaoDeLatencia();
+
+    private EditText editText;
+
+    @Before
+    public void setUp() {
+        final ActivityController<Activity> activityController = buildActivity(Activity.class);
+        final Activity activity = activityController.create().get();
+        activityController.start().resume().visible();
+
+        TextInputLayout textInputLayout;
+        activity.setContentView(textInputLayout = new TextInputLayout(activity));
+        textInputLayout.addView(editText = new EditText(activity));
+    }
+
+    @Test
+    public void maskWatcher_recordsEveryStageOncePerKey() {
+        editText.addTextChangedListener(new MascaraNumericaTextWatcher.Builder()
+                .paraMascara("###.###.###-##")
+                .comValidador(Validador.CPF)
+                .comInstrumentacao(instrumentacao)
+                .build());
+
+        for (char c : "24845408333".toCharArray()) {
+            editText.append(String.valueOf(c));
+        }
+
+        final List<String> etapas = new ArrayList<>();
+        instrumentacao.exporta(new OuvinteDeLatencia() {
+            @Override
+            public void latencia(String etapa, HistogramaDeLatencia histograma) {
+                etapas.add(etapa + " " + histograma.getQuantidade());
+            }
+        });
+
+        assertThat(etapas.toString(), is("[mascara 11, validacao 11, substituicao 11]"));
+    }
+
+    @Test
+    public void moneyWatcher_recordsMaskAndReplacement() {
+        editText.addTextChangedListener(new ValorMonetarioWatcher.Builder()
+                .comInstrumentacao(instrumentacao)
+                .build());
+
+        editText.append("1");
+        editText.append("2");
+
+        assertThat(editText.getText().toString(), is("0,12"));
+        assertThat(instrumentacao.getMascara().getQuantidade(), is(2L));
+        assertThat(instrumentacao.getValidacao().getQuantidade(), is(0L));
+        assertThat(instrumentacao.getSubstituicao().getQuantidade(), is(2L));
+    }
+
+    @Test
+    public void withoutInstrumentation_nothingIsRecorded() {
+        final MascaraNumericaTextWatcher watcher = new MascaraNumericaTextWatcher.Builder()
+                .paraMascara("#####-###")
+                .comInstrumentacao(instrumentacao)
+                .build();
+        watcher.setInstrumentacao(null);
+        editText.addTextChangedListener(watcher);
+
+        editText.append("12345678");
+
+        assertThat(editText.getText().toString(), is("12345-678"));
+        assertThat(instrumentacao.getMascara().getQuantidade(), is(0L));
+    }
+}
@@ -0,0 +1,74 @@
+package br.com.concrete.canarinho.test.watcher;
+
+import android.app.Activity;
+import android.widget.EditText;
+
+import com.google.android.material.textfield.TextInputLayout;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import org.robolectric.android.controller.ActivityController;
+
+import br.com.concrete.canarinho.watcher.MascaraNumericaTextWatcher;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.robolectric.Robolectric.buildActivity;
+
+@RunWith(AndroidJUnit4.class)
+public class MascaraNumericaTextWatcherTest {
+
+    private EditText editText;
+
+    @Before
+    public void setUp() {
+        final ActivityController<Activity> activityController = buildActivity(Activity.class);
+        final Activity activity = activityController.create().get();
+        activityController.start().resume().visible();
+
+        TextInputLayout textInputLayout;
+        activity.setContentView(textInputLayout = new TextInputLayout(activity));
+        textInputLayout.addView(editText = new EditText(activity));
+        editText.addTextChangedListener(new MascaraNumericaTextWatcher("###.###.###-##"));
+    }
+
+    @Test
+    public void typing_keepsCursorAtTheEnd() {
+        editText.append("1234567");
+        assertThat(editText.getText().toString(), is("123.456.7"));
+        assertThat(editText.getSelectionStart(), is(9));
+
+        editText.getText().delete(8, 9);
+        assertThat(editText.getText().toString(), is("123.456."));
+        assertThat(editText.getSelectionStart(), is(8));
+
+        // Apagar o separador apaga também o dígito anterior
+        editText.getText().delete(7, 8);
+        assertThat(editText.getText().toString(), is("123.45"));
+        assertThat(editText.getSelectionStart(), is(6));
+    }
+
+    @Test
+    public void typing_inTheMiddleKeepsCursorWhereTheUserIsEditing() {
+        editText.append("1234567");
+
+        editText.getText().insert(1, "9");
+        assertThat(editText.getText().toString(), is("192.345.67"));
+        assertThat(editText.getSelectionStart(), is(2));
+
+        editText.getText().delete(2, 3);
+        assertThat(editText.getText().toString(), is("193.456.7"));
+        assertThat(editText.getSelectionStart(), is(2));
+    }
+
+    @Test
+    public void deleting_separatorInTheMiddleDeletesPreviousDigit() {
+        editText.append("1234567");
+
+        editText.getText().delete(3, 4);
+        assertThat(editText.getText().toString(), is("124.567."));
+        assertThat(editText.getSelectionStart(), is(2));
+    }
+}
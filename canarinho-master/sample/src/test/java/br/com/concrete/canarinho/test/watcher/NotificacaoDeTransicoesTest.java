@@ -0,0 +1,114 @@
+package br.com.concrete.canarinho.test.watcher;
+
+import android.app.Activity;
+import android.widget.EditText;
+
+import com.google.android.material.textfield.TextInputLayout;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import org.robolectric.android.controller.ActivityController;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import br.com.concrete.canarinho.validator.Validador;
+import br.com.concrete.canarinho.watcher.BoletoBancarioTextWatcher;
+import br.com.concrete.canarinho.watcher.MascaraNumericaTextWatcher;
+import br.com.concrete.canarinho.watcher.evento.EventoDeValidacaoDeBoleto;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.robolectric.Robolectric.buildActivity;
+
+@RunWith(AndroidJUnit4.class)
+public class NotificacaoDeTransicoesTest {
+
+    private final List<String> eventos = new ArrayList<>();
+
+    private final EventoDeValidacaoDeBoleto callback = new EventoDeValidacaoDeBoleto() {
+        @Override
+        public void invalido(String valorAtual, int bloco) {
+            eventos.add("bloco " + bloco);
+        }
+
+        @Override
+        public void invalido(String valorAtual, String mensagem) {
+            eventos.add("invalido " + valorAtual);
+        }
+
+        @Override
+        public void parcialmenteValido(String valorAtual) {
+            eventos.add("parcial " + valorAtual);
+        }
+
+        @Override
+        public void totalmenteValido(String valorAtual) {
+            eventos.add("valido " + valorAtual);
+        }
+    };
+
+    private EditText editText;
+
+    @Before
+    public void setUp() {
+        final ActivityController<Activity> activityController = buildActivity(Activity.class);
+        final Activity activity = activityController.create().get();
+        activityController.start().resume().visible();
+
+        TextInputLayout textInputLayout;
+        activity.setContentView(textInputLayout = new TextInputLayout(activity));
+        textInputLayout.addView(editText = new EditText(activity));
+    }
+
+    @Test
+    public void typing_notifiesOnlyWhenTheStateChanges() {
+        editText.addTextChangedListener(new MascaraNumericaTextWatcher.Builder()
+                .paraMascara("###.###.###-##")
+                .comValidador(Validador.CPF)
+                .comCallbackDeValidacao(callback)
+                .comNotificacaoApenasDeTransicoes()
+                .build());
+
+        for (char c : "24845408330".toCharArray()) {
+            editText.append(String.valueOf(c));
+        }
+        editText.getText().delete(editText.length() - 1, editText.length());
+        editText.append("3");
+
+        assertThat(eventos.toString(), is("[parcial 2, invalido 248.454.083-30, "
+                + "parcial 248.454.083-3, valido 248.454.083-33]"));
+    }
+
+    @Test
+    public void typing_withoutTransitionsModeNotifiesEveryChange() {
+        editText.addTextChangedListener(new MascaraNumericaTextWatcher.Builder()
+                .paraMascara("###.###.###-##")
+                .comValidador(Validador.CPF)
+                .comCallbackDeValidacao(callback)
+                .build());
+
+        editText.append("1");
+        editText.append("2");
+        assertThat(eventos.toString(), is("[parcial 1, parcial 12]"));
+    }
+
+    @Test
+    public void boleto_notifiesEachBlockErrorOnce() {
+        final BoletoBancarioTextWatcher watcher = new BoletoBancarioTextWatcher(callback);
+        watcher.setNotificaApenasTransicoes(true);
+        editText.addTextChangedListener(watcher);
+
+        for (char c : "237933812860000000000".toCharArray()) {
+            editText.append(String.valueOf(c));
+        }
+
+        assertThat(eventos.toString(), is("[parcial , invalido 23793.38128 60000.000000 , bloco 2]"));
+
+        editText.getText().clear();
+        editText.append("23");
+        assertThat(eventos.size(), is(4));
+    }
+}
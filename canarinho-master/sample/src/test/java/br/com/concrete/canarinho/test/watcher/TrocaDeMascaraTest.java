@@ -0,0 +1,95 @@
+package br.com.concrete.canarinho.test.watcher;
+
+import android.app.Activity;
+import android.text.TextWatcher;
+import android.widget.EditText;
+
+import com.google.android.material.textfield.TextInputLayout;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import org.robolectric.android.controller.ActivityController;
+
+import br.com.concrete.canarinho.watcher.CPFCNPJTextWatcher;
+import br.com.concrete.canarinho.watcher.TelefoneTextWatcher;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.robolectric.Robolectric.buildActivity;
+
+@RunWith(AndroidJUnit4.class)
+public class TrocaDeMascaraTest {
+
+    private Activity activity;
+
+    @Before
+    public void setUp() {
+        final ActivityController<Activity> activityController = buildActivity(Activity.class);
+        activity = activityController.create().get();
+        activityController.start().resume().visible();
+    }
+
+    @Test
+    public void deleting_phoneSeparatorAtTheNineDigitBoundary_switchesToTheEightDigitMask() {
+        final EditText telefone = campo(new TelefoneTextWatcher(null), "28465665610");
+        assertThat(telefone.getText().toString(), is("(28) 46566-5610"));
+
+        telefone.getText().delete(10, 11);
+        assertThat(telefone.getText().toString(), is("(28) 4656-5610"));
+        assertThat(telefone.getSelectionStart(), is(9));
+    }
+
+    @Test
+    public void deleting_phoneParenthesisOrSpaceAtTheNineDigitBoundary_switchesToTheEightDigitMask() {
+        final EditText parentese = campo(new TelefoneTextWatcher(null), "28465665610");
+        parentese.getText().delete(3, 4);
+        assertThat(parentese.getText().toString(), is("(24) 6566-5610"));
+        assertThat(parentese.getSelectionStart(), is(2));
+
+        final EditText espaco = campo(new TelefoneTextWatcher(null), "28465665610");
+        espaco.getText().delete(4, 5);
+        assertThat(espaco.getText().toString(), is("(24) 6566-5610"));
+        assertThat(espaco.getSelectionStart(), is(2));
+    }
+
+    @Test
+    public void deleting_cnpjSeparatorAtTheTwelveDigitBoundary_switchesToTheCpfMask() {
+        final EditText fim = campo(new CPFCNPJTextWatcher(null), "086392084318");
+        assertThat(fim.getText().toString(), is("08.639.208/4318-"));
+
+        fim.getText().delete(15, 16);
+        assertThat(fim.getText().toString(), is("086.392.084-31"));
+        assertThat(fim.getSelectionStart(), is(14));
+
+        final EditText barra = campo(new CPFCNPJTextWatcher(null), "086392084318");
+        barra.getText().delete(10, 11);
+        assertThat(barra.getText().toString(), is("086.392.043-18"));
+        assertThat(barra.getSelectionStart(), is(9));
+    }
+
+    @Test
+    public void deleting_separatorBelowTheBoundary_keepsTheMask() {
+        final EditText telefone = campo(new TelefoneTextWatcher(null), "2846566561");
+        telefone.getText().delete(9, 10);
+        assertThat(telefone.getText().toString(), is("(28) 4656-561"));
+
+        final EditText cpf = campo(new CPFCNPJTextWatcher(null), "08639208431");
+        cpf.getText().delete(11, 12);
+        assertThat(cpf.getText().toString(), is("086.392.083-1"));
+    }
+
+    private EditText campo(TextWatcher watcher, String digitos) {
+
+        final TextInputLayout textInputLayout = new TextInputLayout(activity);
+        final EditText editText = new EditText(activity);
+
+        activity.setContentView(textInputLayout);
+        textInputLayout.addView(editText);
+        editText.addTextChangedListener(watcher);
+        editText.append(digitos);
+
+        return editText;
+    }
+}
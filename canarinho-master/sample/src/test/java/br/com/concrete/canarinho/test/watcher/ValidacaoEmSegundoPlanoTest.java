@@ -0,0 +1,122 @@
+package br.com.concrete.canarinho.test.watcher;
+
+import android.app.Activity;
+import android.widget.EditText;
+
+import com.google.android.material.textfield.TextInputLayout;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import org.robolectric.android.controller.ActivityController;
+import org.robolectric.shadows.ShadowLooper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import br.com.concrete.canarinho.validator.Validador;
+import br.com.concrete.canarinho.watcher.MascaraNumericaTextWatcher;
+import br.com.concrete.canarinho.watcher.evento.EventoDeValidacao;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.robolectric.Robolectric.buildActivity;
+
+@RunWith(AndroidJUnit4.class)
+public class ValidacaoEmSegundoPlanoTest {
+
+    private final List<Runnable> validacoes = new ArrayList<>();
+    private final List<String> eventos = new ArrayList<>();
+
+    private EditText editText;
+
+    @Before
+    public void setUp() {
+        final ActivityController<Activity> activityController = buildActivity(Activity.class);
+        final Activity activity = activityController.create().get();
+        activityController.start().resume().visible();
+
+        TextInputLayout textInputLayout;
+        activity.setContentView(textInputLayout = new TextInputLayout(activity));
+        textInputLayout.addView(editText = new EditText(activity));
+
+        editText.addTextChangedListener(new MascaraNumericaTextWatcher.Builder()
+                .paraMascara("###.###.###-##")
+                .comValidador(Validador.CPF)
+                .comCallbackDeValidacao(new EventoDeValidacao() {
+                    @Override
+                    public void invalido(String valorAtual, String mensagem) {
+                        eventos.add("invalido " + valorAtual);
+                    }
+
+                    @Override
+                    public void parcialmenteValido(String valorAtual) {
+                        eventos.add("parcial " + valorAtual);
+                    }
+
+                    @Override
+                    public void totalmenteValido(String valorAtual) {
+                        eventos.add("valido " + valorAtual);
+                    }
+                })
+                .comValidacaoEmSegundoPlano(new Executor() {
+                    @Override
+                    public void execute(Runnable command) {
+                        validacoes.add(command);
+                    }
+                })
+                .build());
+    }
+
+    @Test
+    public void formatting_isSynchronousAndValidationIsDeferred() {
+        editText.append("1234");
+        assertThat(editText.getText().toString(), is("123.4"));
+        assertThat(eventos.isEmpty(), is(true));
+
+        executaValidacoes();
+        assertThat(eventos.toString(), is("[parcial 123.4]"));
+    }
+
+    @Test
+    public void staleValidations_areDropped() {
+        editText.append("1");
+        editText.append("2");
+        editText.append("3");
+        editText.getText().append("4567890");
+        editText.getText().append("0");
+
+        executaValidacoes();
+        assertThat(eventos.toString(), is("[invalido 123.456.789-00]"));
+
+        editText.getText().clear();
+        editText.append("24845408333");
+        executaValidacoes();
+        assertThat(eventos.toString(), is("[invalido 123.456.789-00, valido 248.454.083-33]"));
+    }
+
+    @Test
+    public void resultsPostedBeforeNewInput_areNotDelivered() {
+        editText.append("123");
+
+        // A validação de "123" termina, mas o resultado só chega à thread principal após a nova digitação
+        for (Runnable validacao : validacoes) {
+            validacao.run();
+        }
+        validacoes.clear();
+        editText.append("4");
+
+        executaValidacoes();
+        assertThat(eventos.toString(), is("[parcial 123.4]"));
+    }
+
+    private void executaValidacoes() {
+        for (Runnable validacao : validacoes) {
+            validacao.run();
+        }
+        validacoes.clear();
+        ShadowLooper.idleMainLooper();
+    }
+}
@@ -81,4 +81,29 @@ public class ValorMonetarioWatcherTest {
         editText.getText().append('1');
         assertThat(editText.getText().toString(), is("R$ 0,01"));
     }
+
+    @Test
+    public void watcher_canDeleteLastDigit() {
+        editText.addTextChangedListener(new ValorMonetarioWatcher());
+        editText.append("12345");
+        assertThat(editText.getText().toString(), is("123,45"));
+
+        editText.getText().delete(editText.length() - 1, editText.length());
+        assertThat(editText.getText().toString(), is("12,34"));
+    }
+
+    @Test
+    public void watcher_canEditInTheMiddle() {
+        editText.addTextChangedListener(new ValorMonetarioWatcher.Builder()
+                .comSimboloReal()
+                .build());
+        editText.append("12345");
+        assertThat(editText.getText().toString(), is("R$ 123,45"));
+
+        editText.getText().insert(3, "9");
+        assertThat(editText.getText().toString(), is("R$ 9.123,45"));
+
+        editText.getText().delete(3, 5);
+        assertThat(editText.getText().toString(), is("R$ 123,45"));
+    }
 }